@@ -0,0 +1,63 @@
+package br.com.fullcycle.application;
+
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Retries an action that lost an optimistic concurrency check. Between attempts it sleeps for a
+ * random delay up to an exponentially growing cap (full jitter), so competing writers spread out
+ * instead of colliding again in lockstep.
+ */
+public record RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay) {
+
+    public RetryPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        Objects.requireNonNull(baseDelay);
+        Objects.requireNonNull(maxDelay);
+    }
+
+    public static RetryPolicy with(final int maxAttempts, final Duration aBaseDelay, final Duration aMaxDelay) {
+        return new RetryPolicy(maxAttempts, aBaseDelay, aMaxDelay);
+    }
+
+    public static RetryPolicy defaults() {
+        return new RetryPolicy(5, Duration.ofMillis(5), Duration.ofMillis(100));
+    }
+
+    public static RetryPolicy none() {
+        return new RetryPolicy(1, Duration.ZERO, Duration.ZERO);
+    }
+
+    public <T> T execute(final Supplier<T> anAction) {
+        for (var attempt = 1; ; attempt++) {
+            try {
+                return anAction.get();
+            } catch (ConcurrencyException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    private void backoff(final int attempt, final ConcurrencyException aConflict) {
+        final var cap = Math.min(maxDelay.toNanos(), baseDelay.toNanos() << Math.min(attempt - 1, 30));
+        if (cap <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw aConflict;
+        }
+    }
+}
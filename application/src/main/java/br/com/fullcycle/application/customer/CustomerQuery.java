@@ -0,0 +1,23 @@
+package br.com.fullcycle.application.customer;
+
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+
+import java.util.Optional;
+
+/**
+ * Reads customers straight into the outputs of the use cases. Stored customers were validated when written,
+ * so a query doesn't need to rebuild the {@link br.com.fullcycle.domain.customer.Customer} aggregate.
+ */
+public interface CustomerQuery {
+
+    Optional<GetCustomerByIdUseCase.Output> customerOfId(CustomerId anId);
+
+    /**
+     * Reads through the aggregates of the repository.
+     */
+    static CustomerQuery from(final CustomerRepository customerRepository) {
+        return anId -> customerRepository.customerOfId(anId)
+                .map(GetCustomerByIdUseCase.Output::from);
+    }
+}
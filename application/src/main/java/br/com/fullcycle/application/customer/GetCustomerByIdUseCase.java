@@ -12,10 +12,14 @@ public class GetCustomerByIdUseCase
         extends UseCase<GetCustomerByIdUseCase.Input,
                         Optional<GetCustomerByIdUseCase.Output>> {
 
-    private final CustomerRepository customerRepository;
+    private final CustomerQuery customerQuery;
+
+    public GetCustomerByIdUseCase(final CustomerQuery customerQuery) {
+        this.customerQuery = Objects.requireNonNull(customerQuery);
+    }
 
     public GetCustomerByIdUseCase(final CustomerRepository customerRepository) {
-        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this(CustomerQuery.from(Objects.requireNonNull(customerRepository)));
     }
 
     public record Input(
@@ -44,7 +48,6 @@ public class GetCustomerByIdUseCase
 
     @Override
     public Optional<Output> execute(final Input input) {
-        return customerRepository.customerOfId(CustomerId.with(input.id()))
-                .map(Output::from);
+        return customerQuery.customerOfId(CustomerId.with(input.id()));
     }
 }
@@ -0,0 +1,206 @@
+package br.com.fullcycle.application.customer;
+
+import br.com.fullcycle.application.UseCase;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.person.Cpf;
+import br.com.fullcycle.domain.person.Email;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Creates the customers of a list, {@code batchSize} rows at a time: the rows of a batch are validated in
+ * parallel, checked for uniqueness with one lookup per column and created together. A row that can't be
+ * imported is skipped, without stopping the import, and counted; only the first {@code maxErrors} of them are
+ * reported, so a list failing row after row is not held in memory as errors either.
+ */
+public class ImportCustomersUseCase
+        extends UseCase<ImportCustomersUseCase.Input, ImportCustomersUseCase.Output> {
+
+    private static final int DEFAULT_MAX_ERRORS = 1000;
+
+    private final CustomerRepository customerRepository;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public ImportCustomersUseCase(final CustomerRepository customerRepository, final int batchSize) {
+        this(customerRepository, batchSize, DEFAULT_MAX_ERRORS);
+    }
+
+    public ImportCustomersUseCase(
+            final CustomerRepository customerRepository,
+            final int batchSize,
+            final int maxErrors) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("maxErrors must not be negative");
+        }
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * @param rows read as they are imported; {@code next} throws a {@link ValidationException} for a row that
+     *             can't be read, which is reported like the invalid ones
+     */
+    public record Input(Iterator<Row> rows) {
+
+        public static Input with(final Iterator<Row> rows) {
+            return new Input(rows);
+        }
+    }
+
+    public record Row(
+            String cpf,
+            String email,
+            String name
+    ) {
+        public static Row with(final String cpf, final String email, final String name) {
+            return new Row(cpf, email, name);
+        }
+    }
+
+    /**
+     * @param failed how many rows were not imported
+     * @param errors the first of them, in row order
+     */
+    public record Output(
+            long imported,
+            long failed,
+            List<Error> errors
+    ) {
+    }
+
+    /**
+     * @param row the 1-based position of the row in the list
+     */
+    public record Error(
+            long row,
+            String message
+    ) {
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var errors = new ArrayList<Error>();
+        final var batchErrors = new ArrayList<Error>();
+        final var batch = new ArrayList<Numbered<Row>>(batchSize);
+        var imported = 0L;
+        var failed = 0L;
+        var rowNumber = 0L;
+        while (input.rows().hasNext()) {
+            rowNumber++;
+            try {
+                batch.add(new Numbered<>(rowNumber, input.rows().next()));
+            } catch (ValidationException e) {
+                batchErrors.add(new Error(rowNumber, e.getMessage()));
+            }
+            if (batch.size() == batchSize) {
+                imported += importBatch(batch, batchErrors);
+                failed += report(batchErrors, errors);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += importBatch(batch, batchErrors);
+        }
+        failed += report(batchErrors, errors);
+        return new Output(imported, failed, errors);
+    }
+
+    /**
+     * Moves the errors of a batch to the report while it has room. The rows of a batch come after the rows of the
+     * batches before it, so the report stays in row order.
+     */
+    private int report(final List<Error> batchErrors, final List<Error> errors) {
+        final var failed = batchErrors.size();
+        batchErrors.sort(Comparator.comparingLong(Error::row));
+        for (final var anError : batchErrors) {
+            if (errors.size() == maxErrors) {
+                break;
+            }
+            errors.add(anError);
+        }
+        batchErrors.clear();
+        return failed;
+    }
+
+    private int importBatch(final List<Numbered<Row>> rows, final List<Error> errors) {
+        final var validated = rows.parallelStream()
+                .map(ImportCustomersUseCase::validate)
+                .toList();
+
+        final var candidates = new ArrayList<Numbered<Customer>>(validated.size());
+        final var cpfs = new HashSet<Cpf>();
+        final var emails = new HashSet<Email>();
+        for (final var aRow : validated) {
+            if (aRow.error() != null) {
+                errors.add(new Error(aRow.number(), aRow.error()));
+            } else if (cpfs.contains(aRow.value().cpf()) || emails.contains(aRow.value().email())) {
+                errors.add(new Error(aRow.number(), "Customer already exists"));
+            } else {
+                cpfs.add(aRow.value().cpf());
+                emails.add(aRow.value().email());
+                candidates.add(new Numbered<>(aRow.number(), aRow.value()));
+            }
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        final var cpfsTaken = customerRepository.cpfsTaken(cpfs);
+        final var emailsTaken = customerRepository.emailsTaken(emails);
+        final var customers = new ArrayList<Numbered<Customer>>(candidates.size());
+        for (final var aCandidate : candidates) {
+            if (cpfsTaken.contains(aCandidate.value().cpf()) || emailsTaken.contains(aCandidate.value().email())) {
+                errors.add(new Error(aCandidate.number(), "Customer already exists"));
+            } else {
+                customers.add(aCandidate);
+            }
+        }
+        if (customers.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            customerRepository.createAll(customers.stream().map(Numbered::value).toList());
+            return customers.size();
+        } catch (ValidationException e) {
+            // Taken in the meantime: create them one by one to tell which
+            var created = 0;
+            for (final var aCustomer : customers) {
+                try {
+                    customerRepository.create(aCustomer.value());
+                    created++;
+                } catch (ValidationException rowException) {
+                    errors.add(new Error(aCustomer.number(), rowException.getMessage()));
+                }
+            }
+            return created;
+        }
+    }
+
+    private static Validated validate(final Numbered<Row> aRow) {
+        try {
+            final var row = aRow.value();
+            return new Validated(aRow.number(), Customer.newCustomer(row.name(), row.cpf(), row.email()), null);
+        } catch (ValidationException e) {
+            return new Validated(aRow.number(), null, e.getMessage());
+        }
+    }
+
+    private record Numbered<T>(long number, T value) {
+    }
+
+    private record Validated(long number, Customer value, String error) {
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.domain.event.EventId;
+
+import java.util.Optional;
+
+/**
+ * Reads how many spots an event has left. The answer may trail the latest reservations by as much as the
+ * implementation allows.
+ */
+public interface EventAvailabilityQuery {
+
+    Optional<GetEventAvailabilityUseCase.Output> availabilityOf(EventId anEventId);
+}
@@ -0,0 +1,41 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.partner.PartnerId;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reads events straight into the outputs of the use cases, without loading their tickets.
+ */
+public interface EventQuery {
+
+    /**
+     * Up to {@code limit} events matching {@code aFilter}, ordered by date and then id, starting right after
+     * {@code after} when it is not null.
+     */
+    List<ListEventsUseCase.Item> events(Filter aFilter, Position after, int limit);
+
+    /**
+     * Null fields don't filter.
+     *
+     * @param available true for the events with spots left, false for the sold out ones
+     */
+    record Filter(
+            PartnerId partnerId,
+            LocalDate from,
+            LocalDate to,
+            Boolean available
+    ) {
+    }
+
+    /**
+     * The last event of a page, after which the next one starts.
+     */
+    record Position(
+            LocalDate date,
+            EventId id
+    ) {
+    }
+}
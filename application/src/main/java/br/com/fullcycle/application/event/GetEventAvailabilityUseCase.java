@@ -0,0 +1,43 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.application.UseCase;
+import br.com.fullcycle.domain.event.EventId;
+
+import java.util.Objects;
+import java.util.Optional;
+
+public class GetEventAvailabilityUseCase
+        extends UseCase<GetEventAvailabilityUseCase.Input, Optional<GetEventAvailabilityUseCase.Output>> {
+
+    private final EventAvailabilityQuery eventAvailabilityQuery;
+
+    public GetEventAvailabilityUseCase(final EventAvailabilityQuery eventAvailabilityQuery) {
+        this.eventAvailabilityQuery = Objects.requireNonNull(eventAvailabilityQuery);
+    }
+
+    public record Input(
+            String eventId
+    ) {
+
+        public static Input with(final String anEventId) {
+            return new Input(anEventId);
+        }
+    }
+
+    public record Output(
+            String eventId,
+            int totalSpots,
+            int reservedSpots,
+            int availableSpots
+    ) {
+
+        public static Output with(final String anEventId, final int aTotalSpots, final int aReservedSpots) {
+            return new Output(anEventId, aTotalSpots, aReservedSpots, Math.max(0, aTotalSpots - aReservedSpots));
+        }
+    }
+
+    @Override
+    public Optional<Output> execute(final Input input) {
+        return eventAvailabilityQuery.availabilityOf(EventId.with(input.eventId()));
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.application.UseCase;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.partner.PartnerId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Lists events a page at a time, ordered by date. Pages are reached by the cursor of the previous one rather
+ * than by an offset, so the database seeks straight to the first event of the page however deep it is.
+ */
+public class ListEventsUseCase
+        extends UseCase<ListEventsUseCase.Input, ListEventsUseCase.Output> {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final EventQuery eventQuery;
+
+    public ListEventsUseCase(final EventQuery eventQuery) {
+        this.eventQuery = Objects.requireNonNull(eventQuery);
+    }
+
+    /**
+     * Every field is optional.
+     *
+     * @param from  the first date, in ISO format
+     * @param to    the last date, in ISO format
+     * @param after the {@link Output#nextCursor()} of the previous page
+     */
+    public record Input(
+            String partnerId,
+            String from,
+            String to,
+            Boolean available,
+            String after,
+            Integer limit
+    ) {
+
+        public static Input with(
+                final String aPartnerId,
+                final String aFrom,
+                final String aTo,
+                final Boolean available,
+                final String after,
+                final Integer aLimit) {
+            return new Input(aPartnerId, aFrom, aTo, available, after, aLimit);
+        }
+    }
+
+    public record Item(
+            String id,
+            String date,
+            String name,
+            int totalSpots,
+            int availableSpots,
+            String partnerId
+    ) {
+    }
+
+    /**
+     * @param nextCursor null on the last page
+     */
+    public record Output(
+            List<Item> items,
+            String nextCursor
+    ) {
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var limit = input.limit() != null ? input.limit() : DEFAULT_LIMIT;
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("Invalid limit, must be between 1 and " + MAX_LIMIT);
+        }
+        final var filter = new EventQuery.Filter(
+                input.partnerId() != null ? PartnerId.with(input.partnerId()) : null,
+                date(input.from()),
+                date(input.to()),
+                input.available());
+
+        // One more than asked, to tell whether there is a next page
+        final var items = eventQuery.events(filter, position(input.after()), limit + 1);
+        if (items.size() <= limit) {
+            return new Output(items, null);
+        }
+        final var page = items.subList(0, limit);
+        return new Output(List.copyOf(page), cursor(page.get(limit - 1)));
+    }
+
+    private static LocalDate date(final String aDate) {
+        if (aDate == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(aDate);
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("Invalid date: " + aDate);
+        }
+    }
+
+    private static String cursor(final Item anItem) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((anItem.date() + "|" + anItem.id()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static EventQuery.Position position(final String aCursor) {
+        if (aCursor == null) {
+            return null;
+        }
+        try {
+            final var parts = new String(Base64.getUrlDecoder().decode(aCursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length == 2) {
+                return new EventQuery.Position(LocalDate.parse(parts[0]), EventId.with(parts[1]));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException | ValidationException e) {
+            // Reported below
+        }
+        throw new ValidationException("Invalid cursor");
+    }
+}
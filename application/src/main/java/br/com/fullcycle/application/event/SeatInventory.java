@@ -0,0 +1,33 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+
+/**
+ * Admits or rejects a reservation before it reaches the {@link br.com.fullcycle.domain.event.EventRepository}.
+ * The repository remains the final arbiter, so an admitted reservation may still be rejected there.
+ */
+public interface SeatInventory {
+
+    void reserve(EventId anEventId, CustomerId aCustomerId);
+
+    /**
+     * Tells that a reservation admitted by {@link #reserve} was saved by the repository.
+     */
+    default void confirm(EventId anEventId, CustomerId aCustomerId) {
+    }
+
+    void release(EventId anEventId, CustomerId aCustomerId);
+
+    static SeatInventory unbounded() {
+        return new SeatInventory() {
+            @Override
+            public void reserve(final EventId anEventId, final CustomerId aCustomerId) {
+            }
+
+            @Override
+            public void release(final EventId anEventId, final CustomerId aCustomerId) {
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.fullcycle.application.event;
 
+import br.com.fullcycle.application.RetryPolicy;
 import br.com.fullcycle.application.UseCase;
 import br.com.fullcycle.domain.customer.CustomerId;
 import br.com.fullcycle.domain.customer.CustomerRepository;
@@ -16,13 +17,34 @@ public class SubscribeCustomerToEventUseCase
 
     private final CustomerRepository customerRepository;
     private final EventRepository eventRepository;
+    private final SeatInventory seatInventory;
+    private final RetryPolicy retryPolicy;
 
     public SubscribeCustomerToEventUseCase(
             final CustomerRepository customerRepository,
             final EventRepository eventRepository
+    ) {
+        this(customerRepository, eventRepository, SeatInventory.unbounded());
+    }
+
+    public SubscribeCustomerToEventUseCase(
+            final CustomerRepository customerRepository,
+            final EventRepository eventRepository,
+            final SeatInventory seatInventory
+    ) {
+        this(customerRepository, eventRepository, seatInventory, RetryPolicy.defaults());
+    }
+
+    public SubscribeCustomerToEventUseCase(
+            final CustomerRepository customerRepository,
+            final EventRepository eventRepository,
+            final SeatInventory seatInventory,
+            final RetryPolicy retryPolicy
     ) {
         this.customerRepository = Objects.requireNonNull(customerRepository);
         this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.seatInventory = Objects.requireNonNull(seatInventory);
+        this.retryPolicy = Objects.requireNonNull(retryPolicy);
     }
 
     public record Input(
@@ -51,14 +73,29 @@ public class SubscribeCustomerToEventUseCase
 
     @Override
     public Output execute(final Input input) {
-        final var aCustomer = customerRepository.customerOfId(CustomerId.with(input.customerId()))
+        final var anEventId = EventId.with(input.eventId());
+        final var aCustomerId = CustomerId.with(input.customerId());
+
+        seatInventory.reserve(anEventId, aCustomerId);
+        final Output output;
+        try {
+            output = retryPolicy.execute(() -> subscribe(anEventId, aCustomerId));
+        } catch (RuntimeException e) {
+            seatInventory.release(anEventId, aCustomerId);
+            throw e;
+        }
+        seatInventory.confirm(anEventId, aCustomerId);
+        return output;
+    }
+
+    private Output subscribe(final EventId anEventId, final CustomerId aCustomerId) {
+        final var aCustomer = customerRepository.customerOfId(aCustomerId)
                 .orElseThrow(() -> new ValidationException("Customer not found"));
 
-        final var anEvent = eventRepository.eventOfId(EventId.with(input.eventId()))
+        final var anEvent = eventRepository.eventOfIdWithoutTickets(anEventId)
                 .orElseThrow(() -> new ValidationException("Event not found"));
 
-        final var aCustomerId = aCustomer.customerId();
-        final EventTicket aTicket = anEvent.reserveTicket(aCustomerId);
+        final EventTicket aTicket = anEvent.reserveTicket(aCustomer.customerId());
 
         eventRepository.update(anEvent);
 
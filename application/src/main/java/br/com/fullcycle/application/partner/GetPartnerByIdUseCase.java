@@ -11,10 +11,14 @@ import java.util.Optional;
 public class GetPartnerByIdUseCase
         extends UseCase<GetPartnerByIdUseCase.Input, Optional<GetPartnerByIdUseCase.Output>> {
 
-    private final PartnerRepository partnerRepository;
+    private final PartnerQuery partnerQuery;
+
+    public GetPartnerByIdUseCase(final PartnerQuery partnerQuery) {
+        this.partnerQuery = Objects.requireNonNull(partnerQuery);
+    }
 
     public GetPartnerByIdUseCase(final PartnerRepository partnerRepository) {
-        this.partnerRepository = Objects.requireNonNull(partnerRepository);
+        this(PartnerQuery.from(Objects.requireNonNull(partnerRepository)));
     }
 
     public record Input(
@@ -45,7 +49,6 @@ public class GetPartnerByIdUseCase
 
     @Override
     public Optional<Output> execute(final Input input) {
-        return partnerRepository.partnerOfId(PartnerId.with(input.id()))
-                .map(Output::from);
+        return partnerQuery.partnerOfId(PartnerId.with(input.id()));
     }
 }
@@ -0,0 +1,23 @@
+package br.com.fullcycle.application.partner;
+
+import br.com.fullcycle.domain.partner.PartnerId;
+import br.com.fullcycle.domain.partner.PartnerRepository;
+
+import java.util.Optional;
+
+/**
+ * Reads partners straight into the outputs of the use cases. Stored partners were validated when written,
+ * so a query doesn't need to rebuild the {@link br.com.fullcycle.domain.partner.Partner} aggregate.
+ */
+public interface PartnerQuery {
+
+    Optional<GetPartnerByIdUseCase.Output> partnerOfId(PartnerId anId);
+
+    /**
+     * Reads through the aggregates of the repository.
+     */
+    static PartnerQuery from(final PartnerRepository partnerRepository) {
+        return anId -> partnerRepository.partnerOfId(anId)
+                .map(GetPartnerByIdUseCase.Output::from);
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.fullcycle.application.ticket;
+
+import br.com.fullcycle.application.UseCase;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+
+import java.util.Objects;
+
+public class ConfirmTicketPaymentUseCase
+        extends UseCase<ConfirmTicketPaymentUseCase.Input, ConfirmTicketPaymentUseCase.Output> {
+
+    private final TicketRepository ticketRepository;
+
+    public ConfirmTicketPaymentUseCase(final TicketRepository ticketRepository) {
+        this.ticketRepository = Objects.requireNonNull(ticketRepository);
+    }
+
+    public record Input(
+            String ticketId
+    ) {
+
+        public static Input with(final String aTicketId) {
+            return new Input(aTicketId);
+        }
+    }
+
+    public record Output(
+            String ticketId,
+            String status
+    ) {}
+
+    @Override
+    public Output execute(final Input input) {
+        final var aTicket = this.ticketRepository.ticketOfId(TicketId.with(input.ticketId()))
+                .orElseThrow(() -> new ValidationException("Ticket not found"));
+        final var aPreviousStatus = aTicket.status();
+        aTicket.confirmPayment();
+        try {
+            this.ticketRepository.update(aTicket, aPreviousStatus);
+        } catch (ConcurrencyException e) {
+            // expired or confirmed since it was read: a retry could not confirm it either
+            final var aCurrentTicket = this.ticketRepository.ticketOfId(aTicket.ticketId())
+                    .orElseThrow(() -> new ValidationException("Ticket not found"));
+            if (!aCurrentTicket.status().canMoveTo(TicketStatus.PROCESSING)) {
+                throw new ValidationException("Ticket can no longer be confirmed", e);
+            }
+            throw e;
+        }
+        return new Output(aTicket.ticketId().value(), aTicket.status().name());
+    }
+}
@@ -6,9 +6,14 @@ import br.com.fullcycle.domain.event.EventId;
 import br.com.fullcycle.domain.event.EventTicketId;
 import br.com.fullcycle.domain.event.ticket.Ticket;
 import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.exceptions.ValidationException;
 
 import java.util.Objects;
 
+/**
+ * Issues the ticket of a reservation. Reservations are delivered at least once, so a reservation delivered
+ * again gets the ticket already issued for it instead of a new one.
+ */
 public class CreateTicketForCustomerUseCase
         extends UseCase<CreateTicketForCustomerUseCase.Input, CreateTicketForCustomerUseCase.Output> {
 
@@ -30,11 +35,22 @@ public class CreateTicketForCustomerUseCase
 
     @Override
     public Output execute(final Input input) {
+        final var anEventTicketId = EventTicketId.with(input.eventTicketId);
+        final var issued = this.ticketRepository.ticketIdOfEventTicketId(anEventTicketId);
+        if (issued.isPresent()) {
+            return new Output(issued.get().value());
+        }
         final var aTicket = Ticket.newTicket(
-                EventTicketId.with(input.eventTicketId),
+                anEventTicketId,
                 CustomerId.with(input.customerId),
                 EventId.with(input.eventId));
-        this.ticketRepository.create(aTicket);
+        try {
+            this.ticketRepository.create(aTicket);
+        } catch (ValidationException e) {
+            return this.ticketRepository.ticketIdOfEventTicketId(anEventTicketId)
+                    .map(it -> new Output(it.value()))
+                    .orElseThrow(() -> e);
+        }
         return new Output(aTicket.ticketId().value());
     }
 }
@@ -0,0 +1,58 @@
+package br.com.fullcycle.application.ticket;
+
+import br.com.fullcycle.application.NullaryUseCase;
+import br.com.fullcycle.application.event.SeatInventory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Expires every reservation left unpaid for longer than {@code ttl}, {@code batchSize} reservations at a
+ * time, and gives their seats back to the {@link SeatInventory}.
+ */
+public class ExpireReservationsUseCase extends NullaryUseCase<ExpireReservationsUseCase.Output> {
+
+    private final ReservationExpiry reservationExpiry;
+    private final SeatInventory seatInventory;
+    private final Duration ttl;
+    private final int batchSize;
+
+    public ExpireReservationsUseCase(
+            final ReservationExpiry reservationExpiry,
+            final SeatInventory seatInventory,
+            final Duration ttl,
+            final int batchSize) {
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be negative");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        this.reservationExpiry = Objects.requireNonNull(reservationExpiry);
+        this.seatInventory = Objects.requireNonNull(seatInventory);
+        this.ttl = ttl;
+        this.batchSize = batchSize;
+    }
+
+    public record Output(
+            long expired,
+            int batches
+    ) {}
+
+    @Override
+    public Output execute() {
+        final var cutoff = Instant.now().minus(ttl);
+        long expired = 0;
+        int batches = 0;
+        int batch;
+        do {
+            final var tickets = this.reservationExpiry.expireReservedBefore(cutoff, batchSize);
+            tickets.forEach(it -> this.seatInventory.release(it.eventId(), it.customerId()));
+            batch = tickets.size();
+            expired += batch;
+            batches++;
+        } while (batch == batchSize);
+        return new Output(expired, batches);
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.fullcycle.application.ticket;
+
+import br.com.fullcycle.domain.event.ticket.Ticket;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Expires the reservations left unpaid: their tickets, {@code PENDING} since before a cutoff, become
+ * {@code EXPIRED} and their seats are given back to their events, all at once or not at all.
+ */
+public interface ReservationExpiry {
+
+    /**
+     * Expires up to {@code aLimit} reservations made before {@code aCutoff}.
+     *
+     * @return the tickets expired
+     */
+    List<Ticket> expireReservedBefore(Instant aCutoff, int aLimit);
+}
@@ -0,0 +1,44 @@
+package br.com.fullcycle.application.ticket;
+
+import br.com.fullcycle.application.NullaryUseCase;
+import br.com.fullcycle.domain.event.ticket.TicketRepository;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Settles every ticket whose payment is {@code PROCESSING}, {@code batchSize} tickets per statement. The
+ * tickets settled by a run share the same {@code paidAt}.
+ */
+public class SettleTicketPaymentsUseCase extends NullaryUseCase<SettleTicketPaymentsUseCase.Output> {
+
+    private final TicketRepository ticketRepository;
+    private final int batchSize;
+
+    public SettleTicketPaymentsUseCase(final TicketRepository ticketRepository, final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        this.ticketRepository = Objects.requireNonNull(ticketRepository);
+        this.batchSize = batchSize;
+    }
+
+    public record Output(
+            long settled,
+            int batches
+    ) {}
+
+    @Override
+    public Output execute() {
+        final var paidAt = Instant.now();
+        long settled = 0;
+        int batches = 0;
+        int batch;
+        do {
+            batch = this.ticketRepository.settleProcessing(paidAt, batchSize);
+            settled += batch;
+            batches++;
+        } while (batch == batchSize);
+        return new Output(settled, batches);
+    }
+}
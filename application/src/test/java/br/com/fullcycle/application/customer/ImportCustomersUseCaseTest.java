@@ -0,0 +1,120 @@
+package br.com.fullcycle.application.customer;
+
+import br.com.fullcycle.application.repository.InMemoryCustomerRepository;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.person.Cpf;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportCustomersUseCaseTest {
+
+    @Test
+    @DisplayName("Deve importar os clientes de uma lista em lotes")
+    public void testImportCustomers() throws Exception {
+        // Given
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var useCase = new ImportCustomersUseCase(customerRepository, 2);
+
+        final var rows = List.of(
+                ImportCustomersUseCase.Row.with("926.400.290-10", "john.doe@gmail.com", "John Doe"),
+                ImportCustomersUseCase.Row.with("774.839.010-04", "jane.doe@gmail.com", "Jane Doe"),
+                ImportCustomersUseCase.Row.with("946.769.990-70", "jack.doe@gmail.com", "Jack Doe"));
+
+        // When
+        final var actualOutput = useCase.execute(ImportCustomersUseCase.Input.with(rows.iterator()));
+
+        // Then
+        assertEquals(3, actualOutput.imported());
+        assertTrue(actualOutput.errors().isEmpty());
+        assertTrue(customerRepository.customerOfCpf(new Cpf("946.769.990-70")).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve relatar as linhas inválidas, duplicadas ou ilegíveis e importar as demais")
+    public void testImportReportsRowErrors() throws Exception {
+        // Given
+        final var customerRepository = new InMemoryCustomerRepository();
+        customerRepository.create(Customer.newCustomer("John Doe", "926.400.290-10", "john.doe@gmail.com"));
+        final var useCase = new ImportCustomersUseCase(customerRepository, 2);
+
+        final var rows = List.of(
+                ImportCustomersUseCase.Row.with("926.400.290-10", "johnny.doe@gmail.com", "Johnny Doe"),
+                ImportCustomersUseCase.Row.with("774.839.01004", "jane.doe@gmail.com", "Jane Doe"),
+                ImportCustomersUseCase.Row.with("946.769.990-70", "jack.doe@gmail.com", "Jack Doe"),
+                ImportCustomersUseCase.Row.with("660.884.290-20", "jack.doe@gmail.com", "Jack Smith"));
+
+        final var expectedErrors = List.of(
+                new ImportCustomersUseCase.Error(1, "Customer already exists"),
+                new ImportCustomersUseCase.Error(2, "Invalid value for Cpf"),
+                new ImportCustomersUseCase.Error(4, "Customer already exists"),
+                new ImportCustomersUseCase.Error(5, "Malformed row"));
+
+        // When
+        final var actualOutput = useCase.execute(ImportCustomersUseCase.Input.with(
+                withUnreadableLastRow(rows.iterator())));
+
+        // Then
+        assertEquals(1, actualOutput.imported());
+        assertEquals(expectedErrors, actualOutput.errors());
+    }
+
+    @Test
+    @DisplayName("Deve relatar apenas os primeiros erros e contar todas as linhas não importadas")
+    public void testImportCapsReportedErrors() throws Exception {
+        // Given
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var useCase = new ImportCustomersUseCase(customerRepository, 2, 3);
+
+        final var rows = List.of(
+                ImportCustomersUseCase.Row.with("774.839.01004", "john.doe@gmail.com", "John Doe"),
+                ImportCustomersUseCase.Row.with("774.839.01004", "jane.doe@gmail.com", "Jane Doe"),
+                ImportCustomersUseCase.Row.with("946.769.990-70", "jack.doe@gmail.com", "Jack Doe"),
+                ImportCustomersUseCase.Row.with("774.839.01004", "jill.doe@gmail.com", "Jill Doe"),
+                ImportCustomersUseCase.Row.with("774.839.01004", "joan.doe@gmail.com", "Joan Doe"));
+
+        final var expectedErrors = List.of(
+                new ImportCustomersUseCase.Error(1, "Invalid value for Cpf"),
+                new ImportCustomersUseCase.Error(2, "Invalid value for Cpf"),
+                new ImportCustomersUseCase.Error(4, "Invalid value for Cpf"));
+
+        // When
+        final var actualOutput = useCase.execute(ImportCustomersUseCase.Input.with(rows.iterator()));
+
+        // Then
+        assertEquals(1, actualOutput.imported());
+        assertEquals(4, actualOutput.failed());
+        assertEquals(expectedErrors, actualOutput.errors());
+    }
+
+    private static Iterator<ImportCustomersUseCase.Row> withUnreadableLastRow(
+            final Iterator<ImportCustomersUseCase.Row> rows) {
+        return new Iterator<>() {
+
+            private boolean unreadableRowRead;
+
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext() || !unreadableRowRead;
+            }
+
+            @Override
+            public ImportCustomersUseCase.Row next() {
+                if (rows.hasNext()) {
+                    return rows.next();
+                }
+                if (unreadableRowRead) {
+                    throw new NoSuchElementException();
+                }
+                unreadableRowRead = true;
+                throw new ValidationException("Malformed row");
+            }
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListEventsUseCaseTest {
+
+    @Test
+    @DisplayName("Deve percorrer os eventos página a página pelo cursor")
+    public void testListEventsPageByPage() throws Exception {
+        // Given
+        final var events = IntStream.range(0, 5)
+                .mapToObj(i -> new ListEventsUseCase.Item(UUID.randomUUID().toString(),
+                        LocalDate.of(2024, 1, 1 + i / 2).toString(), "Event " + i, 10, 10, null))
+                .sorted(Comparator.comparing(ListEventsUseCase.Item::date).thenComparing(ListEventsUseCase.Item::id))
+                .toList();
+
+        final var useCase = new ListEventsUseCase((aFilter, after, limit) -> events.stream()
+                .filter(anItem -> after == null
+                        || anItem.date().compareTo(after.date().toString()) > 0
+                        || anItem.date().equals(after.date().toString()) && anItem.id().compareTo(after.id().value()) > 0)
+                .limit(limit)
+                .toList());
+
+        // When
+        final var actualItems = new ArrayList<ListEventsUseCase.Item>();
+        var pages = 0;
+        String cursor = null;
+        do {
+            final var actualOutput = useCase.execute(ListEventsUseCase.Input.with(null, null, null, null, cursor, 2));
+            actualItems.addAll(actualOutput.items());
+            cursor = actualOutput.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertEquals(3, pages);
+        assertEquals(events, actualItems);
+    }
+
+    @Test
+    @DisplayName("Não deve listar eventos com um cursor ou limite inválido")
+    public void testListEventsWithInvalidCursorOrLimit() throws Exception {
+        // Given
+        final var useCase = new ListEventsUseCase((aFilter, after, limit) -> List.of());
+
+        // When
+        final var invalidCursor = assertThrows(ValidationException.class,
+                () -> useCase.execute(ListEventsUseCase.Input.with(null, null, null, null, "not-a-cursor", null)));
+        final var invalidLimit = assertThrows(ValidationException.class,
+                () -> useCase.execute(ListEventsUseCase.Input.with(null, null, null, null, null, 101)));
+
+        // Then
+        assertEquals("Invalid cursor", invalidCursor.getMessage());
+        assertEquals("Invalid limit, must be between 1 and 100", invalidLimit.getMessage());
+    }
+}
@@ -1,17 +1,26 @@
 package br.com.fullcycle.application.event;
 
+import br.com.fullcycle.application.RetryPolicy;
 import br.com.fullcycle.application.repository.InMemoryCustomerRepository;
 import br.com.fullcycle.application.repository.InMemoryEventRepository;
 import br.com.fullcycle.domain.customer.Customer;
 import br.com.fullcycle.domain.customer.CustomerId;
 import br.com.fullcycle.domain.event.Event;
 import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 import br.com.fullcycle.domain.partner.Partner;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class SubscribeCustomerToEventUseCaseTest {
@@ -188,7 +197,7 @@ class SubscribeCustomerToEventUseCaseTest {
 
         final var input = SubscribeCustomerToEventUseCase.Input.with(anEventId, aCustomerId);
 
-        final var expectedErrorMessage = "Email already registered";
+        final var expectedErrorMessage = "Customer already subscribed to this event";
 
         // When
         Executable invalidMethodCall = () -> useCase.execute(input);
@@ -254,4 +263,229 @@ class SubscribeCustomerToEventUseCaseTest {
         assertNotNull(actualException);
         assertEquals(expectedErrorMessage, actualException.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Não deve consultar os repositórios quando o inventário rejeita a reserva")
+    public void testReserveTicketRejectedBySeatInventory() throws Exception {
+        // Given
+        final var aCustomerId = CustomerId.unique().value();
+        final var anEventId = EventId.unique().value();
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var seatInventory = new SeatInventory() {
+            @Override
+            public void reserve(EventId anEventId, CustomerId aCustomerId) {
+                throw new ValidationException("Event sold out");
+            }
+
+            @Override
+            public void release(EventId anEventId, CustomerId aCustomerId) {
+                fail("Should not release a rejected reservation");
+            }
+        };
+
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository, eventRepository, seatInventory);
+
+        final var input = SubscribeCustomerToEventUseCase.Input.with(anEventId, aCustomerId);
+
+        final var expectedErrorMessage = "Event sold out";
+
+        // When
+        Executable invalidMethodCall = () -> useCase.execute(input);
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class, invalidMethodCall);
+        assertNotNull(actualException);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve confirmar o lugar no inventário quando a reserva é salva")
+    public void testReserveTicketConfirmsSeatInventory() throws Exception {
+        // Given
+        final var aPartner = Partner.newPartner("John Doe", "90.113.692/0001-77", "john.doe@gmail.com");
+        final var aCustomer = Customer.newCustomer("Sidarta Silva", "729.031.900-11", "sidarta.silva@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+        final var confirmations = new ArrayList<CustomerId>();
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var seatInventory = new SeatInventory() {
+            @Override
+            public void reserve(EventId anEventId, CustomerId aCustomerId) {
+            }
+
+            @Override
+            public void confirm(EventId anEventId, CustomerId aCustomerId) {
+                confirmations.add(aCustomerId);
+            }
+
+            @Override
+            public void release(EventId anEventId, CustomerId aCustomerId) {
+                fail("Should not release a saved reservation");
+            }
+        };
+
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository, eventRepository, seatInventory);
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        final var input = SubscribeCustomerToEventUseCase.Input
+                .with(anEvent.eventId().value(), aCustomer.customerId().value());
+
+        // When
+        useCase.execute(input);
+
+        // Then
+        assertEquals(List.of(aCustomer.customerId()), confirmations);
+    }
+
+    @Test
+    @DisplayName("Deve liberar o lugar no inventário quando a reserva falha")
+    public void testReserveTicketReleasesSeatInventoryOnFailure() throws Exception {
+        // Given
+        final var aCustomerId = CustomerId.unique();
+        final var anEventId = EventId.unique();
+        final var releases = new ArrayList<CustomerId>();
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var seatInventory = new SeatInventory() {
+            @Override
+            public void reserve(EventId anEventId, CustomerId aCustomerId) {
+            }
+
+            @Override
+            public void release(EventId anEventId, CustomerId aCustomerId) {
+                releases.add(aCustomerId);
+            }
+        };
+
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository, eventRepository, seatInventory);
+
+        final var input = SubscribeCustomerToEventUseCase.Input.with(anEventId.value(), aCustomerId.value());
+
+        // When
+        Executable invalidMethodCall = () -> useCase.execute(input);
+
+        // Then
+        assertThrows(ValidationException.class, invalidMethodCall);
+        assertEquals(List.of(aCustomerId), releases);
+    }
+
+    @Test
+    @DisplayName("Deve repetir a reserva quando o evento foi alterado concorrentemente")
+    public void testReserveTicketRetriesOnConcurrentUpdate() throws Exception {
+        // Given
+        final var expectedAttempts = 3;
+
+        final var aPartner = Partner.newPartner("John Doe", "90.113.692/0001-77", "john.doe@gmail.com");
+        final var aCustomer = Customer.newCustomer("Sidarta Silva", "729.031.900-11", "sidarta.silva@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var attempts = new AtomicInteger();
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository() {
+            @Override
+            public Optional<Event> eventOfIdWithoutTickets(final EventId anId) {
+                return Optional.of(Event.with(
+                        anId, "Disney on Ice", "2021-01-01", 10, aPartner.partnerId(), 0, 0L, new HashSet<>()));
+            }
+
+            @Override
+            public Event update(final Event event) {
+                if (attempts.incrementAndGet() < expectedAttempts) {
+                    throw new ConcurrencyException("Event was modified concurrently");
+                }
+                return super.update(event);
+            }
+        };
+
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                SeatInventory.unbounded(),
+                RetryPolicy.with(expectedAttempts, Duration.ofMillis(1), Duration.ofMillis(2)));
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        final var input = SubscribeCustomerToEventUseCase.Input
+                .with(anEvent.eventId().value(), aCustomer.customerId().value());
+
+        // When
+        final var output = useCase.execute(input);
+
+        // Then
+        assertEquals(anEvent.eventId().value(), output.eventId());
+        assertNotNull(output.eventTicketId());
+        assertEquals(expectedAttempts, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Deve desistir da reserva e liberar o inventário após esgotar as tentativas")
+    public void testReserveTicketGivesUpAfterMaxAttempts() throws Exception {
+        // Given
+        final var expectedAttempts = 2;
+        final var expectedErrorMessage = "Event was modified concurrently";
+
+        final var aPartner = Partner.newPartner("John Doe", "90.113.692/0001-77", "john.doe@gmail.com");
+        final var aCustomer = Customer.newCustomer("Sidarta Silva", "729.031.900-11", "sidarta.silva@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var attempts = new AtomicInteger();
+        final var releases = new ArrayList<CustomerId>();
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository() {
+            @Override
+            public Optional<Event> eventOfIdWithoutTickets(final EventId anId) {
+                return Optional.of(Event.with(
+                        anId, "Disney on Ice", "2021-01-01", 10, aPartner.partnerId(), 0, 0L, new HashSet<>()));
+            }
+
+            @Override
+            public Event update(final Event event) {
+                attempts.incrementAndGet();
+                throw new ConcurrencyException(expectedErrorMessage);
+            }
+        };
+        final var seatInventory = new SeatInventory() {
+            @Override
+            public void reserve(EventId anEventId, CustomerId aCustomerId) {
+            }
+
+            @Override
+            public void release(EventId anEventId, CustomerId aCustomerId) {
+                releases.add(aCustomerId);
+            }
+        };
+
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                seatInventory,
+                RetryPolicy.with(expectedAttempts, Duration.ZERO, Duration.ZERO));
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        final var input = SubscribeCustomerToEventUseCase.Input
+                .with(anEvent.eventId().value(), aCustomer.customerId().value());
+
+        // When
+        Executable invalidMethodCall = () -> useCase.execute(input);
+
+        // Then
+        final var actualException = assertThrows(ConcurrencyException.class, invalidMethodCall);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals(expectedAttempts, attempts.get());
+        assertEquals(List.of(aCustomer.customerId()), releases);
+    }
+}
@@ -22,6 +22,11 @@ public class InMemoryEventRepository implements EventRepository {
         return Optional.ofNullable(this.events.get(Objects.requireNonNull(anId).value()));
     }
 
+    @Override
+    public Optional<Event> eventOfIdWithoutTickets(EventId anId) {
+        return eventOfId(anId);
+    }
+
     @Override
     public Event create(final Event event) {
         this.events.put(event.eventId().value().toString(), event);
@@ -1,9 +1,14 @@
 package br.com.fullcycle.application.repository;
 
+import br.com.fullcycle.domain.event.EventTicketId;
 import br.com.fullcycle.domain.event.ticket.Ticket;
 import br.com.fullcycle.domain.event.ticket.TicketId;
 import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.exceptions.ValidationException;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -19,23 +24,56 @@ public class InMemoryTicketRepository implements TicketRepository {
 
     @Override
     public Optional<Ticket> ticketOfId(TicketId anId) {
-        return Optional.ofNullable(this.tickets.get(Objects.requireNonNull(anId).value()));
+        return Optional.ofNullable(this.tickets.get(Objects.requireNonNull(anId).value())).map(this::copy);
+    }
+
+    @Override
+    public Optional<TicketId> ticketIdOfEventTicketId(final EventTicketId anEventTicketId) {
+        return this.tickets.values().stream()
+                .filter(it -> Objects.equals(it.eventTicketId(), Objects.requireNonNull(anEventTicketId)))
+                .map(Ticket::ticketId)
+                .findFirst();
     }
 
     @Override
     public Ticket create(final Ticket ticket) {
-        this.tickets.put(ticket.ticketId().value().toString(), ticket);
+        if (ticket.eventTicketId() != null && ticketIdOfEventTicketId(ticket.eventTicketId()).isPresent()) {
+            throw new ValidationException("Ticket already exists");
+        }
+        this.tickets.put(ticket.ticketId().value().toString(), copy(ticket));
         return ticket;
     }
 
     @Override
-    public Ticket update(final Ticket ticket) {
-        this.tickets.put(ticket.ticketId().value().toString(), ticket);
+    public Ticket update(final Ticket ticket, final TicketStatus aPreviousStatus) {
+        final var stored = this.tickets.get(ticket.ticketId().value());
+        if (stored == null || stored.status() != aPreviousStatus) {
+            throw new ConcurrencyException("Ticket was modified concurrently");
+        }
+        this.tickets.put(ticket.ticketId().value(), copy(ticket));
         return ticket;
     }
 
+    @Override
+    public int settleProcessing(final Instant aPaidAt, final int aLimit) {
+        final var processing = this.tickets.values().stream()
+                .filter(it -> it.status() == TicketStatus.PROCESSING)
+                .limit(aLimit)
+                .toList();
+        processing.forEach(it -> it.settle(aPaidAt));
+        return processing.size();
+    }
+
     @Override
     public void deleteAll() {
         this.tickets.clear();
     }
+
+    /**
+     * Keeps the stored tickets apart from the ones handed out, as a database would.
+     */
+    private Ticket copy(final Ticket aTicket) {
+        return Ticket.with(aTicket.ticketId(), aTicket.eventTicketId(), aTicket.customerId(), aTicket.eventId(),
+                aTicket.status(), aTicket.paidAt(), aTicket.reservedAt());
+    }
 }
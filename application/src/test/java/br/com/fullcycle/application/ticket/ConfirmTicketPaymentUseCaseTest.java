@@ -0,0 +1,116 @@
+package br.com.fullcycle.application.ticket;
+
+import br.com.fullcycle.application.repository.InMemoryTicketRepository;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.ticket.Ticket;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfirmTicketPaymentUseCaseTest {
+
+    @Test
+    @DisplayName("Deve confirmar o pagamento de um ticket")
+    public void testConfirmPayment() throws Exception {
+        // Given
+        final var ticketRepository = new InMemoryTicketRepository();
+        final var aTicket = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+
+        final var expectedTicketId = aTicket.ticketId().value();
+
+        final var input = ConfirmTicketPaymentUseCase.Input.with(expectedTicketId);
+
+        final var useCase = new ConfirmTicketPaymentUseCase(ticketRepository);
+
+        // When
+        final var output = useCase.execute(input);
+
+        // Then
+        assertEquals(expectedTicketId, output.ticketId());
+        assertEquals("PROCESSING", output.status());
+        assertEquals(TicketStatus.PROCESSING, ticketRepository.ticketOfId(aTicket.ticketId()).get().status());
+    }
+
+    @Test
+    @DisplayName("Não deve confirmar o pagamento de um ticket expirado entre a leitura e a atualização")
+    public void testConfirmPaymentOfTicketExpiredConcurrently() throws Exception {
+        // Given
+        final var expectedErrorMessage = "Ticket can no longer be confirmed";
+
+        final var ticketRepository = new InMemoryTicketRepository() {
+            private boolean expired;
+
+            @Override
+            public Optional<Ticket> ticketOfId(final TicketId anId) {
+                final var aTicket = super.ticketOfId(anId);
+                if (!expired && aTicket.isPresent()) {
+                    expired = true;
+                    final var anExpiredTicket = super.ticketOfId(anId).get();
+                    anExpiredTicket.expire();
+                    update(anExpiredTicket, TicketStatus.PENDING);
+                }
+                return aTicket;
+            }
+        };
+        final var aTicket = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+
+        final var input = ConfirmTicketPaymentUseCase.Input.with(aTicket.ticketId().value());
+
+        final var useCase = new ConfirmTicketPaymentUseCase(ticketRepository);
+
+        // When
+        final var actualException = assertThrows(ValidationException.class, () -> useCase.execute(input));
+
+        // Then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals(TicketStatus.EXPIRED, ticketRepository.ticketOfId(aTicket.ticketId()).get().status());
+    }
+
+    @Test
+    @DisplayName("Deve recusar por concorrência o pagamento de um ticket que ainda pode ser confirmado")
+    public void testConfirmPaymentOnConcurrentUpdate() throws Exception {
+        // Given
+        final var ticketRepository = new InMemoryTicketRepository() {
+            @Override
+            public Ticket update(final Ticket aTicket, final TicketStatus aPreviousStatus) {
+                throw new ConcurrencyException("Ticket was modified concurrently");
+            }
+        };
+        final var aTicket = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+
+        final var input = ConfirmTicketPaymentUseCase.Input.with(aTicket.ticketId().value());
+
+        final var useCase = new ConfirmTicketPaymentUseCase(ticketRepository);
+
+        // When
+        assertThrows(ConcurrencyException.class, () -> useCase.execute(input));
+
+        // Then
+        assertEquals(TicketStatus.PENDING, ticketRepository.ticketOfId(aTicket.ticketId()).get().status());
+    }
+
+    @Test
+    @DisplayName("Não deve confirmar o pagamento de um ticket não existente")
+    public void testConfirmPaymentOfUnknownTicket() throws Exception {
+        // Given
+        final var expectedErrorMessage = "Ticket not found";
+
+        final var input = ConfirmTicketPaymentUseCase.Input.with(TicketId.unique().value());
+
+        final var useCase = new ConfirmTicketPaymentUseCase(new InMemoryTicketRepository());
+
+        // When
+        final var actualException = assertThrows(ValidationException.class, () -> useCase.execute(input));
+
+        // Then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
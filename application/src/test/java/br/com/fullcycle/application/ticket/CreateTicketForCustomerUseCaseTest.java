@@ -0,0 +1,74 @@
+package br.com.fullcycle.application.ticket;
+
+import br.com.fullcycle.application.repository.InMemoryTicketRepository;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventTicketId;
+import br.com.fullcycle.domain.event.ticket.Ticket;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreateTicketForCustomerUseCaseTest {
+
+    @Test
+    @DisplayName("Deve emitir um único ticket para uma reserva entregue mais de uma vez")
+    public void testCreateTicketTwice() throws Exception {
+        // Given
+        final var anEventTicketId = EventTicketId.unique();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        final var input = new CreateTicketForCustomerUseCase.Input(
+                anEventTicketId.value(), EventId.unique().value(), CustomerId.unique().value());
+
+        final var useCase = new CreateTicketForCustomerUseCase(ticketRepository);
+
+        // When
+        final var firstOutput = useCase.execute(input);
+        final var secondOutput = useCase.execute(input);
+
+        // Then
+        assertNotNull(firstOutput.ticketId());
+        assertEquals(firstOutput.ticketId(), secondOutput.ticketId());
+        assertEquals(firstOutput.ticketId(), ticketRepository.ticketIdOfEventTicketId(anEventTicketId).get().value());
+        assertEquals(anEventTicketId,
+                ticketRepository.ticketOfId(TicketId.with(firstOutput.ticketId())).get().eventTicketId());
+    }
+
+    @Test
+    @DisplayName("Deve devolver o ticket emitido por uma entrega concorrente da mesma reserva")
+    public void testCreateTicketConcurrently() throws Exception {
+        // Given
+        final var anEventTicketId = EventTicketId.unique();
+        final var anEventId = EventId.unique();
+        final var aCustomerId = CustomerId.unique();
+        final var missedOnce = new AtomicBoolean();
+
+        final var ticketRepository = new InMemoryTicketRepository() {
+            @Override
+            public Optional<TicketId> ticketIdOfEventTicketId(final EventTicketId anId) {
+                if (missedOnce.compareAndSet(false, true)) {
+                    return Optional.empty();
+                }
+                return super.ticketIdOfEventTicketId(anId);
+            }
+        };
+        final var expectedTicket = ticketRepository.create(Ticket.newTicket(anEventTicketId, aCustomerId, anEventId));
+
+        final var input = new CreateTicketForCustomerUseCase.Input(
+                anEventTicketId.value(), anEventId.value(), aCustomerId.value());
+
+        final var useCase = new CreateTicketForCustomerUseCase(ticketRepository);
+
+        // When
+        final var actualOutput = useCase.execute(input);
+
+        // Then
+        assertEquals(expectedTicket.ticketId().value(), actualOutput.ticketId());
+    }
+}
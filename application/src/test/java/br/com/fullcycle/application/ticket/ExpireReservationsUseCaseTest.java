@@ -0,0 +1,76 @@
+package br.com.fullcycle.application.ticket;
+
+import br.com.fullcycle.application.event.SeatInventory;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.ticket.Ticket;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpireReservationsUseCaseTest {
+
+    @Test
+    @DisplayName("Deve expirar em lotes as reservas vencidas e liberar seus lugares")
+    public void testExpire() throws Exception {
+        // Given
+        final var anEventId = EventId.unique();
+        final var reservations = new ArrayList<>(IntStream.range(0, 5)
+                .mapToObj(i -> Ticket.newTicket(CustomerId.unique(), anEventId))
+                .toList());
+        final var expectedTickets = List.copyOf(reservations);
+
+        final var cutoffs = new ArrayList<Instant>();
+        final ReservationExpiry reservationExpiry = (aCutoff, aLimit) -> {
+            cutoffs.add(aCutoff);
+            final var batch = List.copyOf(reservations.subList(0, Math.min(aLimit, reservations.size())));
+            batch.forEach(Ticket::expire);
+            reservations.removeAll(batch);
+            return batch;
+        };
+
+        final var released = new ArrayList<CustomerId>();
+        final var seatInventory = new SeatInventory() {
+            @Override
+            public void reserve(final EventId anEventId, final CustomerId aCustomerId) {
+            }
+
+            @Override
+            public void release(final EventId anEventId, final CustomerId aCustomerId) {
+                released.add(aCustomerId);
+            }
+        };
+
+        final var expectedTtl = Duration.ofMinutes(15);
+
+        final var useCase = new ExpireReservationsUseCase(reservationExpiry, seatInventory, expectedTtl, 2);
+
+        // When
+        final var before = Instant.now();
+        final var output = useCase.execute();
+
+        // Then
+        assertEquals(5, output.expired());
+        assertEquals(3, output.batches());
+        assertEquals(5, released.size());
+        assertTrue(reservations.isEmpty());
+        expectedTickets.forEach(it -> assertEquals(TicketStatus.EXPIRED, it.status()));
+        cutoffs.forEach(it -> assertFalse(it.isBefore(before.minus(expectedTtl))));
+        assertEquals(1, cutoffs.stream().distinct().count());
+    }
+
+    @Test
+    @DisplayName("Não deve criar o caso de uso com um lote vazio")
+    public void testInvalidBatchSize() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> new ExpireReservationsUseCase(
+                (aCutoff, aLimit) -> List.of(), SeatInventory.unbounded(), Duration.ofMinutes(15), 0));
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.fullcycle.application.ticket;
+
+import br.com.fullcycle.application.repository.InMemoryTicketRepository;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.ticket.Ticket;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SettleTicketPaymentsUseCaseTest {
+
+    @Test
+    @DisplayName("Deve liquidar em lotes apenas os tickets em processamento")
+    public void testSettle() throws Exception {
+        // Given
+        final var ticketRepository = new InMemoryTicketRepository();
+        final var processing = IntStream.range(0, 5)
+                .mapToObj(i -> Ticket.newTicket(CustomerId.unique(), EventId.unique()))
+                .peek(Ticket::confirmPayment)
+                .map(ticketRepository::create)
+                .toList();
+        final var pending = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+
+        final var useCase = new SettleTicketPaymentsUseCase(ticketRepository, 2);
+
+        // When
+        final var output = useCase.execute();
+
+        // Then
+        assertEquals(5, output.settled());
+        assertEquals(3, output.batches());
+        processing.forEach(it -> {
+            final var actualTicket = ticketRepository.ticketOfId(it.ticketId()).get();
+            assertEquals(TicketStatus.PAID, actualTicket.status());
+            assertNotNull(actualTicket.paidAt());
+        });
+        assertEquals(TicketStatus.PENDING, ticketRepository.ticketOfId(pending.ticketId()).get().status());
+    }
+
+    @Test
+    @DisplayName("Não deve criar o caso de uso com um lote vazio")
+    public void testInvalidBatchSize() throws Exception {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SettleTicketPaymentsUseCase(new InMemoryTicketRepository(), 0));
+    }
+}
@@ -0,0 +1,50 @@
+plugins {
+    `java-conventions`
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+group = "br.com.fullcycle.benchmarks"
+
+dependencies {
+    jmh(platform("org.springframework.boot:spring-boot-dependencies:3.1.2"))
+    jmh(project(":domain"))
+    jmh(project(":application"))
+    jmh(project(":infrastructure"))
+
+    jmh("org.springframework.boot:spring-boot-starter-data-jpa")
+    jmh("org.springframework.boot:spring-boot-starter-web")
+    jmh("com.h2database:h2:2.2.224")
+}
+
+jmh {
+    jmhVersion.set("1.36")
+}
+
+// Results are written as JSON to build/results/jmh/<commit>.json, so runs can be compared across commits
+val commit = providers.exec {
+    commandLine("git", "rev-parse", "--short", "HEAD")
+    isIgnoreExitValue = true
+}.standardOutput.asText.map(String::trim)
+val results = layout.buildDirectory.dir("results/jmh")
+
+// The jmhJar flattens every dependency into a single jar, where the spring.factories of one Spring
+// module overwrites the others and Spring Boot no longer boots correctly. Benchmarks run from the
+// plain runtime classpath instead: ./gradlew :benchmarks:benchmark [-Pbenchmarks=<regex>]
+tasks.register<JavaExec>("benchmark") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks."
+    classpath = files(tasks.named("jmhCompileGeneratedClasses"), layout.buildDirectory.dir("jmh-generated-resources")) +
+            sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args(
+        providers.gradleProperty("benchmarks").getOrElse(".*"),
+        "-f", "1",
+        "-wi", "2", "-w", "10s",
+        "-i", "3", "-r", "10s",
+    )
+    argumentProviders.add(CommandLineArgumentProvider {
+        val resultFile = results.get().file("${commit.get().ifEmpty { "local" }}.json").asFile
+        resultFile.parentFile.mkdirs()
+        listOf("-rf", "json", "-rff", resultFile.path)
+    })
+}
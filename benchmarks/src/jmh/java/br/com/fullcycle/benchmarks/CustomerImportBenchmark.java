@@ -0,0 +1,79 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.application.customer.ImportCustomersUseCase;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.infrastructure.Main;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long {@link ImportCustomersUseCase} takes to import {@code rows} new customers, against the
+ * in-memory H2 database of the benchmark profile. To import into MySQL, pass its url with
+ * {@code -Dspring.datasource.url=jdbc:mysql://localhost:3306/events?rewriteBatchedStatements=true}, along
+ * with {@code -Dspring.datasource.username} and {@code -Dspring.datasource.password}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class CustomerImportBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"1000"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private CustomerRepository customerRepository;
+    private ImportCustomersUseCase useCase;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        this.context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run();
+        this.customerRepository = context.getBean(CustomerRepository.class);
+        this.useCase = new ImportCustomersUseCase(customerRepository, batchSize);
+    }
+
+    @Setup(Level.Iteration)
+    public void deleteCustomers() {
+        this.customerRepository.deleteAll();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public long importCustomers() {
+        final var output = useCase.execute(ImportCustomersUseCase.Input.with(new Iterator<>() {
+
+            private int n;
+
+            @Override
+            public boolean hasNext() {
+                return n < rows;
+            }
+
+            @Override
+            public ImportCustomersUseCase.Row next() {
+                n++;
+                return ImportCustomersUseCase.Row.with(Documents.cpf(n), "import-" + n + "@gmail.com", "Import " + n);
+            }
+        }));
+        if (output.failed() != 0) {
+            throw new IllegalStateException("Rows not imported: " + output.failed());
+        }
+        return output.imported();
+    }
+}
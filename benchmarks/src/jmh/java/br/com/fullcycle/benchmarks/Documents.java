@@ -0,0 +1,37 @@
+package br.com.fullcycle.benchmarks;
+
+/**
+ * Valid documents for the customers the benchmarks create.
+ */
+final class Documents {
+
+    private Documents() {
+    }
+
+    /**
+     * A distinct CPF, check digits included, for every n up to 999.999.999.
+     */
+    static String cpf(final long n) {
+        final var digits = new int[11];
+        var rest = n;
+        for (int i = 8; i >= 0; i--, rest /= 10) {
+            digits[i] = (int) (rest % 10);
+        }
+        digits[9] = checkDigit(digits, 9);
+        digits[10] = checkDigit(digits, 10);
+        final var cpf = new StringBuilder();
+        for (int i = 0; i < 11; i++) {
+            cpf.append(digits[i]);
+        }
+        return cpf.insert(9, '-').insert(6, '.').insert(3, '.').toString();
+    }
+
+    private static int checkDigit(final int[] digits, final int length) {
+        var sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += digits[i] * (length + 1 - i);
+        }
+        final var digit = 11 - sum % 11;
+        return digit >= 10 ? 0 : digit;
+    }
+}
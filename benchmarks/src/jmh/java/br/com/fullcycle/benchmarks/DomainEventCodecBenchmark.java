@@ -0,0 +1,95 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventTicketId;
+import br.com.fullcycle.domain.event.EventTicketReserved;
+import br.com.fullcycle.domain.event.ticket.TicketCreated;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.infrastructure.codec.DomainEventCodec;
+import br.com.fullcycle.infrastructure.gateways.QueueMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Decodes and encodes a backlog of {@value #BACKLOG} outbox messages, half of them event-ticket.reserved, the
+ * only type consumed, and half ticket.created. Compares the generic {@link ObjectMapper} paths, sniffing the
+ * type out of the body, with {@link DomainEventCodec} dispatching on the stored type. Run with {@code -prof gc}
+ * to compare the allocation per message as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DomainEventCodecBenchmark {
+
+    private static final int BACKLOG = 100_000;
+    private static final String EVENT_TICKET_RESERVED = "event-ticket.reserved";
+
+    private ObjectMapper mapper;
+    private DomainEventCodec codec;
+    private List<DomainEvent> events;
+    private List<QueueMessage> messages;
+
+    @Setup
+    public void createBacklog() throws Exception {
+        this.mapper = Jackson2ObjectMapperBuilder.json().build();
+        this.codec = new DomainEventCodec(mapper);
+        this.events = IntStream.range(0, BACKLOG)
+                .mapToObj(i -> i % 2 == 0
+                        ? new EventTicketReserved(EventTicketId.unique(), EventId.unique(), CustomerId.unique())
+                        : (DomainEvent) new TicketCreated(
+                        TicketId.unique(), EventTicketId.unique(), EventId.unique(), CustomerId.unique()))
+                .toList();
+        this.messages = IntStream.range(0, BACKLOG)
+                .mapToObj(i -> new QueueMessage(i + 1, events.get(i).type(), codec.encode(events.get(i))))
+                .toList();
+    }
+
+    @Benchmark
+    public void decodeBySubstringSniffing(final Blackhole aBlackhole) throws Exception {
+        for (final var message : messages) {
+            if (message.content().contains(EVENT_TICKET_RESERVED)) {
+                aBlackhole.consume(mapper.readValue(message.content(), EventTicketReserved.class));
+            }
+        }
+    }
+
+    @Benchmark
+    public void decodeByTreeSniffing(final Blackhole aBlackhole) throws Exception {
+        for (final var message : messages) {
+            if (EVENT_TICKET_RESERVED.equals(mapper.readTree(message.content()).path("type").asText())) {
+                aBlackhole.consume(mapper.readValue(message.content(), EventTicketReserved.class));
+            }
+        }
+    }
+
+    @Benchmark
+    public void decodeWithCodec(final Blackhole aBlackhole) {
+        for (final var message : messages) {
+            if (EVENT_TICKET_RESERVED.equals(message.type())) {
+                aBlackhole.consume(codec.decode(message.type(), message.content()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void encodeWithObjectMapper(final Blackhole aBlackhole) throws Exception {
+        for (final var event : events) {
+            aBlackhole.consume(mapper.writeValueAsString(event));
+        }
+    }
+
+    @Benchmark
+    public void encodeWithCodec(final Blackhole aBlackhole) {
+        for (final var event : events) {
+            aBlackhole.consume(codec.encode(event));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.application.event.GetEventAvailabilityUseCase;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.domain.partner.PartnerRepository;
+import br.com.fullcycle.infrastructure.Main;
+import br.com.fullcycle.infrastructure.queries.InMemoryEventAvailability;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading the spots left of an event from the in-memory availability with reading them from the
+ * events table every time, which is what a staleness bound of zero does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventAvailabilityBenchmark {
+
+    private static final int EVENTS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private GetEventAvailabilityUseCase inMemoryUseCase;
+    private GetEventAvailabilityUseCase databaseUseCase;
+    private GetEventAvailabilityUseCase.Input[] inputs;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        this.context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run();
+        final var eventRepository = context.getBean(EventRepository.class);
+        final var partnerRepository = context.getBean(PartnerRepository.class);
+        eventRepository.deleteAll();
+        partnerRepository.deleteAll();
+        final var aPartner = partnerRepository.create(
+                Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com"));
+        this.inputs = new GetEventAvailabilityUseCase.Input[EVENTS];
+        for (int n = 0; n < EVENTS; n++) {
+            final var anEvent = eventRepository.create(
+                    Event.newEvent("Event " + n, "2021-01-01", 100, aPartner));
+            inputs[n] = GetEventAvailabilityUseCase.Input.with(anEvent.eventId().value());
+        }
+        final var inMemory = context.getBean(InMemoryEventAvailability.class);
+        inMemory.rebuild();
+        this.inMemoryUseCase = new GetEventAvailabilityUseCase(inMemory);
+        this.databaseUseCase = new GetEventAvailabilityUseCase(
+                new InMemoryEventAvailability(context.getBean(JdbcTemplate.class), Duration.ZERO));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Optional<GetEventAvailabilityUseCase.Output> inMemory() {
+        return inMemoryUseCase.execute(nextInput());
+    }
+
+    @Benchmark
+    public Optional<GetEventAvailabilityUseCase.Output> database() {
+        return databaseUseCase.execute(nextInput());
+    }
+
+    private GetEventAvailabilityUseCase.Input nextInput() {
+        next = (next + 1) % EVENTS;
+        return inputs[next];
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventTicket;
+import br.com.fullcycle.domain.partner.PartnerId;
+import br.com.fullcycle.infrastructure.jpa.entities.EventEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the mapping of an {@link Event} with its tickets to an {@link EventEntity} and back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventEntityMappingBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int tickets;
+
+    private Event event;
+    private EventEntity entity;
+
+    @Setup
+    public void createEvent() {
+        final var eventId = EventId.unique();
+        this.event = Event.with(
+                eventId, "Disney on Ice", "2021-01-01", Integer.MAX_VALUE, PartnerId.unique(),
+                tickets, 0L,
+                IntStream.rangeClosed(1, tickets)
+                        .mapToObj(i -> EventTicket.newTicket(eventId, CustomerId.unique(), i))
+                        .collect(Collectors.toSet()));
+        this.entity = EventEntity.of(event);
+    }
+
+    @Benchmark
+    public EventEntity of() {
+        return EventEntity.of(event);
+    }
+
+    @Benchmark
+    public Event toDomain() {
+        return entity.toDomain();
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.application.event.ListEventsUseCase;
+import br.com.fullcycle.infrastructure.Main;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the first page of the event listing with a page {@code depth} events deep. With keyset pagination
+ * both seek straight to their first event, so their latencies should match.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventListingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000"})
+    public int events;
+
+    @Param({"90000"})
+    public int depth;
+
+    private ConfigurableApplicationContext context;
+    private ListEventsUseCase useCase;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        this.context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run();
+        final var jdbcTemplate = context.getBean(JdbcTemplate.class);
+        final var rows = new ArrayList<Object[]>(events);
+        final var firstDate = LocalDate.of(2024, 1, 1);
+        for (int n = 0; n < events; n++) {
+            final var id = UUID.randomUUID();
+            rows.add(new Object[]{
+                    ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array(),
+                    "Event " + n, Date.valueOf(firstDate.plusDays(n % 1000))});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into events (id, name, date, total_spots, reserved_spots, version) values (?, ?, ?, 100, 0, 0)",
+                rows);
+        this.useCase = context.getBean(ListEventsUseCase.class);
+
+        var cursor = (String) null;
+        for (int skipped = 0; skipped < depth; skipped += ListEventsUseCase.MAX_LIMIT) {
+            cursor = useCase.execute(ListEventsUseCase.Input.with(null, null, null, null, cursor, ListEventsUseCase.MAX_LIMIT))
+                    .nextCursor();
+        }
+        this.deepCursor = cursor;
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public ListEventsUseCase.Output firstPage() {
+        return useCase.execute(ListEventsUseCase.Input.with(null, null, null, null, null, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public ListEventsUseCase.Output deepPage() {
+        return useCase.execute(ListEventsUseCase.Input.with(null, null, null, null, deepCursor, PAGE_SIZE));
+    }
+}
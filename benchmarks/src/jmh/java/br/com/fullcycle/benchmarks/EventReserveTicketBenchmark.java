@@ -0,0 +1,56 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventTicket;
+import br.com.fullcycle.domain.partner.PartnerId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures {@link Event#reserveTicket(CustomerId)} on an event that already holds a number of tickets.
+ * Every invocation starts from a fresh copy of the event, so the tickets reserved by the benchmark itself
+ * do not pile up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventReserveTicketBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int existingTickets;
+
+    private EventId eventId;
+    private PartnerId partnerId;
+    private Set<EventTicket> tickets;
+    private Event event;
+    private CustomerId customerId;
+
+    @Setup(Level.Trial)
+    public void createTickets() {
+        this.eventId = EventId.unique();
+        this.partnerId = PartnerId.unique();
+        this.tickets = IntStream.rangeClosed(1, existingTickets)
+                .mapToObj(i -> EventTicket.newTicket(eventId, CustomerId.unique(), i))
+                .collect(Collectors.toSet());
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreEvent() {
+        this.event = Event.with(
+                eventId, "Disney on Ice", "2021-01-01", Integer.MAX_VALUE, partnerId,
+                existingTickets, 0L, new HashSet<>(tickets));
+        this.customerId = CustomerId.unique();
+    }
+
+    @Benchmark
+    public EventTicket reserveTicket() {
+        return event.reserveTicket(customerId);
+    }
+}
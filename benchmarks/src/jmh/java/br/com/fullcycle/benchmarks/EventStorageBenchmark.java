@@ -0,0 +1,81 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.domain.partner.PartnerRepository;
+import br.com.fullcycle.infrastructure.Main;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the relational and the event-sourced storage of events: reserving a ticket on an event that already
+ * has {@code reserved} reservations, and loading it with all of its tickets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class EventStorageBenchmark {
+
+    @Param({"relational", "event-sourced"})
+    public String storage;
+
+    @Param({"0", "10000"})
+    public int reserved;
+
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+    private EventId eventId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        this.context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run("--events.storage=" + storage);
+        this.eventRepository = context.getBean(EventRepository.class);
+        final var partnerRepository = context.getBean(PartnerRepository.class);
+        final var jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("delete from outbox");
+        jdbcTemplate.update("delete from events_tickets");
+        eventRepository.deleteAll();
+        partnerRepository.deleteAll();
+        final var aPartner = partnerRepository.create(
+                Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com"));
+        this.eventId = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 10_000_000, aPartner))
+                .eventId();
+        for (int from = 0; from < reserved; from += 1_000) {
+            final var anEvent = eventRepository.eventOfIdWithoutTickets(eventId).orElseThrow();
+            for (int n = from; n < Math.min(reserved, from + 1_000); n++) {
+                anEvent.reserveTicket(CustomerId.unique());
+            }
+            eventRepository.update(anEvent);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Event reserve() {
+        final var anEvent = eventRepository.eventOfIdWithoutTickets(eventId).orElseThrow();
+        anEvent.reserveTicket(CustomerId.unique());
+        return eventRepository.update(anEvent);
+    }
+
+    @Benchmark
+    public int load() {
+        return eventRepository.eventOfId(eventId).orElseThrow().allTickets().size();
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.application.customer.GetCustomerByIdUseCase;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.infrastructure.Main;
+import br.com.fullcycle.infrastructure.queries.CustomerDatabaseQuery;
+import br.com.fullcycle.infrastructure.repositories.CustomerDatabaseRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a customer by id through its aggregate, loaded as an entity and validated again, with
+ * reading it through a projection mapped straight into the output. Both read the database: the aggregate
+ * path uses the repository without its cache. Run with {@code -prof gc} to compare the allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GetCustomerByIdBenchmark {
+
+    private static final int CUSTOMERS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private GetCustomerByIdUseCase aggregateUseCase;
+    private GetCustomerByIdUseCase projectionUseCase;
+    private GetCustomerByIdUseCase.Input[] inputs;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        this.context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run();
+        final var customerRepository = context.getBean(CustomerRepository.class);
+        customerRepository.deleteAll();
+        this.inputs = new GetCustomerByIdUseCase.Input[CUSTOMERS];
+        for (int n = 0; n < CUSTOMERS; n++) {
+            final var aCustomer = customerRepository.create(Customer.newCustomer(
+                    "Customer " + n, Documents.cpf(n + 1), "customer-" + n + "@gmail.com"));
+            inputs[n] = GetCustomerByIdUseCase.Input.with(aCustomer.customerId().value());
+        }
+        this.aggregateUseCase = new GetCustomerByIdUseCase(
+                (CustomerRepository) context.getBean(CustomerDatabaseRepository.class));
+        this.projectionUseCase = new GetCustomerByIdUseCase(context.getBean(CustomerDatabaseQuery.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Optional<GetCustomerByIdUseCase.Output> aggregate() {
+        return aggregateUseCase.execute(nextInput());
+    }
+
+    @Benchmark
+    public Optional<GetCustomerByIdUseCase.Output> projection() {
+        return projectionUseCase.execute(nextInput());
+    }
+
+    private GetCustomerByIdUseCase.Input nextInput() {
+        next = (next + 1) % CUSTOMERS;
+        return inputs[next];
+    }
+}
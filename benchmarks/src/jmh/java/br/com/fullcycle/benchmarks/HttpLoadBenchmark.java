@@ -0,0 +1,113 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.infrastructure.Main;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load test of {@code POST /customers}, which blocks on two lookups and an insert, with many concurrent
+ * clients. SampleTime reports the latency percentiles (p0.99 among them), and each iteration prints the
+ * highest number of requests the server had in flight at once.
+ * <p>
+ * Compares the platform thread pools with virtual threads when built for Java 21:
+ * {@code ./gradlew -PjavaVersion=21 :benchmarks:benchmark --args="HttpLoadBenchmark -p virtualThreads=false,true"}.
+ * Platform Tomcat caps the requests in flight at {@code server.tomcat.threads.max} (200); virtual threads
+ * leave the connection pool as the only bound. The benchmark profile runs on embedded H2, which blocks inside
+ * monitors and so pins the carrier threads: the requests in flight stay near the number of cores there.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HttpLoadBenchmark {
+
+    private static final AtomicLong CUSTOMERS = new AtomicLong();
+
+    @Param({"false"})
+    public boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI customersUri;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        this.context = new SpringApplicationBuilder(Main.class, InFlightRequests.class)
+                .profiles("benchmark")
+                .run("--server.port=0", "--threads.virtual.enabled=" + virtualThreads);
+        final var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        this.customersUri = URI.create("http://localhost:%d/customers".formatted(port));
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportInFlight() {
+        System.out.printf("%nmax in-flight requests: %d%n", InFlightRequests.MAX.getAndSet(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        this.context.close();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public int clients64() throws Exception {
+        return createCustomer();
+    }
+
+    @Benchmark
+    @Threads(512)
+    public int clients512() throws Exception {
+        return createCustomer();
+    }
+
+    private int createCustomer() throws IOException, InterruptedException {
+        final var n = CUSTOMERS.incrementAndGet();
+        final var body = """
+                {"cpf": "%s", "email": "load-%d@gmail.com", "name": "Load %d"}
+                """.formatted(Documents.cpf(n), n, n);
+        final var request = HttpRequest.newBuilder(customersUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        final var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    public static class InFlightRequests extends OncePerRequestFilter {
+
+        private static final AtomicInteger CURRENT = new AtomicInteger();
+        private static final AtomicInteger MAX = new AtomicInteger();
+
+        @Override
+        protected void doFilterInternal(final HttpServletRequest request,
+                                        final HttpServletResponse response,
+                                        final FilterChain chain) throws ServletException, IOException {
+            MAX.accumulateAndGet(CURRENT.incrementAndGet(), Math::max);
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                CURRENT.decrementAndGet();
+            }
+        }
+    }
+}
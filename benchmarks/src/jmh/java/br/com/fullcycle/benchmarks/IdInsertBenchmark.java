@@ -0,0 +1,101 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.domain.IdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures bulk inserts into a table keyed by a binary(16) primary key, as the aggregates' tables are, with
+ * random (UUIDv4) and time-ordered (UUIDv7) ids. Besides the total time, the throughput of every tenth of
+ * the rows is printed, showing whether it holds as the table grows.
+ * <p>
+ * Runs against a file-backed H2 database by default. To run against MySQL, pass its url with
+ * {@code -Dbenchmark.ids.url=jdbc:mysql://localhost:3306/events?rewriteBatchedStatements=true} and the
+ * credentials with {@code -Dbenchmark.ids.username} and {@code -Dbenchmark.ids.password}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class IdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int SEGMENTS = 10;
+
+    @Param({"random", "time-ordered"})
+    public String generator;
+
+    @Param({"10000000"})
+    public int rows;
+
+    private IdGenerator ids;
+    private Path directory;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void createTable() throws Exception {
+        this.ids = "random".equals(generator) ? IdGenerator.random() : IdGenerator.timeOrdered();
+        var url = System.getProperty("benchmark.ids.url");
+        if (url == null) {
+            this.directory = Files.createTempDirectory("ids");
+            url = "jdbc:h2:file:" + directory.resolve("ids") + ";CACHE_SIZE=65536";
+        }
+        this.connection = DriverManager.getConnection(url,
+                System.getProperty("benchmark.ids.username", "sa"),
+                System.getProperty("benchmark.ids.password", ""));
+        try (final var statement = connection.createStatement()) {
+            statement.execute("drop table if exists ids_benchmark");
+            statement.execute("create table ids_benchmark (id binary(16) not null primary key, name varchar(255) not null)");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Trial)
+    public void dropTable() throws Exception {
+        try (final var statement = connection.createStatement()) {
+            statement.execute("drop table ids_benchmark");
+        }
+        connection.commit();
+        connection.close();
+        if (directory != null) {
+            try (final var files = Files.walk(directory)) {
+                files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        final var segment = Math.max(rows / SEGMENTS, BATCH_SIZE);
+        final var bytes = ByteBuffer.allocate(16);
+        var segmentStart = System.nanoTime();
+        try (final var insert = connection.prepareStatement("insert into ids_benchmark (id, name) values (?, ?)")) {
+            for (int row = 1; row <= rows; row++) {
+                final UUID id = ids.next();
+                insert.setBytes(1, bytes.clear().putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array().clone());
+                insert.setString(2, "row " + row);
+                insert.addBatch();
+                if (row % BATCH_SIZE == 0 || row == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+                if (row % segment == 0) {
+                    final var elapsed = System.nanoTime() - segmentStart;
+                    System.out.printf("%n%s: rows %,d to %,d at %,.0f rows/s%n",
+                            generator, row - segment + 1, row, segment * 1e9 / elapsed);
+                    segmentStart = System.nanoTime();
+                }
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.infrastructure.Main;
+import br.com.fullcycle.infrastructure.gateways.QueueGateway;
+import br.com.fullcycle.infrastructure.gateways.QueueMessage;
+import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
+import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
+import br.com.fullcycle.infrastructure.job.OutboxRelay;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures how long {@link OutboxRelay} takes to drain {@value #PENDING_MESSAGES} pending messages, for a
+ * few batch sizes and numbers of workers. The queue only hands the messages to a {@link Blackhole}, so the
+ * score is the relay's own cost: reading, locking and marking the batches as published.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OutboxRelayBenchmark {
+
+    private static final int PENDING_MESSAGES = 10_000;
+
+    @Param({"100", "500", "1000"})
+    public int batchSize;
+
+    @Param({"1", "4"})
+    public int workers;
+
+    private ConfigurableApplicationContext context;
+    private OutboxJpaRepository outboxJpaRepository;
+    private OutboxRelay relay;
+    private ExecutorService workerExecutor;
+
+    @Setup(Level.Trial)
+    public void startApplication(final Blackhole aBlackhole) {
+        this.context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run();
+        this.outboxJpaRepository = context.getBean(OutboxJpaRepository.class);
+        this.workerExecutor = Executors.newFixedThreadPool(workers);
+        this.relay = new OutboxRelay(
+                outboxJpaRepository,
+                new BlackholeQueueGateway(aBlackhole),
+                context.getBean(PlatformTransactionManager.class),
+                workerExecutor,
+                batchSize,
+                workers,
+                true);
+    }
+
+    @Setup(Level.Iteration)
+    public void createPendingMessages() {
+        this.outboxJpaRepository.deleteAll();
+        this.outboxJpaRepository.saveAll(IntStream.range(0, PENDING_MESSAGES)
+                .mapToObj(i -> {
+                    final var aMessage = new OutboxEntity();
+                    aMessage.setId(UUID.randomUUID());
+                    aMessage.setAggregateType("Event");
+                    aMessage.setAggregateId(UUID.randomUUID());
+                    aMessage.setEventType("test");
+                    aMessage.setCreatedAt(Instant.now());
+                    aMessage.setContent("{\"type\":\"benchmark\",\"sequence\":%d}".formatted(i));
+                    return aMessage;
+                })
+                .toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        this.workerExecutor.shutdown();
+        this.context.close();
+    }
+
+    @Benchmark
+    public void drain() {
+        relay.execute();
+    }
+
+    private record BlackholeQueueGateway(Blackhole blackhole) implements QueueGateway {
+
+        @Override
+        public void publish(final QueueMessage message) {
+            blackhole.consume(message);
+        }
+
+        @Override
+        public List<CompletableFuture<Void>> publishAll(final List<QueueMessage> messages) {
+            blackhole.consume(messages);
+            return messages.stream().map(message -> CompletableFuture.<Void>completedFuture(null)).toList();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.application.ticket.ReservationExpiry;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.domain.partner.PartnerRepository;
+import br.com.fullcycle.infrastructure.Main;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long expiring {@code batchSize} unpaid reservations takes while {@code open} reservations,
+ * still within their deadline, share the table. The batch should take as long whatever {@code open} is.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class ReservationExpiryBenchmark {
+
+    private static final String INSERT_TICKET = """
+            insert into tickets (id, customer_id, event_id, status, reserved_at)
+            values (?, ?, ?, 'PENDING', ?)
+            """;
+    private static final String INSERT_EVENT_TICKET = """
+            insert into events_tickets (event_ticked_id, customer_id, ordering, event_id)
+            values (?, ?, 0, ?)
+            """;
+
+    @Param({"10000", "200000"})
+    public int open;
+
+    @Param({"1000"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private ReservationExpiry reservationExpiry;
+    private UUID eventId;
+    private Instant cutoff;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        this.context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run("--reservations.expiry.initial-delay=86400000");
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.reservationExpiry = context.getBean(ReservationExpiry.class);
+        context.getBean(TicketRepository.class).deleteAll();
+        final var eventRepository = context.getBean(EventRepository.class);
+        final var partnerRepository = context.getBean(PartnerRepository.class);
+        eventRepository.deleteAll();
+        partnerRepository.deleteAll();
+        final var aPartner = partnerRepository.create(
+                Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com"));
+        this.eventId = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 1_000_000, aPartner))
+                .eventId().uuid();
+        this.cutoff = Instant.now().minus(Duration.ofMinutes(15));
+        insertReservations(open, Instant.now().plus(Duration.ofDays(1)));
+    }
+
+    @Setup(Level.Invocation)
+    public void insertExpiredReservations() {
+        insertReservations(batchSize, cutoff.minus(Duration.ofHours(1)));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public int expireBatch() {
+        return reservationExpiry.expireReservedBefore(cutoff, batchSize).size();
+    }
+
+    private void insertReservations(final int count, final Instant aReservedAt) {
+        final var reservedAt = Timestamp.from(aReservedAt);
+        final var tickets = new ArrayList<Object[]>(count);
+        final var slots = new ArrayList<Object[]>(count);
+        for (int n = 0; n < count; n++) {
+            final var aCustomerId = UUID.randomUUID();
+            tickets.add(new Object[]{UUID.randomUUID(), aCustomerId, eventId, reservedAt});
+            slots.add(new Object[]{UUID.randomUUID(), aCustomerId, eventId});
+        }
+        batches(tickets).forEach(it -> this.jdbcTemplate.batchUpdate(INSERT_TICKET, it));
+        batches(slots).forEach(it -> this.jdbcTemplate.batchUpdate(INSERT_EVENT_TICKET, it));
+    }
+
+    private static List<List<Object[]>> batches(final List<Object[]> rows) {
+        final var batches = new ArrayList<List<Object[]>>();
+        for (int from = 0; from < rows.size(); from += 10_000) {
+            batches.add(rows.subList(from, Math.min(rows.size(), from + 10_000)));
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.application.RetryPolicy;
+import br.com.fullcycle.application.event.SeatInventory;
+import br.com.fullcycle.application.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.domain.person.Cpf;
+import br.com.fullcycle.domain.person.Email;
+import br.com.fullcycle.infrastructure.Main;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SubscribeCustomerToEventUseCase} while every thread buys a ticket for the same event,
+ * so all writers compete for a single events row, whose counter they increment in place. Reports, per second,
+ * the subscriptions that went through and the ones that gave up after exhausting the retries.
+ * <p>
+ * Runs against an in-memory H2 by default (see {@code application-benchmark.properties}); pass
+ * {@code -Dspring.datasource.url=...}, plus username, password and driver, to measure against MySQL instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SubscribeContentionBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+    private SubscribeCustomerToEventUseCase useCase;
+    private String eventId;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcome {
+        public long subscribed;
+        public long conflicted;
+    }
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        this.context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run();
+        this.eventRepository = context.getBean(EventRepository.class);
+        this.useCase = new SubscribeCustomerToEventUseCase(
+                new AnyCustomerRepository(),
+                eventRepository,
+                SeatInventory.unbounded(),
+                RetryPolicy.defaults());
+    }
+
+    @Setup(Level.Iteration)
+    public void createEvent() {
+        final var aPartner = Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com");
+        this.eventId = eventRepository.create(
+                Event.newEvent("Disney on Ice", "2021-01-01", Integer.MAX_VALUE, aPartner)
+        ).eventId().value();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        this.context.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void subscribers1(final Outcome anOutcome) {
+        subscribe(anOutcome);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void subscribers8(final Outcome anOutcome) {
+        subscribe(anOutcome);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void subscribers64(final Outcome anOutcome) {
+        subscribe(anOutcome);
+    }
+
+    @Benchmark
+    @Threads(512)
+    public void subscribers512(final Outcome anOutcome) {
+        subscribe(anOutcome);
+    }
+
+    private void subscribe(final Outcome anOutcome) {
+        try {
+            useCase.execute(SubscribeCustomerToEventUseCase.Input.with(eventId, CustomerId.unique().value()));
+            anOutcome.subscribed++;
+        } catch (ConcurrencyException e) {
+            anOutcome.conflicted++;
+        }
+    }
+
+    /**
+     * Every customer exists, so the benchmark measures the contention on the event and not the customer lookups.
+     */
+    private static class AnyCustomerRepository implements CustomerRepository {
+
+        @Override
+        public Optional<Customer> customerOfId(final CustomerId anId) {
+            return Optional.of(Customer.with(anId.value(), "John Doe", "729.031.900-11", "john.doe@gmail.com"));
+        }
+
+        @Override
+        public Optional<Customer> customerOfCpf(final Cpf aCpf) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Customer> customerOfEmail(final Email anEmail) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Customer create(final Customer customer) {
+            return customer;
+        }
+
+        @Override
+        public Customer update(final Customer customer) {
+            return customer;
+        }
+
+        @Override
+        public void deleteAll() {
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.EventTicketId;
+import br.com.fullcycle.domain.event.ticket.TicketCreated;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.domain.partner.PartnerRepository;
+import br.com.fullcycle.infrastructure.Main;
+import br.com.fullcycle.infrastructure.codec.DomainEventCodec;
+import br.com.fullcycle.infrastructure.gateways.QueueGateway;
+import br.com.fullcycle.infrastructure.gateways.QueueMessage;
+import br.com.fullcycle.infrastructure.queries.Uuids;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long consuming {@code tickets} {@code ticket.created} messages takes: through the queue gateway,
+ * which coalesces them into batched updates, against one update per message. The in-memory database of the
+ * benchmark profile charges no round trip per statement, so this only shows that coalescing costs nothing: the
+ * round trips it saves are measured against a networked database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class TicketAssociationBenchmark {
+
+    private static final String INSERT_EVENT_TICKET = """
+            insert into events_tickets (event_ticked_id, customer_id, ordering, event_id)
+            values (?, ?, 0, ?)
+            """;
+    private static final String ASSOCIATE_TICKET = """
+            update events_tickets set ticket_id = ?
+            where event_ticked_id = ? and ticket_id is null
+            """;
+
+    @Param({"10000"})
+    public int tickets;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private QueueGateway queueGateway;
+    private DomainEventCodec codec;
+    private EventId eventId;
+    private List<QueueMessage> messages;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        this.context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run("--outbox.relay.initial-delay=86400000");
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.queueGateway = context.getBean(QueueGateway.class);
+        this.codec = context.getBean(DomainEventCodec.class);
+        context.getBean(TicketRepository.class).deleteAll();
+        final var eventRepository = context.getBean(EventRepository.class);
+        final var partnerRepository = context.getBean(PartnerRepository.class);
+        eventRepository.deleteAll();
+        partnerRepository.deleteAll();
+        final var aPartner = partnerRepository.create(
+                Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com"));
+        this.eventId = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 1_000_000, aPartner))
+                .eventId();
+    }
+
+    @Setup(Level.Invocation)
+    public void reserveSlots() {
+        this.messages = new ArrayList<>(tickets);
+        final var slots = new ArrayList<Object[]>(tickets);
+        for (int n = 0; n < tickets; n++) {
+            final var anEventTicketId = EventTicketId.unique();
+            final var aCustomerId = CustomerId.unique();
+            final var aTicketCreated = new TicketCreated(TicketId.unique(), anEventTicketId, eventId, aCustomerId);
+            this.messages.add(new QueueMessage(n + 1, aTicketCreated.type(), this.codec.encode(aTicketCreated)));
+            slots.add(new Object[]{anEventTicketId.uuid(), aCustomerId.uuid(), eventId.uuid()});
+        }
+        this.jdbcTemplate.batchUpdate(INSERT_EVENT_TICKET, slots);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public int batched() {
+        final var acks = this.queueGateway.publishAll(this.messages);
+        CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new)).join();
+        return acks.size();
+    }
+
+    @Benchmark
+    public int oneByOne() {
+        int associated = 0;
+        for (final var message : this.messages) {
+            final var it = (TicketCreated) this.codec.decode(message.type(), message.content());
+            associated += this.jdbcTemplate.update(ASSOCIATE_TICKET,
+                    Uuids.toBytes(UUID.fromString(it.ticketId())),
+                    Uuids.toBytes(UUID.fromString(it.eventTickedId())));
+        }
+        return associated;
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.application.ticket.CreateTicketForCustomerUseCase;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventTicketId;
+import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.infrastructure.Main;
+import br.com.fullcycle.infrastructure.repositories.TicketDatabaseRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long a reservation delivered again takes to be answered with the ticket already issued for it:
+ * from the cache in front of the tickets, or from the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TicketRedeliveryBenchmark {
+
+    private static final int RESERVATIONS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private CreateTicketForCustomerUseCase cachedUseCase;
+    private CreateTicketForCustomerUseCase databaseUseCase;
+    private CreateTicketForCustomerUseCase.Input[] inputs;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        this.context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run();
+        final var ticketRepository = context.getBean(TicketRepository.class);
+        ticketRepository.deleteAll();
+        this.cachedUseCase = new CreateTicketForCustomerUseCase(ticketRepository);
+        this.databaseUseCase = new CreateTicketForCustomerUseCase(context.getBean(TicketDatabaseRepository.class));
+        this.inputs = new CreateTicketForCustomerUseCase.Input[RESERVATIONS];
+        for (int n = 0; n < RESERVATIONS; n++) {
+            inputs[n] = new CreateTicketForCustomerUseCase.Input(
+                    EventTicketId.unique().value(), EventId.unique().value(), CustomerId.unique().value());
+            cachedUseCase.execute(inputs[n]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public CreateTicketForCustomerUseCase.Output cached() {
+        return cachedUseCase.execute(nextInput());
+    }
+
+    @Benchmark
+    public CreateTicketForCustomerUseCase.Output database() {
+        return databaseUseCase.execute(nextInput());
+    }
+
+    private CreateTicketForCustomerUseCase.Input nextInput() {
+        next = (next + 1) % RESERVATIONS;
+        return inputs[next];
+    }
+}
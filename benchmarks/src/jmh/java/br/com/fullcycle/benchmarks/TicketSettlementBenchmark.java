@@ -0,0 +1,93 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.application.ticket.SettleTicketPaymentsUseCase;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.infrastructure.Main;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long settling {@code tickets} confirmed payments takes: through
+ * {@link SettleTicketPaymentsUseCase}, {@code batchSize} tickets per statement, or one ticket at a time,
+ * loading, settling and updating each. The scheduled settlement is pushed out so it does not race them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class TicketSettlementBenchmark {
+
+    @Param({"10000"})
+    public int tickets;
+
+    @Param({"5000"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TicketRepository ticketRepository;
+    private JdbcTemplate jdbcTemplate;
+    private SettleTicketPaymentsUseCase useCase;
+    private List<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        this.context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run("--tickets.settlement.initial-delay=86400000");
+        this.ticketRepository = context.getBean(TicketRepository.class);
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.useCase = new SettleTicketPaymentsUseCase(ticketRepository, batchSize);
+    }
+
+    @Setup(Level.Invocation)
+    public void insertProcessingTickets() {
+        this.ticketRepository.deleteAll();
+        final var now = Timestamp.from(Instant.now());
+        this.ids = new ArrayList<>(tickets);
+        final var rows = new ArrayList<Object[]>(tickets);
+        for (int n = 0; n < tickets; n++) {
+            final var anId = UUID.randomUUID();
+            ids.add(anId);
+            rows.add(new Object[]{anId, UUID.randomUUID(), UUID.randomUUID(), now});
+        }
+        this.jdbcTemplate.batchUpdate("""
+                insert into tickets (id, customer_id, event_id, status, reserved_at)
+                values (?, ?, ?, 'PROCESSING', ?)
+                """, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public long batched() {
+        return useCase.execute().settled();
+    }
+
+    @Benchmark
+    public long oneByOne() {
+        final var paidAt = Instant.now();
+        for (final var anId : ids) {
+            final var aTicket = ticketRepository.ticketOfId(TicketId.with(anId)).orElseThrow();
+            aTicket.settle(paidAt);
+            ticketRepository.update(aTicket, TicketStatus.PROCESSING);
+        }
+        return ids.size();
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.fullcycle.benchmarks;
+
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.person.Cnpj;
+import br.com.fullcycle.domain.person.Cpf;
+import br.com.fullcycle.domain.person.Email;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction, and so the validation, of the value objects built for every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValueObjectBenchmark {
+
+    public String cpf = "729.031.900-11";
+    public String cnpj = "92.759.544/0001-50";
+    public String email = "john.doe@gmail.com";
+    public String eventId = UUID.randomUUID().toString();
+
+    @Benchmark
+    public Cpf cpf() {
+        return new Cpf(cpf);
+    }
+
+    @Benchmark
+    public Cnpj cnpj() {
+        return new Cnpj(cnpj);
+    }
+
+    @Benchmark
+    public Email email() {
+        return new Email(email);
+    }
+
+    @Benchmark
+    public EventId eventIdWith() {
+        return EventId.with(eventId);
+    }
+}
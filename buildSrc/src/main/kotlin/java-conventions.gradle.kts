@@ -3,9 +3,18 @@ plugins {
     jacoco
 }
 
+// Java 17 by default. -PjavaVersion=21 compiles, tests and runs on a Java 21 toolchain instead, which the
+// virtual threads mode (threads.virtual.enabled) requires.
+val javaVersion = providers.gradleProperty("javaVersion").map(String::toInt).getOrElse(17)
+extra["javaVersion"] = javaVersion
+
 java {
-    targetCompatibility = JavaVersion.VERSION_17
-    sourceCompatibility = JavaVersion.VERSION_17
+    if (javaVersion > 17) {
+        toolchain.languageVersion.set(JavaLanguageVersion.of(javaVersion))
+    } else {
+        targetCompatibility = JavaVersion.VERSION_17
+        sourceCompatibility = JavaVersion.VERSION_17
+    }
 }
 
 repositories {
@@ -0,0 +1,19 @@
+package br.com.fullcycle.domain;
+
+import java.util.UUID;
+
+/**
+ * Generates the ids of the aggregates and of their domain events. See {@link IdGenerators}.
+ */
+public interface IdGenerator {
+
+    UUID next();
+
+    static IdGenerator timeOrdered() {
+        return new TimeOrderedIdGenerator(System::currentTimeMillis);
+    }
+
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+}
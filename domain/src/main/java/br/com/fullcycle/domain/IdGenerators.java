@@ -0,0 +1,26 @@
+package br.com.fullcycle.domain;
+
+import java.util.UUID;
+
+/**
+ * The {@link IdGenerator} in use. Time-ordered ids are the default; another generator is chosen once, at
+ * startup, before any id is generated.
+ */
+public final class IdGenerators {
+
+    private static volatile IdGenerator current = IdGenerator.timeOrdered();
+
+    private IdGenerators() {
+    }
+
+    public static UUID next() {
+        return current.next();
+    }
+
+    public static void use(final IdGenerator aGenerator) {
+        if (aGenerator == null) {
+            throw new IllegalArgumentException("IdGenerator cannot be null");
+        }
+        current = aGenerator;
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.fullcycle.domain;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * UUIDv7 (RFC 9562): 48 bits of Unix epoch milliseconds, then a 12-bit sequence and 62 random bits. Ids
+ * generated by the same process are strictly increasing: the sequence orders the ids of the same
+ * millisecond and, past 4096 of them, carries over into the next one. Stored as binary(16), new rows are
+ * appended at the end of the primary key instead of at random pages.
+ */
+class TimeOrderedIdGenerator implements IdGenerator {
+
+    private final LongSupplier clock;
+    private final AtomicLong lastTimeAndSequence = new AtomicLong();
+
+    TimeOrderedIdGenerator(final LongSupplier aClock) {
+        this.clock = aClock;
+    }
+
+    @Override
+    public UUID next() {
+        final var now = clock.getAsLong() << 12;
+        final var timeAndSequence = lastTimeAndSequence.updateAndGet(last -> Math.max(now, last + 1));
+        final var mostSignificantBits = (timeAndSequence >>> 12) << 16 | 0x7000L | (timeAndSequence & 0xFFFL);
+        final var leastSignificantBits = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
@@ -6,6 +6,7 @@ import br.com.fullcycle.domain.person.Email;
 import br.com.fullcycle.domain.person.Name;
 
 import java.util.Objects;
+import java.util.function.Function;
 
 public class Customer {
 
@@ -19,12 +20,21 @@ public class Customer {
             final String aName,
             final String aCpf,
             final String anEmail) {
+        this(aCustomerId, aName, aCpf, anEmail, Cpf::new);
+    }
+
+    private Customer(
+            final CustomerId aCustomerId,
+            final String aName,
+            final String aCpf,
+            final String anEmail,
+            final Function<String, Cpf> aCpfFactory) {
         if (aCustomerId == null) {
             throw new ValidationException("Invalid customerId for Customer");
         }
         this.customerId = aCustomerId;
         this.changeName(aName);
-        this.changeCpf(aCpf);
+        this.cpf = aCpfFactory.apply(aCpf);
         this.changeEmail(anEmail);
     }
 
@@ -41,7 +51,26 @@ public class Customer {
             final String aName,
             final String aCpf,
             final String anEmail) {
-        return new Customer(CustomerId.with(anId), aName, aCpf, anEmail);
+        return with(CustomerId.with(anId), aName, aCpf, anEmail);
+    }
+
+    public static Customer with(
+            final CustomerId anId,
+            final String aName,
+            final String aCpf,
+            final String anEmail) {
+        return new Customer(anId, aName, aCpf, anEmail);
+    }
+
+    /**
+     * Restores a customer already stored, with its Cpf checked as {@link Cpf#restore} does.
+     */
+    public static Customer restore(
+            final CustomerId anId,
+            final String aName,
+            final String aCpf,
+            final String anEmail) {
+        return new Customer(anId, aName, aCpf, anEmail, Cpf::restore);
     }
 
     public CustomerId customerId() {
@@ -60,10 +89,6 @@ public class Customer {
         return email;
     }
 
-    private void changeCpf(final String aCpf) {
-        this.cpf = new Cpf(aCpf);
-    }
-
     private void changeEmail(final String anEmail) {
         this.email = new Email(anEmail);
     }
@@ -1,28 +1,40 @@
 package br.com.fullcycle.domain.customer;
 
+import br.com.fullcycle.domain.IdGenerators;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
 import java.util.UUID;
 
 public record CustomerId(
-        String value
+        UUID uuid
 ) {
 
     public CustomerId {
-        if (value == null) {
+        if (uuid == null) {
             throw new ValidationException("Invalid value for CustomerId");
         }
     }
 
     public static CustomerId unique() {
-        return new CustomerId(UUID.randomUUID().toString());
+        return new CustomerId(IdGenerators.next());
     }
 
     public static CustomerId with(final String value) {
+        if (value == null) {
+            throw new ValidationException("Invalid value for CustomerId");
+        }
         try {
-            return new CustomerId(UUID.fromString(value).toString());
+            return new CustomerId(UUID.fromString(value));
         } catch (IllegalArgumentException e) {
             throw new ValidationException("Invalid value for CustomerId");
         }
     }
+
+    public static CustomerId with(final UUID uuid) {
+        return new CustomerId(uuid);
+    }
+
+    public String value() {
+        return uuid.toString();
+    }
 }
@@ -3,7 +3,11 @@ package br.com.fullcycle.domain.customer;
 import br.com.fullcycle.domain.person.Cpf;
 import br.com.fullcycle.domain.person.Email;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public interface CustomerRepository {
 
@@ -18,4 +22,29 @@ public interface CustomerRepository {
     Customer update(Customer customer);
 
     void deleteAll();
+
+    /**
+     * The given Cpfs that already belong to a customer, found with as few lookups as the repository allows.
+     */
+    default Set<Cpf> cpfsTaken(final Collection<Cpf> someCpfs) {
+        return someCpfs.stream()
+                .filter(aCpf -> customerOfCpf(aCpf).isPresent())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * The given Emails that already belong to a customer, found with as few lookups as the repository allows.
+     */
+    default Set<Email> emailsTaken(final Collection<Email> someEmails) {
+        return someEmails.stream()
+                .filter(anEmail -> customerOfEmail(anEmail).isPresent())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Creates every customer or, when one of them can't be created, none of them.
+     */
+    default void createAll(final List<Customer> customers) {
+        customers.forEach(this::create);
+    }
 }
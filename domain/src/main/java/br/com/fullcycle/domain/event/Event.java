@@ -3,6 +3,7 @@ package br.com.fullcycle.domain.event;
 import br.com.fullcycle.domain.DomainEvent;
 import br.com.fullcycle.domain.customer.CustomerId;
 import br.com.fullcycle.domain.event.ticket.Ticket;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 import br.com.fullcycle.domain.partner.Partner;
 import br.com.fullcycle.domain.partner.PartnerId;
@@ -27,7 +28,9 @@ public class Event {
     private Name name;
     private LocalDate date;
     private int totalSpots;
+    private int reservedSpots;
     private PartnerId partnerId;
+    private long version;
 
     private Event(final EventId anEventId, final Set<EventTicket> aTickets) {
         if (anEventId == null) {
@@ -44,12 +47,16 @@ public class Event {
             final String aDate,
             final Integer aTotalSpots,
             final PartnerId aPartnerId,
+            final int aReservedSpots,
+            final long aVersion,
             final Set<EventTicket> aTickets) {
         this(anEventId, aTickets);
         this.changeName(aName);
         this.changeDate(aDate);
         this.changeTotalSpots(aTotalSpots);
         this.changePartnerId(aPartnerId);
+        this.changeReservedSpots(aReservedSpots);
+        this.version = aVersion;
     }
 
     public static Event newEvent(
@@ -64,23 +71,35 @@ public class Event {
                 aDate,
                 aTotalSpots,
                 aPartner.partnerId(),
+                0,
+                0L,
                 new HashSet<>()
         );
     }
 
+    /**
+     * Restores an event as last persisted. {@code aReservedSpots} is the persisted reservation counter, so the
+     * tickets already reserved need not be loaded: only the given ones, and those reserved from now on, are
+     * available at {@link #allTickets()}. The version is the one read from the store and is checked back when the
+     * event itself is saved, so a stale copy is never written over a newer one.
+     */
     public static Event with(
-            final String anId,
+            final EventId anId,
             final String aName,
             final String aDate,
             final int aTotalSpots,
-            final String aPartnerId,
+            final PartnerId aPartnerId,
+            final int aReservedSpots,
+            final long aVersion,
             final Set<EventTicket> aTickets) {
         return new Event(
-                EventId.with(anId),
+                anId,
                 aName,
                 aDate,
                 aTotalSpots,
-                PartnerId.with(aPartnerId),
+                aPartnerId,
+                aReservedSpots,
+                aVersion,
                 aTickets
         );
     }
@@ -101,10 +120,18 @@ public class Event {
         return totalSpots;
     }
 
+    public int reservedSpots() {
+        return reservedSpots;
+    }
+
     public PartnerId partnerId() {
         return partnerId;
     }
 
+    public long version() {
+        return version;
+    }
+
     public Set<EventTicket> allTickets() {
         return Collections.unmodifiableSet(tickets);
     }
@@ -114,36 +141,48 @@ public class Event {
     }
 
     public EventTicket reserveTicket(final CustomerId aCustomerId) {
-        checkIfEmailIsAlreadyRegistered(aCustomerId);
+        checkIfCustomerIsAlreadySubscribed(aCustomerId);
         checkIfEventIsSoldOut();
 
-        final var ordering = allTickets().size() + TICKET_TO_RESERVE;
+        final var ordering = reservedSpotsPlusTicketToReserve();
 
         final var aTicket = EventTicket.newTicket(eventId(), aCustomerId, ordering);
 
         this.tickets.add(aTicket);
+        this.reservedSpots = ordering;
         this.domainEvents.add(new EventTicketReserved(
                 aTicket.eventTicketId(), eventId(), aCustomerId));
         return aTicket;
     }
 
+    /**
+     * Gives back the slot of an expired ticket without loading its event, which may hold a great many tickets:
+     * whoever stores the release deletes the slot and moves the counter down.
+     */
+    public static EventTicketReleased releaseExpiredTicket(final Ticket aTicket) {
+        if (aTicket.status() != TicketStatus.EXPIRED) {
+            throw new ValidationException("Only an expired ticket can be released");
+        }
+        return new EventTicketReleased(aTicket.ticketId(), aTicket.eventId(), aTicket.customerId());
+    }
+
     private void checkIfEventIsSoldOut() {
-        if (totalSpots() < allTicketsPlusTicketToReserve()) {
+        if (totalSpots() < reservedSpotsPlusTicketToReserve()) {
             throw new ValidationException("Event sold out");
         }
     }
 
-    private void checkIfEmailIsAlreadyRegistered(CustomerId aCustomerId) {
+    private void checkIfCustomerIsAlreadySubscribed(CustomerId aCustomerId) {
         this.allTickets().stream()
                 .filter(it -> Objects.equals(it.customerId(), aCustomerId))
                 .findFirst()
                 .ifPresent(it -> {
-                    throw new ValidationException("Email already registered");
+                    throw new ValidationException("Customer already subscribed to this event");
                 });
     }
 
-    private int allTicketsPlusTicketToReserve() {
-        return allTickets().size() + TICKET_TO_RESERVE;
+    private int reservedSpotsPlusTicketToReserve() {
+        return reservedSpots() + TICKET_TO_RESERVE;
     }
 
     private void changeName(final String aName) {
@@ -168,6 +207,13 @@ public class Event {
         this.totalSpots = aTotalSpots;
     }
 
+    private void changeReservedSpots(final int aReservedSpots) {
+        if (aReservedSpots < 0) {
+            throw new ValidationException("Invalid reservedSpots for Event");
+        }
+        this.reservedSpots = aReservedSpots;
+    }
+
     private void changePartnerId(final PartnerId aPartnerId) {
         if (aPartnerId == null) {
             throw new ValidationException("Invalid partnerId for Event");
@@ -1,28 +1,40 @@
 package br.com.fullcycle.domain.event;
 
+import br.com.fullcycle.domain.IdGenerators;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
 import java.util.UUID;
 
 public record EventId(
-        String value
+        UUID uuid
 ) {
 
     public EventId {
-        if (value == null) {
+        if (uuid == null) {
             throw new ValidationException("Invalid value for EventId");
         }
     }
 
     public static EventId unique() {
-        return new EventId(UUID.randomUUID().toString());
+        return new EventId(IdGenerators.next());
     }
 
     public static EventId with(final String value) {
+        if (value == null) {
+            throw new ValidationException("Invalid value for EventId");
+        }
         try {
-            return new EventId(UUID.fromString(value).toString());
+            return new EventId(UUID.fromString(value));
         } catch (IllegalArgumentException e) {
             throw new ValidationException("Invalid value for EventId");
         }
     }
+
+    public static EventId with(final UUID uuid) {
+        return new EventId(uuid);
+    }
+
+    public String value() {
+        return uuid.toString();
+    }
 }
@@ -6,6 +6,8 @@ public interface EventRepository {
 
     Optional<Event> eventOfId(EventId anId);
 
+    Optional<Event> eventOfIdWithoutTickets(EventId anId);
+
     Event create(Event event);
 
     Event update(Event event);
@@ -1,28 +1,40 @@
 package br.com.fullcycle.domain.event;
 
+import br.com.fullcycle.domain.IdGenerators;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
 import java.util.UUID;
 
 public record EventTicketId(
-        String value
+        UUID uuid
 ) {
 
     public EventTicketId {
-        if (value == null) {
+        if (uuid == null) {
             throw new ValidationException("Invalid value for EventTicketId");
         }
     }
 
     public static EventTicketId unique() {
-        return new EventTicketId(UUID.randomUUID().toString());
+        return new EventTicketId(IdGenerators.next());
     }
 
     public static EventTicketId with(final String value) {
+        if (value == null) {
+            throw new ValidationException("Invalid value for EventTicketId");
+        }
         try {
-            return new EventTicketId(UUID.fromString(value).toString());
+            return new EventTicketId(UUID.fromString(value));
         } catch (IllegalArgumentException e) {
             throw new ValidationException("Invalid value for EventTicketId");
         }
     }
+
+    public static EventTicketId with(final UUID uuid) {
+        return new EventTicketId(uuid);
+    }
+
+    public String value() {
+        return uuid.toString();
+    }
 }
@@ -0,0 +1,26 @@
+package br.com.fullcycle.domain.event;
+
+import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.IdGenerators;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+
+import java.time.Instant;
+
+public record EventTicketReleased(
+        String domainEventId,
+        String type,
+        String ticketId,
+        String eventId,
+        String customerId,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public EventTicketReleased(
+            TicketId aTicketId,
+            EventId anEventId,
+            CustomerId aCustomerId) {
+        this(IdGenerators.next().toString(), "event-ticket.released", aTicketId.value(),
+                anEventId.value(), aCustomerId.value(), Instant.now());
+    }
+}
@@ -1,10 +1,10 @@
 package br.com.fullcycle.domain.event;
 
 import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.IdGenerators;
 import br.com.fullcycle.domain.customer.CustomerId;
 
 import java.time.Instant;
-import java.util.UUID;
 
 public record EventTicketReserved(
         String domainEventId,
@@ -19,7 +19,7 @@ public record EventTicketReserved(
             EventTicketId anEventTicketId,
             EventId anEventId,
             CustomerId aCustomerId) {
-        this(UUID.randomUUID().toString(), "event-ticket.reserved", anEventTicketId.value(),
+        this(IdGenerators.next().toString(), "event-ticket.reserved", anEventTicketId.value(),
                 anEventId.value(), aCustomerId.value(), Instant.now());
     }
 }
@@ -17,6 +17,7 @@ public class Ticket {
     private final TicketId ticketId;
     private final Set<DomainEvent> domainEvents;
 
+    private EventTicketId eventTicketId;
     private CustomerId customerId;
     private EventId eventId;
     private TicketStatus status;
@@ -57,9 +58,17 @@ public class Ticket {
                 Instant.now());
     }
 
+    /**
+     * Issues the ticket of a reservation. A reservation gets at most one ticket, so the repository rejects a
+     * second one for the same {@link EventTicketId}.
+     */
     public static Ticket newTicket(
             final EventTicketId anEventTicketId, final CustomerId aCustomerId, final EventId anEventId) {
+        if (anEventTicketId == null) {
+            throw new ValidationException("Invalid eventTicketId for Ticket");
+        }
         final var aTicket = newTicket(aCustomerId, anEventId);
+        aTicket.eventTicketId = anEventTicketId;
         aTicket.domainEvents.add(new TicketCreated(aTicket.ticketId, anEventTicketId, anEventId, aCustomerId));
         return aTicket;
     }
@@ -81,10 +90,44 @@ public class Ticket {
                 aReservedAt);
     }
 
+    public static Ticket with(
+            final TicketId anId,
+            final EventTicketId anEventTicketId,
+            final CustomerId aCustomerId,
+            final EventId anEventId,
+            final TicketStatus aStatus,
+            final Instant aPaidAt,
+            final Instant aReservedAt
+    ) {
+        final var aTicket = with(anId, aCustomerId, anEventId, aStatus, aPaidAt, aReservedAt);
+        aTicket.eventTicketId = anEventTicketId;
+        return aTicket;
+    }
+
+    public void confirmPayment() {
+        moveTo(TicketStatus.PROCESSING);
+    }
+
+    public void settle(final Instant aPaidAt) {
+        if (aPaidAt == null) {
+            throw new ValidationException("Invalid paidAt for Ticket");
+        }
+        moveTo(TicketStatus.PAID);
+        this.changePaidAt(aPaidAt);
+    }
+
+    public void expire() {
+        moveTo(TicketStatus.EXPIRED);
+    }
+
     public TicketId ticketId() {
         return ticketId;
     }
 
+    public EventTicketId eventTicketId() {
+        return eventTicketId;
+    }
+
     public CustomerId customerId() {
         return customerId;
     }
@@ -109,6 +152,13 @@ public class Ticket {
         return Collections.unmodifiableSet(domainEvents);
     }
 
+    private void moveTo(final TicketStatus aStatus) {
+        if (!this.status.canMoveTo(aStatus)) {
+            throw new ValidationException("Ticket cannot move from " + this.status + " to " + aStatus);
+        }
+        this.status = aStatus;
+    }
+
     private void changeCustomerId(final CustomerId aCustomerId) {
         if (aCustomerId == null) {
             throw new ValidationException("Invalid customerId for Ticket");
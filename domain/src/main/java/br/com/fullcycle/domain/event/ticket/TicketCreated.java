@@ -1,12 +1,12 @@
 package br.com.fullcycle.domain.event.ticket;
 
 import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.IdGenerators;
 import br.com.fullcycle.domain.customer.CustomerId;
 import br.com.fullcycle.domain.event.EventId;
 import br.com.fullcycle.domain.event.EventTicketId;
 
 import java.time.Instant;
-import java.util.UUID;
 
 public record TicketCreated(
         String domainEventId,
@@ -23,7 +23,7 @@ public record TicketCreated(
             EventTicketId anEventTicketId,
             EventId anEventId,
             CustomerId aCustomerId) {
-        this(UUID.randomUUID().toString(), "ticket.created", aTicketId.value(), anEventTicketId.value(),
+        this(IdGenerators.next().toString(), "ticket.created", aTicketId.value(), anEventTicketId.value(),
                 anEventId.value(), aCustomerId.value(), Instant.now());
     }
 }
@@ -1,28 +1,40 @@
 package br.com.fullcycle.domain.event.ticket;
 
+import br.com.fullcycle.domain.IdGenerators;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
 import java.util.UUID;
 
 public record TicketId(
-        String value
+        UUID uuid
 ) {
 
     public TicketId {
-        if (value == null) {
+        if (uuid == null) {
             throw new ValidationException("Invalid value for TicketId");
         }
     }
 
     public static TicketId unique() {
-        return new TicketId(UUID.randomUUID().toString());
+        return new TicketId(IdGenerators.next());
     }
 
     public static TicketId with(final String value) {
+        if (value == null) {
+            throw new ValidationException("Invalid value for TicketId");
+        }
         try {
-            return new TicketId(UUID.fromString(value).toString());
+            return new TicketId(UUID.fromString(value));
         } catch (IllegalArgumentException e) {
             throw new ValidationException("Invalid value for TicketId");
         }
     }
+
+    public static TicketId with(final UUID uuid) {
+        return new TicketId(uuid);
+    }
+
+    public String value() {
+        return uuid.toString();
+    }
 }
@@ -1,14 +1,41 @@
 package br.com.fullcycle.domain.event.ticket;
 
+import br.com.fullcycle.domain.event.EventTicketId;
+
+import java.time.Instant;
 import java.util.Optional;
 
 public interface TicketRepository {
 
     Optional<Ticket> ticketOfId(TicketId anId);
 
+    /**
+     * The ticket issued for a reservation, if any.
+     */
+    Optional<TicketId> ticketIdOfEventTicketId(EventTicketId anEventTicketId);
+
+    /**
+     * @throws br.com.fullcycle.domain.exceptions.ValidationException when the reservation of the ticket already
+     *                                                                has a ticket
+     */
     Ticket create(Ticket ticket);
 
-    Ticket update(Ticket ticket);
+    /**
+     * Saves the status the ticket moved to from {@code aPreviousStatus}, only if the stored ticket is still in
+     * {@code aPreviousStatus}: a transition made concurrently, such as an expiry, is never overwritten.
+     *
+     * @throws br.com.fullcycle.domain.exceptions.ConcurrencyException when the stored ticket has left
+     *                                                                  {@code aPreviousStatus}
+     */
+    Ticket update(Ticket ticket, TicketStatus aPreviousStatus);
+
+    /**
+     * Settles up to {@code aLimit} tickets whose payment is {@code PROCESSING}, the same way as
+     * {@link Ticket#settle}, without loading them.
+     *
+     * @return how many tickets were settled
+     */
+    int settleProcessing(Instant aPaidAt, int aLimit);
 
     void deleteAll();
 
@@ -1,5 +1,18 @@
 package br.com.fullcycle.domain.event.ticket;
 
+/**
+ * A ticket is reserved as {@code PENDING}, moves to {@code PROCESSING} once its payment is confirmed and to
+ * {@code PAID} once that payment is settled. A reservation left unpaid for too long is {@code EXPIRED}
+ * instead. There is no way back.
+ */
 public enum TicketStatus {
-    PENDING, PROCESSING, PAID;
+    PENDING, PROCESSING, PAID, EXPIRED;
+
+    public boolean canMoveTo(final TicketStatus next) {
+        return switch (this) {
+            case PENDING -> next == PROCESSING || next == EXPIRED;
+            case PROCESSING -> next == PAID;
+            case PAID, EXPIRED -> false;
+        };
+    }
 }
@@ -0,0 +1,12 @@
+package br.com.fullcycle.domain.exceptions;
+
+public class ConcurrencyException extends RuntimeException {
+
+    public ConcurrencyException(final String message) {
+        super(message, null, true, false);
+    }
+
+    public ConcurrencyException(final String message, final Throwable cause) {
+        super(message, cause, true, false);
+    }
+}
@@ -6,6 +6,7 @@ import br.com.fullcycle.domain.person.Email;
 import br.com.fullcycle.domain.person.Name;
 
 import java.util.Objects;
+import java.util.function.Function;
 
 public class Partner {
 
@@ -19,12 +20,21 @@ public class Partner {
             final String aName,
             final String aCnpj,
             final String anEmail) {
+        this(aPartnerId, aName, aCnpj, anEmail, Cnpj::new);
+    }
+
+    private Partner(
+            final PartnerId aPartnerId,
+            final String aName,
+            final String aCnpj,
+            final String anEmail,
+            final Function<String, Cnpj> aCnpjFactory) {
         if (aPartnerId == null) {
             throw new ValidationException("Invalid partnerId for Partner");
         }
         this.partnerId = aPartnerId;
         this.changeName(aName);
-        this.changeCnpj(aCnpj);
+        this.cnpj = aCnpjFactory.apply(aCnpj);
         this.changeEmail(anEmail);
     }
 
@@ -42,7 +52,27 @@ public class Partner {
             final String aCnpj,
             final String anEmail
     ) {
-        return new Partner(PartnerId.with(anId), aName, aCnpj, anEmail);
+        return with(PartnerId.with(anId), aName, aCnpj, anEmail);
+    }
+
+    public static Partner with(
+            final PartnerId anId,
+            final String aName,
+            final String aCnpj,
+            final String anEmail
+    ) {
+        return new Partner(anId, aName, aCnpj, anEmail);
+    }
+
+    /**
+     * Restores a partner already stored, with its Cnpj checked as {@link Cnpj#restore} does.
+     */
+    public static Partner restore(
+            final PartnerId anId,
+            final String aName,
+            final String aCnpj,
+            final String anEmail) {
+        return new Partner(anId, aName, aCnpj, anEmail, Cnpj::restore);
     }
 
     public PartnerId partnerId() {
@@ -65,10 +95,6 @@ public class Partner {
         this.name = new Name(aName);
     }
 
-    private void changeCnpj(final String aCnpj) {
-        this.cnpj = new Cnpj(aCnpj);
-    }
-
     private void changeEmail(final String anEmail) {
         this.email = new Email(anEmail);
     }
@@ -1,28 +1,40 @@
 package br.com.fullcycle.domain.partner;
 
+import br.com.fullcycle.domain.IdGenerators;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
 import java.util.UUID;
 
 public record PartnerId(
-        String value
+        UUID uuid
 ) {
 
     public PartnerId {
-        if (value == null) {
+        if (uuid == null) {
             throw new ValidationException("Invalid value for PartnerId");
         }
     }
 
     public static PartnerId unique() {
-        return new PartnerId(UUID.randomUUID().toString());
+        return new PartnerId(IdGenerators.next());
     }
 
     public static PartnerId with(final String value) {
+        if (value == null) {
+            throw new ValidationException("Invalid value for PartnerId");
+        }
         try {
-            return new PartnerId(UUID.fromString(value).toString());
+            return new PartnerId(UUID.fromString(value));
         } catch (IllegalArgumentException e) {
             throw new ValidationException("Invalid value for PartnerId");
         }
     }
+
+    public static PartnerId with(final UUID uuid) {
+        return new PartnerId(uuid);
+    }
+
+    public String value() {
+        return uuid.toString();
+    }
 }
@@ -2,13 +2,106 @@ package br.com.fullcycle.domain.person;
 
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
-public record Cnpj(
-        String value
-) {
+import java.util.Objects;
 
-    public Cnpj {
-        if (value == null || !value.matches("^\\d{2}\\.\\d{3}\\.\\d{3}\\/\\d{4}\\-\\d{2}$")) {
+public final class Cnpj {
+
+    private final String value;
+
+    public Cnpj(final String value) {
+        this(value, true);
+    }
+
+    private Cnpj(final String value, final boolean checkDigits) {
+        if (!isValid(value, checkDigits)) {
             throw new ValidationException("Invalid value for Cnpj");
         }
+        this.value = value;
+    }
+
+    /**
+     * Restores a Cnpj already stored. Rows written before the check digits were verified only passed the mask,
+     * so only the mask is checked.
+     */
+    public static Cnpj restore(final String value) {
+        return new Cnpj(value, false);
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Cnpj cnpj = (Cnpj) o;
+        return Objects.equals(value, cnpj.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "Cnpj[value=" + value + "]";
+    }
+
+    /**
+     * Checks the 00.000.000/0000-00 mask and, when asked, both check digits in a single pass over the chars,
+     * without allocating. Sequences of a single repeated digit have valid check digits but are not valid CNPJs.
+     */
+    private static boolean isValid(final String value, final boolean checkDigits) {
+        if (value == null || value.length() != 18) {
+            return false;
+        }
+        int digits = 0;
+        int firstSum = 0;
+        int secondSum = 0;
+        boolean repeated = true;
+        for (int i = 0; i < 18; i++) {
+            final char c = value.charAt(i);
+            final char separator = separatorAt(i);
+            if (separator != 0) {
+                if (c != separator) {
+                    return false;
+                }
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            final int digit = c - '0';
+            repeated &= c == value.charAt(0);
+            if (digits < 12) {
+                firstSum += digit * (digits < 4 ? 5 - digits : 13 - digits);
+                secondSum += digit * (digits < 5 ? 6 - digits : 14 - digits);
+            } else if (digits == 12) {
+                if (checkDigits && digit != checkDigit(firstSum)) {
+                    return false;
+                }
+                secondSum += digit * 2;
+            } else if (checkDigits && digit != checkDigit(secondSum)) {
+                return false;
+            }
+            digits++;
+        }
+        return !checkDigits || !repeated;
+    }
+
+    private static char separatorAt(final int index) {
+        return switch (index) {
+            case 2, 6 -> '.';
+            case 10 -> '/';
+            case 15 -> '-';
+            default -> 0;
+        };
+    }
+
+    private static int checkDigit(final int sum) {
+        final int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
     }
 }
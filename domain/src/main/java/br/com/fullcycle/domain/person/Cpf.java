@@ -2,13 +2,102 @@ package br.com.fullcycle.domain.person;
 
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
-public record Cpf(
-        String value
-) {
+import java.util.Objects;
 
-    public Cpf {
-        if (value == null || !value.matches("^\\d{3}\\.\\d{3}\\.\\d{3}\\-\\d{2}$")) {
+public final class Cpf {
+
+    private final String value;
+
+    public Cpf(final String value) {
+        this(value, true);
+    }
+
+    private Cpf(final String value, final boolean checkDigits) {
+        if (!isValid(value, checkDigits)) {
             throw new ValidationException("Invalid value for Cpf");
         }
+        this.value = value;
+    }
+
+    /**
+     * Restores a Cpf already stored. Rows written before the check digits were verified only passed the mask,
+     * so only the mask is checked.
+     */
+    public static Cpf restore(final String value) {
+        return new Cpf(value, false);
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Cpf cpf = (Cpf) o;
+        return Objects.equals(value, cpf.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "Cpf[value=" + value + "]";
+    }
+
+    /**
+     * Checks the 000.000.000-00 mask and, when asked, both check digits in a single pass over the chars,
+     * without allocating. Sequences of a single repeated digit have valid check digits but are not valid CPFs.
+     */
+    private static boolean isValid(final String value, final boolean checkDigits) {
+        if (value == null || value.length() != 14) {
+            return false;
+        }
+        int digits = 0;
+        int firstSum = 0;
+        int secondSum = 0;
+        boolean repeated = true;
+        for (int i = 0; i < 14; i++) {
+            final char c = value.charAt(i);
+            if (i == 3 || i == 7) {
+                if (c != '.') {
+                    return false;
+                }
+                continue;
+            }
+            if (i == 11) {
+                if (c != '-') {
+                    return false;
+                }
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            final int digit = c - '0';
+            repeated &= c == value.charAt(0);
+            if (digits < 9) {
+                firstSum += digit * (10 - digits);
+                secondSum += digit * (11 - digits);
+            } else if (digits == 9) {
+                if (checkDigits && digit != checkDigit(firstSum)) {
+                    return false;
+                }
+                secondSum += digit * 2;
+            } else if (checkDigits && digit != checkDigit(secondSum)) {
+                return false;
+            }
+            digits++;
+        }
+        return !checkDigits || !repeated;
+    }
+
+    private static int checkDigit(final int sum) {
+        final int digit = 11 - sum % 11;
+        return digit >= 10 ? 0 : digit;
     }
 }
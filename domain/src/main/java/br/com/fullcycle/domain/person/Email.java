@@ -2,12 +2,16 @@ package br.com.fullcycle.domain.person;
 
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
+import java.util.regex.Pattern;
+
 public record Email(
         String value
 ) {
 
+    private static final Pattern PATTERN = Pattern.compile("^([a-z0-9_\\.-]+)@([\\da-z\\.-]+)\\.([a-z\\.]{2,6})$");
+
     public Email {
-        if (value == null || !value.matches("^([a-z0-9_\\.-]+)@([\\da-z\\.-]+)\\.([a-z\\.]{2,6})$")) {
+        if (value == null || !PATTERN.matcher(value).matches()) {
             throw new ValidationException("Invalid value for Email");
         }
     }
@@ -0,0 +1,64 @@
+package br.com.fullcycle.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorTest {
+
+    @Test
+    @DisplayName("Deve gerar um UUIDv7 com o instante da geração")
+    public void testTimeOrderedId() throws Exception {
+        // Given
+        final var expectedMillis = 1_700_000_000_000L;
+        final var generator = new TimeOrderedIdGenerator(() -> expectedMillis);
+
+        // When
+        final var actualId = generator.next();
+
+        // Then
+        assertEquals(7, actualId.version());
+        assertEquals(2, actualId.variant());
+        assertEquals(expectedMillis, actualId.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    @DisplayName("Deve gerar ids crescentes no mesmo milissegundo e quando o relógio volta")
+    public void testTimeOrderedIdsAreIncreasing() throws Exception {
+        // Given
+        final var millis = new long[]{1_700_000_000_000L};
+        final var generator = new TimeOrderedIdGenerator(() -> millis[0]);
+
+        // When
+        final var actualIds = new ArrayList<UUID>();
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                millis[0] -= 1_000;
+            }
+            actualIds.add(generator.next());
+        }
+
+        // Then
+        for (int i = 1; i < actualIds.size(); i++) {
+            assertTrue(Long.compareUnsigned(actualIds.get(i - 1).getMostSignificantBits(),
+                    actualIds.get(i).getMostSignificantBits()) < 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar um gerador nulo")
+    public void testUseNullGenerator() throws Exception {
+        // Given
+        final var expectedErrorMessage = "IdGenerator cannot be null";
+
+        // When
+        final var actualException = assertThrows(IllegalArgumentException.class, () -> IdGenerators.use(null));
+
+        // Then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -1,14 +1,18 @@
 package br.com.fullcycle.domain.event;
 
 import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.ticket.Ticket;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.domain.partner.PartnerId;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
 import static org.junit.jupiter.api.Assertions.*;
@@ -219,7 +223,7 @@ class EventTest {
 
         anEvent.reserveTicket(expectedCustomerId);
 
-        final var expectedErrorMessage = "Email already registered";
+        final var expectedErrorMessage = "Customer already subscribed to this event";
 
         // When
         Executable invalidMethodCall = () -> anEvent.reserveTicket(expectedCustomerId);
@@ -229,4 +233,99 @@ class EventTest {
         assertNotNull(actualException);
         assertEquals(expectedErrorMessage, actualException.getMessage());
     }
+
+    @Test
+    @DisplayName("Deve reservar um ticket a partir do contador de reservas")
+    public void testReserveTicketFromReservedSpots() throws Exception {
+        // Given
+        final var expectedEventTotalSpots = 10;
+        final var expectedReservedSpots = 5;
+        final var expectedTicketOrder = 6;
+
+        final var aCustomer = Customer.newCustomer(
+                "John Doe", "926.400.290-10", "john.doe@gmail.com");
+
+        final var anEvent = Event.with(
+                EventId.unique(),
+                "Disney on Ice",
+                "2021-01-01",
+                expectedEventTotalSpots,
+                PartnerId.unique(),
+                expectedReservedSpots,
+                0L,
+                new HashSet<>());
+
+        // When
+        final var actualTicket = anEvent.reserveTicket(aCustomer.customerId());
+
+        // Then
+        assertEquals(expectedTicketOrder, actualTicket.ordering());
+        assertEquals(expectedTicketOrder, anEvent.reservedSpots());
+        assertEquals(1, anEvent.allTickets().size());
+        assertEquals(1, anEvent.allDomainEvents().size());
+    }
+
+    @Test
+    @DisplayName("Não deve reservar um ticket quando o contador de reservas atingiu o total de lugares")
+    public void testReserveTicketWhenReservedSpotsReachedTotalSpots() throws Exception {
+        // Given
+        final var expectedEventTotalSpots = 10;
+
+        final var aCustomer = Customer.newCustomer(
+                "John Doe", "926.400.290-10", "john.doe@gmail.com");
+
+        final var anEvent = Event.with(
+                EventId.unique(),
+                "Disney on Ice",
+                "2021-01-01",
+                expectedEventTotalSpots,
+                PartnerId.unique(),
+                expectedEventTotalSpots,
+                0L,
+                new HashSet<>());
+
+        final var expectedErrorMessage = "Event sold out";
+
+        // When
+        Executable invalidMethodCall = () -> anEvent.reserveTicket(aCustomer.customerId());
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class, invalidMethodCall);
+        assertNotNull(actualException);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertTrue(anEvent.allTickets().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve liberar o lugar de um ticket expirado")
+    public void testReleaseExpiredTicket() throws Exception {
+        // Given
+        final var aTicket = Ticket.newTicket(CustomerId.unique(), EventId.unique());
+        aTicket.expire();
+
+        // When
+        final var actualEvent = Event.releaseExpiredTicket(aTicket);
+
+        // Then
+        assertEquals("event-ticket.released", actualEvent.type());
+        assertEquals(aTicket.ticketId().value(), actualEvent.ticketId());
+        assertEquals(aTicket.eventId().value(), actualEvent.eventId());
+        assertEquals(aTicket.customerId().value(), actualEvent.customerId());
+    }
+
+    @Test
+    @DisplayName("Não deve liberar o lugar de um ticket que não expirou")
+    public void testReleasePendingTicket() throws Exception {
+        // Given
+        final var aTicket = Ticket.newTicket(CustomerId.unique(), EventId.unique());
+
+        final var expectedErrorMessage = "Only an expired ticket can be released";
+
+        // When
+        final var actualException = assertThrows(ValidationException.class,
+                () -> Event.releaseExpiredTicket(aTicket));
+
+        // Then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
 }
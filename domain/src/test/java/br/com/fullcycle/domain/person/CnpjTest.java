@@ -40,6 +40,40 @@ class CnpjTest {
         assertEquals(expectedErrorMessage, actualException.getMessage());
     }
 
+    @Test
+    @DisplayName("Não deve instanciar um CNPJ com dígito verificador inválido")
+    public void testCreateCnpjWithInvalidCheckDigit() throws Exception {
+        // Given
+        final var anInvalidCnpj = "06.518.614/0001-47";
+
+        final var expectedErrorMessage = "Invalid value for Cnpj";
+
+        // When
+        Executable invalidMethodCall = () -> new Cnpj(anInvalidCnpj);
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class, invalidMethodCall);
+        assertNotNull(actualException);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Não deve instanciar um CNPJ com todos os dígitos iguais")
+    public void testCreateCnpjWithRepeatedDigits() throws Exception {
+        // Given
+        final var anInvalidCnpj = "00.000.000/0000-00";
+
+        final var expectedErrorMessage = "Invalid value for Cnpj";
+
+        // When
+        Executable invalidMethodCall = () -> new Cnpj(anInvalidCnpj);
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class, invalidMethodCall);
+        assertNotNull(actualException);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
     @Test
     @DisplayName("Não deve instanciar um CNPJ nulo")
     public void testCreateCnpjWithInvalidNullValue() throws Exception {
@@ -56,4 +90,33 @@ class CnpjTest {
         assertNotNull(actualException);
         assertEquals(expectedErrorMessage, actualException.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve restaurar um CNPJ armazenado sem verificar os dígitos verificadores")
+    public void testRestoreCnpjWithInvalidCheckDigit() throws Exception {
+        // Given
+        final var expectedCnpj = "06.518.614/0001-47";
+
+        // When
+        final var actualCnpj = Cnpj.restore(expectedCnpj);
+
+        // Then
+        assertEquals(expectedCnpj, actualCnpj.value());
+    }
+
+    @Test
+    @DisplayName("Não deve restaurar um CNPJ fora da máscara")
+    public void testRestoreCnpjWithInvalidValue() throws Exception {
+        // Given
+        final var anInvalidCnpj = "06.518.614000147";
+
+        final var expectedErrorMessage = "Invalid value for Cnpj";
+
+        // When
+        Executable invalidMethodCall = () -> Cnpj.restore(anInvalidCnpj);
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class, invalidMethodCall);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
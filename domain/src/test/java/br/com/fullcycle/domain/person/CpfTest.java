@@ -40,6 +40,40 @@ class CpfTest {
         assertEquals(expectedErrorMessage, actualException.getMessage());
     }
 
+    @Test
+    @DisplayName("Não deve instanciar um CPF com dígito verificador inválido")
+    public void testCreateCpfWithInvalidCheckDigit() throws Exception {
+        // Given
+        final var anInvalidCpf = "774.839.010-05";
+
+        final var expectedErrorMessage = "Invalid value for Cpf";
+
+        // When
+        Executable invalidMethodCall = () -> new Cpf(anInvalidCpf);
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class, invalidMethodCall);
+        assertNotNull(actualException);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Não deve instanciar um CPF com todos os dígitos iguais")
+    public void testCreateCpfWithRepeatedDigits() throws Exception {
+        // Given
+        final var anInvalidCpf = "000.000.000-00";
+
+        final var expectedErrorMessage = "Invalid value for Cpf";
+
+        // When
+        Executable invalidMethodCall = () -> new Cpf(anInvalidCpf);
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class, invalidMethodCall);
+        assertNotNull(actualException);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
     @Test
     @DisplayName("Não deve instanciar um CPF nulo")
     public void testCreateCpfWithInvalidNullValue() throws Exception {
@@ -56,4 +90,33 @@ class CpfTest {
         assertNotNull(actualException);
         assertEquals(expectedErrorMessage, actualException.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve restaurar um CPF armazenado sem verificar os dígitos verificadores")
+    public void testRestoreCpfWithInvalidCheckDigit() throws Exception {
+        // Given
+        final var expectedCpf = "774.839.010-05";
+
+        // When
+        final var actualCpf = Cpf.restore(expectedCpf);
+
+        // Then
+        assertEquals(expectedCpf, actualCpf.value());
+    }
+
+    @Test
+    @DisplayName("Não deve restaurar um CPF fora da máscara")
+    public void testRestoreCpfWithInvalidValue() throws Exception {
+        // Given
+        final var anInvalidCpf = "774.83901004";
+
+        final var expectedErrorMessage = "Invalid value for Cpf";
+
+        // When
+        Executable invalidMethodCall = () -> Cpf.restore(anInvalidCpf);
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class, invalidMethodCall);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
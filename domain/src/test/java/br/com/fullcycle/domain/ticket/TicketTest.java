@@ -1,12 +1,18 @@
 package br.com.fullcycle.domain.ticket;
 
 import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerId;
 import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventId;
 import br.com.fullcycle.domain.event.ticket.Ticket;
 import br.com.fullcycle.domain.partner.Partner;
 import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.domain.exceptions.ValidationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -51,4 +57,103 @@ class TicketTest {
         assertEquals(expectedCustomerId, actualTicket.customerId());
         assertEquals(expectedTicketStatus, actualTicket.status());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve confirmar o pagamento de um ticket pendente")
+    public void testConfirmPayment() throws Exception {
+        // Given
+        final var aTicket = Ticket.newTicket(CustomerId.unique(), EventId.unique());
+
+        // When
+        aTicket.confirmPayment();
+
+        // Then
+        assertEquals(TicketStatus.PROCESSING, aTicket.status());
+        assertNull(aTicket.paidAt());
+    }
+
+    @Test
+    @DisplayName("Deve liquidar o pagamento de um ticket em processamento")
+    public void testSettle() throws Exception {
+        // Given
+        final var aTicket = Ticket.newTicket(CustomerId.unique(), EventId.unique());
+        aTicket.confirmPayment();
+
+        final var expectedPaidAt = Instant.now();
+
+        // When
+        aTicket.settle(expectedPaidAt);
+
+        // Then
+        assertEquals(TicketStatus.PAID, aTicket.status());
+        assertEquals(expectedPaidAt, aTicket.paidAt());
+    }
+
+    @Test
+    @DisplayName("Não deve liquidar o pagamento de um ticket não confirmado")
+    public void testSettlePendingTicket() throws Exception {
+        // Given
+        final var aTicket = Ticket.newTicket(CustomerId.unique(), EventId.unique());
+
+        final var expectedErrorMessage = "Ticket cannot move from PENDING to PAID";
+
+        // When
+        Executable invalidMethodCall = () -> aTicket.settle(Instant.now());
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class, invalidMethodCall);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals(TicketStatus.PENDING, aTicket.status());
+        assertNull(aTicket.paidAt());
+    }
+
+    @Test
+    @DisplayName("Não deve confirmar novamente o pagamento de um ticket pago")
+    public void testConfirmPaymentOfPaidTicket() throws Exception {
+        // Given
+        final var aTicket = Ticket.newTicket(CustomerId.unique(), EventId.unique());
+        aTicket.confirmPayment();
+        aTicket.settle(Instant.now());
+
+        final var expectedErrorMessage = "Ticket cannot move from PAID to PROCESSING";
+
+        // When
+        Executable invalidMethodCall = aTicket::confirmPayment;
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class, invalidMethodCall);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve expirar um ticket pendente")
+    public void testExpire() throws Exception {
+        // Given
+        final var aTicket = Ticket.newTicket(CustomerId.unique(), EventId.unique());
+
+        // When
+        aTicket.expire();
+
+        // Then
+        assertEquals(TicketStatus.EXPIRED, aTicket.status());
+        assertNull(aTicket.paidAt());
+    }
+
+    @Test
+    @DisplayName("Não deve expirar um ticket com pagamento confirmado")
+    public void testExpireProcessingTicket() throws Exception {
+        // Given
+        final var aTicket = Ticket.newTicket(CustomerId.unique(), EventId.unique());
+        aTicket.confirmPayment();
+
+        final var expectedErrorMessage = "Ticket cannot move from PROCESSING to EXPIRED";
+
+        // When
+        Executable invalidMethodCall = aTicket::expire;
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class, invalidMethodCall);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals(TicketStatus.PROCESSING, aTicket.status());
+    }
+}
@@ -8,6 +8,16 @@ plugins {
 
 group = "br.com.fullcycle.infrastructure"
 
+// SKIP LOCKED, used to claim outbox messages, is only available from H2 2.2 on
+extra["h2.version"] = "2.2.224"
+
+// Virtual threads are a Java 21 API, so their configuration is only compiled with -PjavaVersion=21
+if (extra["javaVersion"] as Int >= 21) {
+    sourceSets.main {
+        java.srcDir("src/main/java21")
+    }
+}
+
 tasks.bootJar {
     archiveBaseName.set("application")
     destinationDirectory.set(file("${rootProject.buildDir}/libs"))
@@ -17,10 +27,13 @@ dependencies {
     implementation(project(":domain"))
     implementation(project(":application"))
 
-    implementation("io.hypersistence:hypersistence-tsid:2.1.0")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-graphql")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.flywaydb:flyway-core")
+    implementation("org.flywaydb:flyway-mysql")
 
     runtimeOnly("com.mysql:mysql-connector-j")
 
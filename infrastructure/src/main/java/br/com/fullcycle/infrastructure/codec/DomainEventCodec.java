@@ -0,0 +1,68 @@
+package br.com.fullcycle.infrastructure.codec;
+
+import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.event.EventTicketReleased;
+import br.com.fullcycle.domain.event.EventTicketReserved;
+import br.com.fullcycle.domain.event.ticket.TicketCreated;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Encodes and decodes the {@link DomainEvent}s stored in the outbox. Readers and writers are resolved once
+ * per registered record type, so decoding a message is a single streaming pass over its body, picked by the
+ * type stored next to it instead of by looking inside it.
+ */
+@Component
+public class DomainEventCodec {
+
+    private final Map<String, ObjectReader> readers = new HashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new HashMap<>();
+
+    @Autowired
+    public DomainEventCodec(final ObjectMapper mapper) {
+        this(mapper, Map.of(
+                "event-ticket.reserved", EventTicketReserved.class,
+                "event-ticket.released", EventTicketReleased.class,
+                "ticket.created", TicketCreated.class));
+    }
+
+    public DomainEventCodec(final ObjectMapper mapper, final Map<String, Class<? extends DomainEvent>> types) {
+        Objects.requireNonNull(mapper);
+        types.forEach((type, recordType) -> {
+            this.readers.put(type, mapper.readerFor(recordType));
+            this.writers.put(recordType, mapper.writerFor(recordType));
+        });
+    }
+
+    public String encode(final DomainEvent aDomainEvent) {
+        final var writer = this.writers.get(aDomainEvent.getClass());
+        if (writer == null) {
+            throw new IllegalArgumentException("Unregistered domain event: " + aDomainEvent.getClass().getName());
+        }
+        try {
+            return writer.writeValueAsString(aDomainEvent);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public DomainEvent decode(final String type, final String content) {
+        final var reader = this.readers.get(type);
+        if (reader == null) {
+            throw new IllegalArgumentException("Unregistered domain event type: " + type);
+        }
+        try {
+            return reader.readValue(content);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
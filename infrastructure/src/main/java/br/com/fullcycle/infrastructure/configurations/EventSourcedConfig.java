@@ -0,0 +1,22 @@
+package br.com.fullcycle.infrastructure.configurations;
+
+import br.com.fullcycle.application.event.SeatInventory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Stands in for the beans that read {@code events} and {@code events_tickets}, which are off with
+ * {@code events.storage=event-sourced}. Reservations are admitted straight to the stream, whose keys reject a
+ * customer reserving twice and a write on a stale version. The reservation expiry and the association of the
+ * created tickets to their slots have no counterpart in this mode.
+ */
+@Configuration
+@ConditionalOnProperty(name = "events.storage", havingValue = "event-sourced")
+public class EventSourcedConfig {
+
+    @Bean
+    public SeatInventory seatInventory() {
+        return SeatInventory.unbounded();
+    }
+}
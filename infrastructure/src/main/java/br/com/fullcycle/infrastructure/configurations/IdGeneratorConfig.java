@@ -0,0 +1,22 @@
+package br.com.fullcycle.infrastructure.configurations;
+
+import br.com.fullcycle.domain.IdGenerator;
+import br.com.fullcycle.domain.IdGenerators;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Chooses how aggregate ids are generated: {@code ids.generator=time-ordered} (UUIDv7, the default) or
+ * {@code random} (UUIDv4).
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    public IdGeneratorConfig(@Value("${ids.generator:time-ordered}") final String generator) {
+        IdGenerators.use(switch (generator) {
+            case "time-ordered" -> IdGenerator.timeOrdered();
+            case "random" -> IdGenerator.random();
+            default -> throw new IllegalArgumentException("Unknown id generator: " + generator);
+        });
+    }
+}
@@ -1,19 +1,36 @@
 package br.com.fullcycle.infrastructure.configurations;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Platform threads for the outbox relay workers and the queue consumers. With {@code threads.virtual.enabled}
+ * these beans come from {@code VirtualThreadsConfig} instead, which is only built for Java 21.
+ */
 @Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "false", matchIfMissing = true)
 public class OutboxConfig {
 
     @Bean
-    public TaskExecutor queueExecutor() {
+    public TaskExecutor outboxRelayExecutor(@Value("${outbox.relay.workers:1}") final int workers) {
         final var executor = new ThreadPoolTaskExecutor();
-        executor.setQueueCapacity(200);
-        executor.setMaxPoolSize(Runtime.getRuntime().availableProcessors() * 4);
-        executor.setCorePoolSize(2);
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("outbox-relay-");
         return executor;
     }
+
+    @Bean
+    public ThreadFactory consumerThreadFactory() {
+        final var threadFactory = new CustomizableThreadFactory("consumer-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
 }
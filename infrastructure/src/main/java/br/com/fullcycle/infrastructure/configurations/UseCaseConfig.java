@@ -1,19 +1,35 @@
 package br.com.fullcycle.infrastructure.configurations;
 
+import br.com.fullcycle.application.RetryPolicy;
+import br.com.fullcycle.application.event.SeatInventory;
+import br.com.fullcycle.application.ticket.ConfirmTicketPaymentUseCase;
 import br.com.fullcycle.application.ticket.CreateTicketForCustomerUseCase;
+import br.com.fullcycle.application.ticket.ExpireReservationsUseCase;
+import br.com.fullcycle.application.ticket.ReservationExpiry;
+import br.com.fullcycle.application.ticket.SettleTicketPaymentsUseCase;
 import br.com.fullcycle.domain.customer.CustomerRepository;
 import br.com.fullcycle.domain.event.EventRepository;
 import br.com.fullcycle.domain.partner.PartnerRepository;
 import br.com.fullcycle.domain.event.ticket.TicketRepository;
 import br.com.fullcycle.application.customer.CreateCustomerUseCase;
+import br.com.fullcycle.application.customer.CustomerQuery;
 import br.com.fullcycle.application.customer.GetCustomerByIdUseCase;
+import br.com.fullcycle.application.customer.ImportCustomersUseCase;
 import br.com.fullcycle.application.event.CreateEventUseCase;
+import br.com.fullcycle.application.event.EventAvailabilityQuery;
+import br.com.fullcycle.application.event.EventQuery;
+import br.com.fullcycle.application.event.GetEventAvailabilityUseCase;
+import br.com.fullcycle.application.event.ListEventsUseCase;
 import br.com.fullcycle.application.event.SubscribeCustomerToEventUseCase;
 import br.com.fullcycle.application.partner.CreatePartnerUseCase;
 import br.com.fullcycle.application.partner.GetPartnerByIdUseCase;
+import br.com.fullcycle.application.partner.PartnerQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.Objects;
 
 @Configuration
@@ -23,16 +39,19 @@ public class UseCaseConfig {
     private final EventRepository eventRepository;
     private final PartnerRepository partnerRepository;
     private final TicketRepository ticketRepository;
+    private final SeatInventory seatInventory;
 
     public UseCaseConfig(
             final CustomerRepository customerRepository,
             final EventRepository eventRepository,
             final PartnerRepository partnerRepository,
-            final TicketRepository ticketRepository) {
+            final TicketRepository ticketRepository,
+            final SeatInventory seatInventory) {
         this.customerRepository = Objects.requireNonNull(customerRepository);
         this.eventRepository = Objects.requireNonNull(eventRepository);
         this.partnerRepository = Objects.requireNonNull(partnerRepository);
         this.ticketRepository = Objects.requireNonNull(ticketRepository);
+        this.seatInventory = Objects.requireNonNull(seatInventory);
     }
 
     @Bean
@@ -46,28 +65,73 @@ public class UseCaseConfig {
         return new CreateEventUseCase(eventRepository, partnerRepository);
     }
 
+    @Bean
+    public ListEventsUseCase listEventsUseCase(final EventQuery eventQuery) {
+        return new ListEventsUseCase(eventQuery);
+    }
+
+    @Bean
+    public GetEventAvailabilityUseCase getEventAvailabilityUseCase(
+            final EventAvailabilityQuery eventAvailabilityQuery) {
+        return new GetEventAvailabilityUseCase(eventAvailabilityQuery);
+    }
+
     @Bean
     public CreatePartnerUseCase createPartnerUseCase() {
         return new CreatePartnerUseCase(partnerRepository);
     }
 
     @Bean
-    public GetCustomerByIdUseCase getCustomerByIdUseCase() {
-        return new GetCustomerByIdUseCase(customerRepository);
+    public GetCustomerByIdUseCase getCustomerByIdUseCase(final CustomerQuery customerQuery) {
+        return new GetCustomerByIdUseCase(customerQuery);
+    }
+
+    @Bean
+    public ImportCustomersUseCase importCustomersUseCase(
+            @Value("${customers.import.batch-size:1000}") final int batchSize,
+            @Value("${customers.import.max-errors:1000}") final int maxErrors) {
+        return new ImportCustomersUseCase(customerRepository, batchSize, maxErrors);
     }
 
     @Bean
-    public GetPartnerByIdUseCase getPartnerByIdUseCase() {
-        return new GetPartnerByIdUseCase(partnerRepository);
+    public GetPartnerByIdUseCase getPartnerByIdUseCase(final PartnerQuery partnerQuery) {
+        return new GetPartnerByIdUseCase(partnerQuery);
     }
 
     @Bean
-    public SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase() {
-        return new SubscribeCustomerToEventUseCase(customerRepository, eventRepository);
+    public SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase(
+            @Value("${subscription.retry.max-attempts:5}") final int maxAttempts,
+            @Value("${subscription.retry.base-delay:5ms}") final Duration baseDelay,
+            @Value("${subscription.retry.max-delay:100ms}") final Duration maxDelay) {
+        return new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                seatInventory,
+                RetryPolicy.with(maxAttempts, baseDelay, maxDelay));
     }
 
     @Bean
     public CreateTicketForCustomerUseCase createTicketForCustomerUseCase() {
         return new CreateTicketForCustomerUseCase(ticketRepository);
     }
+
+    @Bean
+    public ConfirmTicketPaymentUseCase confirmTicketPaymentUseCase() {
+        return new ConfirmTicketPaymentUseCase(ticketRepository);
+    }
+
+    @Bean
+    public SettleTicketPaymentsUseCase settleTicketPaymentsUseCase(
+            @Value("${tickets.settlement.batch-size:5000}") final int batchSize) {
+        return new SettleTicketPaymentsUseCase(ticketRepository, batchSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "events.storage", havingValue = "relational", matchIfMissing = true)
+    public ExpireReservationsUseCase expireReservationsUseCase(
+            final ReservationExpiry reservationExpiry,
+            @Value("${reservations.ttl:15m}") final Duration ttl,
+            @Value("${reservations.expiry.batch-size:1000}") final int batchSize) {
+        return new ExpireReservationsUseCase(reservationExpiry, seatInventory, ttl, batchSize);
+    }
 }
@@ -0,0 +1,35 @@
+package br.com.fullcycle.infrastructure.configurations;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Stops the startup when {@code threads.virtual.enabled} is set on a JVM older than Java 21, or on a build
+ * without {@code VirtualThreadsConfig}, which is only compiled with {@code -PjavaVersion=21}. The thread beans of
+ * {@link OutboxConfig} are turned off by the flag, so the startup would otherwise fail later on their absence.
+ */
+@Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsCheckConfig {
+
+    static final String VIRTUAL_THREADS_CONFIG =
+            "br.com.fullcycle.infrastructure.configurations.VirtualThreadsConfig";
+
+    @Bean
+    public static BeanFactoryPostProcessor virtualThreadsCheck() {
+        return beanFactory -> {
+            final var javaVersion = Runtime.version().feature();
+            if (javaVersion < 21) {
+                throw new IllegalStateException(
+                        "threads.virtual.enabled requires Java 21, but the application runs on Java " + javaVersion);
+            }
+            if (!ClassUtils.isPresent(VIRTUAL_THREADS_CONFIG, beanFactory.getBeanClassLoader())) {
+                throw new IllegalStateException(
+                        "threads.virtual.enabled requires a build made with -PjavaVersion=21");
+            }
+        };
+    }
+}
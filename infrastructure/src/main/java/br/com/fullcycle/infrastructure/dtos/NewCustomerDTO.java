@@ -29,7 +29,7 @@ public record NewCustomerDTO(
 
     public static NewCustomerDTO from(final Customer customer) {
         return new NewCustomerDTO(
-                customer.customerId().value().toString(),
+                customer.customerId().value(),
                 customer.name().value(), customer.cpf().value(), customer.email().value());
     }
 
@@ -0,0 +1,51 @@
+package br.com.fullcycle.infrastructure.gateways;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Consumes the messages of one type with a fixed number of threads. At most {@code capacity} messages are
+ * queued or in flight: beyond that, {@link #submit(Runnable)} blocks the producer until a slot frees up,
+ * instead of rejecting the message.
+ */
+public class ConsumerLane implements AutoCloseable {
+
+    private final Semaphore slots;
+    private final ExecutorService executor;
+
+    public ConsumerLane(final ThreadFactory aThreadFactory, final int parallelism, final int capacity) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Lane parallelism must be at least 1");
+        }
+        if (capacity < parallelism) {
+            throw new IllegalArgumentException("Lane capacity must not be lower than its parallelism");
+        }
+        this.slots = new Semaphore(capacity);
+        this.executor = Executors.newFixedThreadPool(parallelism, Objects.requireNonNull(aThreadFactory));
+    }
+
+    public CompletableFuture<Void> submit(final Runnable aConsumer) {
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        try {
+            return CompletableFuture.runAsync(aConsumer, executor)
+                    .whenComplete((result, error) -> slots.release());
+        } catch (RuntimeException e) {
+            slots.release();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
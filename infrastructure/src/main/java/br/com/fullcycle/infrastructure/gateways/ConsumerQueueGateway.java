@@ -1,47 +1,138 @@
 package br.com.fullcycle.infrastructure.gateways;
 
 import br.com.fullcycle.application.ticket.CreateTicketForCustomerUseCase;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventTicketId;
+import br.com.fullcycle.domain.event.EventTicketReleased;
 import br.com.fullcycle.domain.event.EventTicketReserved;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.scheduling.annotation.Async;
+import br.com.fullcycle.domain.event.ticket.TicketCreated;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.infrastructure.codec.DomainEventCodec;
+import br.com.fullcycle.infrastructure.inventory.TicketAssociationBatcher;
+import br.com.fullcycle.infrastructure.queries.InMemoryEventAvailability;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
 
+/**
+ * Consumes the published messages in process. Each message type gets its own {@link ConsumerLane}, sized by
+ * {@code queue.consumer.lanes.<type>.parallelism} and {@code .capacity}, falling back to
+ * {@code queue.consumer.parallelism} and {@code queue.consumer.capacity}. The {@code ticket.created} messages
+ * skip the lanes: they are handed to the {@link TicketAssociationBatcher}, whose batches are far larger than a
+ * lane's parallelism, and are acknowledged when their batch commits.
+ * <p>
+ * With {@code events.storage=event-sourced} there is neither an availability projection to feed nor slots to
+ * associate the tickets to, so those messages are only acknowledged.
+ */
 @Component
-public class ConsumerQueueGateway implements QueueGateway {
+public class ConsumerQueueGateway implements QueueGateway, DisposableBean {
+
+    private static final String EVENT_TICKET_RESERVED = "event-ticket.reserved";
+    private static final String EVENT_TICKET_RELEASED = "event-ticket.released";
+    private static final String TICKET_CREATED = "ticket.created";
 
     private final CreateTicketForCustomerUseCase createTicketForCustomerUseCase;
-    private final ObjectMapper mapper;
+    private final InMemoryEventAvailability eventAvailability;
+    private final TicketAssociationBatcher ticketAssociationBatcher;
+    private final DomainEventCodec codec;
+    private final Environment environment;
+    private final ThreadFactory threadFactory;
+    private final int defaultParallelism;
+    private final int defaultCapacity;
+    private final Map<String, ConsumerLane> lanes = new ConcurrentHashMap<>();
 
     public ConsumerQueueGateway(final CreateTicketForCustomerUseCase createTicketForCustomerUseCase,
-                                final ObjectMapper mapper) {
+                                final ObjectProvider<InMemoryEventAvailability> eventAvailability,
+                                final ObjectProvider<TicketAssociationBatcher> ticketAssociationBatcher,
+                                final DomainEventCodec codec,
+                                final Environment environment,
+                                @Qualifier("consumerThreadFactory") final ThreadFactory threadFactory,
+                                @Value("${queue.consumer.parallelism:2}") final int defaultParallelism,
+                                @Value("${queue.consumer.capacity:200}") final int defaultCapacity) {
         this.createTicketForCustomerUseCase = Objects.requireNonNull(createTicketForCustomerUseCase);
-        this.mapper = Objects.requireNonNull(mapper);
+        this.eventAvailability = eventAvailability.getIfAvailable();
+        this.ticketAssociationBatcher = ticketAssociationBatcher.getIfAvailable();
+        this.codec = Objects.requireNonNull(codec);
+        this.environment = Objects.requireNonNull(environment);
+        this.threadFactory = Objects.requireNonNull(threadFactory);
+        this.defaultParallelism = defaultParallelism;
+        this.defaultCapacity = defaultCapacity;
     }
 
-    @Async(value = "queueExecutor")
     @Override
-    public void publish(final String content) {
-        if (content == null) {
+    public void publish(final QueueMessage message) {
+        if (message.content() == null) {
+            return;
+        }
+        if (TICKET_CREATED.equals(message.type())) {
+            associate(message).join();
             return;
         }
-        if (content.contains("event-ticket.reserved")) {
-            final var dto = safeRead(content, EventTicketReserved.class);
+        consume(message);
+    }
+
+    @Override
+    public List<CompletableFuture<Void>> publishAll(final List<QueueMessage> messages) {
+        return messages.stream().map(this::dispatch).toList();
+    }
+
+    @Override
+    public void destroy() {
+        this.lanes.values().forEach(ConsumerLane::close);
+    }
+
+    private CompletableFuture<Void> dispatch(final QueueMessage message) {
+        if (message.content() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (TICKET_CREATED.equals(message.type())) {
+            return associate(message);
+        }
+        return this.lanes.computeIfAbsent(message.type(), this::newLane).submit(() -> consume(message));
+    }
+
+    private ConsumerLane newLane(final String type) {
+        final var prefix = "queue.consumer.lanes." + type;
+        return new ConsumerLane(
+                threadFactory,
+                this.environment.getProperty(prefix + ".parallelism", Integer.class, defaultParallelism),
+                this.environment.getProperty(prefix + ".capacity", Integer.class, defaultCapacity));
+    }
+
+    private void consume(final QueueMessage message) {
+        if (EVENT_TICKET_RESERVED.equals(message.type())) {
+            final var dto = (EventTicketReserved) this.codec.decode(message.type(), message.content());
             final var input = new CreateTicketForCustomerUseCase.Input(
                     dto.eventTickedId(),
                     dto.eventId(),
                     dto.customerId());
             this.createTicketForCustomerUseCase.execute(input);
+            if (this.eventAvailability != null) {
+                this.eventAvailability.reserved(EventId.with(dto.eventId()), message.sequence());
+            }
+        } else if (EVENT_TICKET_RELEASED.equals(message.type()) && this.eventAvailability != null) {
+            final var dto = (EventTicketReleased) this.codec.decode(message.type(), message.content());
+            this.eventAvailability.released(EventId.with(dto.eventId()), message.sequence());
         }
     }
 
-    private <T> T safeRead(final String content, Class<T> tClass) {
-        try {
-            return this.mapper.readValue(content, tClass);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+    private CompletableFuture<Void> associate(final QueueMessage message) {
+        if (this.ticketAssociationBatcher == null) {
+            return CompletableFuture.completedFuture(null);
         }
+        final var dto = (TicketCreated) this.codec.decode(message.type(), message.content());
+        return this.ticketAssociationBatcher.associate(
+                EventTicketId.with(dto.eventTickedId()),
+                TicketId.with(dto.ticketId()));
     }
 }
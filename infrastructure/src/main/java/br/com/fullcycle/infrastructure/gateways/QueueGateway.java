@@ -1,6 +1,26 @@
 package br.com.fullcycle.infrastructure.gateways;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface QueueGateway {
 
-    void publish(String content);
+    void publish(QueueMessage message);
+
+    /**
+     * Publishes the messages and returns one acknowledgement per message, in the same order. An acknowledgement
+     * completes once the message has been consumed, or exceptionally if it could not be.
+     */
+    default List<CompletableFuture<Void>> publishAll(final List<QueueMessage> messages) {
+        return messages.stream()
+                .map(message -> {
+                    try {
+                        publish(message);
+                        return CompletableFuture.<Void>completedFuture(null);
+                    } catch (RuntimeException e) {
+                        return CompletableFuture.<Void>failedFuture(e);
+                    }
+                })
+                .toList();
+    }
 }
@@ -0,0 +1,11 @@
+package br.com.fullcycle.infrastructure.gateways;
+
+/**
+ * @param sequence the outbox sequence of the message, which orders the messages of an aggregate
+ */
+public record QueueMessage(
+        long sequence,
+        String type,
+        String content
+) {
+}
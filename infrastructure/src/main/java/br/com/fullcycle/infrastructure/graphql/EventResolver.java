@@ -1,13 +1,14 @@
 package br.com.fullcycle.infrastructure.graphql;
 
 import br.com.fullcycle.application.event.CreateEventUseCase;
+import br.com.fullcycle.application.event.ListEventsUseCase;
 import br.com.fullcycle.application.event.SubscribeCustomerToEventUseCase;
 import br.com.fullcycle.infrastructure.dtos.NewEventDTO;
 import br.com.fullcycle.infrastructure.dtos.SubscribeDTO;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 
@@ -16,12 +17,26 @@ public class EventResolver {
 
     private final CreateEventUseCase createEventUseCase;
     private final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase;
+    private final ListEventsUseCase listEventsUseCase;
 
     public EventResolver(
             final CreateEventUseCase createEventUseCase,
-            final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase) {
+            final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase,
+            final ListEventsUseCase listEventsUseCase) {
         this.createEventUseCase = Objects.requireNonNull(createEventUseCase);
         this.subscribeCustomerToEventUseCase = Objects.requireNonNull(subscribeCustomerToEventUseCase);
+        this.listEventsUseCase = Objects.requireNonNull(listEventsUseCase);
+    }
+
+    @QueryMapping
+    public ListEventsUseCase.Output events(
+            @Argument String partnerId,
+            @Argument String from,
+            @Argument String to,
+            @Argument Boolean available,
+            @Argument String after,
+            @Argument Integer limit) {
+        return listEventsUseCase.execute(ListEventsUseCase.Input.with(partnerId, from, to, available, after, limit));
     }
 
     @MutationMapping
@@ -31,7 +46,6 @@ public class EventResolver {
         return createEventUseCase.execute(command);
     }
 
-    @Transactional
     @MutationMapping
     public SubscribeCustomerToEventUseCase.Output subscribeCustomerToEvent(@Argument SubscribeDTO input) {
         final var command = SubscribeCustomerToEventUseCase.Input
@@ -0,0 +1,135 @@
+package br.com.fullcycle.infrastructure.imports;
+
+import br.com.fullcycle.application.customer.ImportCustomersUseCase.Row;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.infrastructure.dtos.NewCustomerDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Reads the rows of a customer list line by line, as they are imported, so that the list is never held in
+ * memory. Blank lines are skipped; a line that can't be read fails its own row only.
+ */
+public final class CustomerRows {
+
+    private CustomerRows() {
+    }
+
+    /**
+     * One JSON object per line, with the fields of {@link NewCustomerDTO}. A line holding anything else, such as
+     * {@code null}, is a malformed row.
+     */
+    public static Iterator<Row> ndjson(final BufferedReader aReader, final ObjectMapper aMapper) {
+        return new LineIterator(aReader, line -> {
+            try {
+                final var dto = aMapper.readValue(line, NewCustomerDTO.class);
+                if (dto == null) {
+                    throw new ValidationException("Malformed row");
+                }
+                return Row.with(dto.cpf(), dto.email(), dto.name());
+            } catch (JsonProcessingException e) {
+                throw new ValidationException("Malformed row");
+            }
+        });
+    }
+
+    /**
+     * Comma-separated values under a header naming the {@code name}, {@code cpf} and {@code email} columns, in
+     * any order. Values may be double-quoted.
+     */
+    public static Iterator<Row> csv(final BufferedReader aReader) {
+        final var headerLine = readLine(aReader);
+        final var header = split(headerLine == null ? "" : headerLine.toLowerCase());
+        final var name = header.indexOf("name");
+        final var cpf = header.indexOf("cpf");
+        final var email = header.indexOf("email");
+        if (name < 0 || cpf < 0 || email < 0) {
+            throw new ValidationException("CSV header must name the name, cpf and email columns");
+        }
+        final var columns = header.size();
+        return new LineIterator(aReader, line -> {
+            final var values = split(line);
+            if (values.size() != columns) {
+                throw new ValidationException("Malformed row");
+            }
+            return Row.with(values.get(cpf), values.get(email), values.get(name));
+        });
+    }
+
+    private static List<String> split(final String aLine) {
+        final var values = new ArrayList<String>();
+        final var value = new StringBuilder();
+        var quoted = false;
+        for (int i = 0; i < aLine.length(); i++) {
+            final var c = aLine.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < aLine.length() && aLine.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                values.add(value.toString().trim());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString().trim());
+        return values;
+    }
+
+    private static final class LineIterator implements Iterator<Row> {
+
+        private final BufferedReader reader;
+        private final Function<String, Row> parser;
+        private String next;
+
+        private LineIterator(final BufferedReader aReader, final Function<String, Row> aParser) {
+            this.reader = aReader;
+            this.parser = aParser;
+            this.next = nextLine();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Row next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            final var line = next;
+            this.next = nextLine();
+            return parser.apply(line);
+        }
+
+        private String nextLine() {
+            String line;
+            do {
+                line = readLine(reader);
+            } while (line != null && line.isBlank());
+            return line;
+        }
+    }
+
+    private static String readLine(final BufferedReader aReader) {
+        try {
+            return aReader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.fullcycle.infrastructure.inventory;
+
+import br.com.fullcycle.application.ticket.ReservationExpiry;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.ticket.Ticket;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.infrastructure.codec.DomainEventCodec;
+import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
+import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
+import br.com.fullcycle.infrastructure.queries.Uuids;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Expires reservations a batch per transaction, without loading the events they belong to.
+ * <p>
+ * The expired reservations are read through {@code idx_tickets_status_reserved_at}, which holds them
+ * ordered by deadline, so a batch reads only the rows it expires however many reservations are still
+ * open. Rows locked by another sweeper, or by a payment confirmation moving them to {@code PROCESSING} at
+ * that moment, are skipped and left for the next batch; a confirmation that comes after the expiry no longer
+ * finds the ticket {@code PENDING} and is rejected. The slots are deleted one by one through
+ * {@code uk_events_tickets_event_customer}, in a single JDBC batch: a list of customers in one statement is
+ * read by scanning every slot of the event. Each event has its row locked first, by bumping its version so a
+ * copy still holding the released slots is not saved back, the same order a reservation takes its locks in, and
+ * its counter moved down after the slots are deleted. Events are taken in id order, so two sweepers never wait
+ * on each other. A lock wait that times out or a deadlock is reported as a {@link ConcurrencyException}.
+ */
+@Component
+@ConditionalOnProperty(name = "events.storage", havingValue = "relational", matchIfMissing = true)
+public class DatabaseReservationExpiry implements ReservationExpiry {
+
+    private static final String PENDING_RESERVED_BEFORE = """
+            select id, customer_id, event_id, reserved_at from tickets
+            where status = 'PENDING' and reserved_at < ?
+            limit ?
+            for update skip locked
+            """;
+    private static final String EXPIRE_TICKET = "update tickets set status = 'EXPIRED' where id = ?";
+    private static final String RELEASE_SLOT = "delete from events_tickets where event_id = ? and customer_id = ?";
+    private static final String LOCK_EVENT = "update events set version = version + 1 where id = ?";
+    private static final String RELEASE_SPOTS =
+            "update events set reserved_spots = greatest(reserved_spots - ?, 0) where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxJpaRepository outboxJpaRepository;
+    private final DomainEventCodec codec;
+
+    public DatabaseReservationExpiry(
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager,
+            final OutboxJpaRepository outboxJpaRepository,
+            final DomainEventCodec codec) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.outboxJpaRepository = Objects.requireNonNull(outboxJpaRepository);
+        this.codec = Objects.requireNonNull(codec);
+    }
+
+    @Override
+    public List<Ticket> expireReservedBefore(final Instant aCutoff, final int aLimit) {
+        try {
+            return expire(aCutoff, aLimit);
+        } catch (PessimisticLockingFailureException e) {
+            throw new ConcurrencyException("Reservations were modified concurrently", e);
+        }
+    }
+
+    private List<Ticket> expire(final Instant aCutoff, final int aLimit) {
+        return this.transactionTemplate.execute(status -> {
+            final var tickets = this.jdbcTemplate.query(PENDING_RESERVED_BEFORE, (rs, rowNum) -> Ticket.with(
+                    TicketId.with(Uuids.fromBytes(rs.getBytes("id"))),
+                    CustomerId.with(Uuids.fromBytes(rs.getBytes("customer_id"))),
+                    EventId.with(Uuids.fromBytes(rs.getBytes("event_id"))),
+                    TicketStatus.PENDING,
+                    null,
+                    rs.getTimestamp("reserved_at").toInstant()
+            ), Timestamp.from(aCutoff), aLimit);
+            if (tickets.isEmpty()) {
+                return List.of();
+            }
+            tickets.forEach(Ticket::expire);
+
+            this.jdbcTemplate.batchUpdate(EXPIRE_TICKET, tickets.stream()
+                    .map(it -> new Object[]{Uuids.toBytes(it.ticketId().uuid())})
+                    .toList());
+            tickets.stream()
+                    .collect(Collectors.groupingBy(it -> it.eventId().uuid(), TreeMap::new, Collectors.toList()))
+                    .forEach(this::releaseSlots);
+            this.outboxJpaRepository.saveAll(tickets.stream()
+                    .map(it -> OutboxEntity.of("Event", it.eventId().uuid(),
+                            Event.releaseExpiredTicket(it), this.codec::encode))
+                    .toList());
+            return tickets;
+        });
+    }
+
+    private void releaseSlots(final UUID anEventId, final List<Ticket> tickets) {
+        final var anEventIdBytes = Uuids.toBytes(anEventId);
+        this.jdbcTemplate.update(LOCK_EVENT, (Object) anEventIdBytes);
+        final var counts = this.jdbcTemplate.batchUpdate(RELEASE_SLOT, tickets.stream()
+                .map(it -> new Object[]{anEventIdBytes, Uuids.toBytes(it.customerId().uuid())})
+                .toList());
+        int released = 0;
+        for (final var count : counts) {
+            released += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+        }
+        if (released > 0) {
+            this.jdbcTemplate.update(RELEASE_SPOTS, released, anEventIdBytes);
+        }
+    }
+}
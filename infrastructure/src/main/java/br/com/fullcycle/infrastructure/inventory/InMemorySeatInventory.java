@@ -0,0 +1,197 @@
+package br.com.fullcycle.infrastructure.inventory;
+
+import br.com.fullcycle.application.event.SeatInventory;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.infrastructure.jpa.repositories.EventJpaRepository;
+import br.com.fullcycle.infrastructure.jpa.repositories.EventTicketJpaRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the spots of each event in memory: the reservations the event row holds, plus the ones admitted here and
+ * still in flight. The events are bounded by {@code seat-inventory.maximum-events} and dropped after
+ * {@code seat-inventory.expire-after-access}.
+ * <p>
+ * Each event also keeps up to {@code seat-inventory.maximum-customers} of its subscribed customers, loaded with
+ * it and grown as reservations are confirmed, so a customer subscribing again is rejected without reaching the
+ * database. Customers beyond the bound are left to the repository.
+ * <p>
+ * {@link #reconcile} reads the counters of each event kept, never its tickets, and moves the count in place, so
+ * the reservations in flight are not lost. The customers are reloaded only when the event released reservations
+ * since they were read, which another node's expiry may have done. A reservation committed and not yet confirmed
+ * is counted twice until it is, which only rejects early: the repository remains the final arbiter.
+ */
+@Component
+@ConditionalOnProperty(name = "events.storage", havingValue = "relational", matchIfMissing = true)
+public class InMemorySeatInventory implements SeatInventory {
+
+    private final EventJpaRepository eventJpaRepository;
+    private final EventTicketJpaRepository eventTicketJpaRepository;
+    private final int maximumCustomers;
+    private final Cache<UUID, Seats> seats;
+
+    public InMemorySeatInventory(
+            final EventJpaRepository eventJpaRepository,
+            final EventTicketJpaRepository eventTicketJpaRepository,
+            final MeterRegistry meterRegistry,
+            @Value("${seat-inventory.maximum-events:10000}") final long maximumEvents,
+            @Value("${seat-inventory.maximum-customers:1000}") final int maximumCustomers,
+            @Value("${seat-inventory.expire-after-access:10m}") final Duration expireAfterAccess) {
+        if (maximumCustomers < 0) {
+            throw new IllegalArgumentException("seat-inventory.maximum-customers must not be negative");
+        }
+        this.eventJpaRepository = Objects.requireNonNull(eventJpaRepository);
+        this.eventTicketJpaRepository = Objects.requireNonNull(eventTicketJpaRepository);
+        this.maximumCustomers = maximumCustomers;
+        this.seats = Caffeine.newBuilder()
+                .maximumSize(maximumEvents)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, seats, "seats");
+    }
+
+    @Override
+    public void reserve(final EventId anEventId, final CustomerId aCustomerId) {
+        final var someSeats = this.seats.get(anEventId.uuid(), this::load);
+        if (someSeats == null) {
+            return;
+        }
+        someSeats.reserve(aCustomerId.uuid());
+    }
+
+    @Override
+    public void confirm(final EventId anEventId, final CustomerId aCustomerId) {
+        final var someSeats = this.seats.getIfPresent(anEventId.uuid());
+        if (someSeats != null) {
+            someSeats.confirm(aCustomerId.uuid());
+        }
+    }
+
+    @Override
+    public void release(final EventId anEventId, final CustomerId aCustomerId) {
+        final var someSeats = this.seats.getIfPresent(anEventId.uuid());
+        if (someSeats != null) {
+            someSeats.release(aCustomerId.uuid());
+        }
+    }
+
+    public void reconcile() {
+        this.seats.asMap().forEach((anEventId, someSeats) -> this.eventJpaRepository.countersOf(anEventId)
+                .ifPresentOrElse(
+                        counters -> {
+                            if (counters.releases() != someSeats.releases) {
+                                someSeats.reloadCustomers(customerIdsOf(anEventId), counters.releases());
+                            }
+                            someSeats.reconcile(counters.getReservedSpots());
+                        },
+                        () -> this.seats.invalidate(anEventId)));
+    }
+
+    private Seats load(final UUID anEventId) {
+        return this.eventJpaRepository.findById(anEventId)
+                .map(anEvent -> new Seats(
+                        anEvent.getTotalSpots(),
+                        anEvent.getReservedSpots(),
+                        anEvent.getLastOrdering() - anEvent.getReservedSpots(),
+                        customerIdsOf(anEventId),
+                        maximumCustomers))
+                .orElse(null);
+    }
+
+    private List<UUID> customerIdsOf(final UUID anEventId) {
+        if (maximumCustomers == 0) {
+            return List.of();
+        }
+        return this.eventTicketJpaRepository.customerIdsOf(anEventId, PageRequest.of(0, maximumCustomers));
+    }
+
+    private static final class Seats {
+
+        private final int totalSpots;
+        private final int maximumCustomers;
+        private final AtomicInteger reservedSpots;
+        private final Set<UUID> inFlight;
+        private volatile Set<UUID> subscribed;
+        private volatile int releases;
+
+        private Seats(final int totalSpots,
+                      final int reservedSpots,
+                      final int releases,
+                      final List<UUID> subscribed,
+                      final int maximumCustomers) {
+            this.totalSpots = totalSpots;
+            this.maximumCustomers = maximumCustomers;
+            this.reservedSpots = new AtomicInteger(reservedSpots);
+            this.inFlight = ConcurrentHashMap.newKeySet();
+            this.subscribed = newSubscribed(subscribed);
+            this.releases = releases;
+        }
+
+        private void reserve(final UUID aCustomerId) {
+            if (this.subscribed.contains(aCustomerId) || !this.inFlight.add(aCustomerId)) {
+                throw new ValidationException("Customer already subscribed to this event");
+            }
+            int current;
+            do {
+                current = this.reservedSpots.get();
+                if (current >= this.totalSpots) {
+                    this.inFlight.remove(aCustomerId);
+                    throw new ValidationException("Event sold out");
+                }
+            } while (!this.reservedSpots.compareAndSet(current, current + 1));
+        }
+
+        /**
+         * Kept among the subscribed customers before it leaves the ones in flight, so a second reservation never
+         * finds it in neither.
+         */
+        private void confirm(final UUID aCustomerId) {
+            final var someSubscribed = this.subscribed;
+            if (someSubscribed.size() < this.maximumCustomers) {
+                someSubscribed.add(aCustomerId);
+            }
+            this.inFlight.remove(aCustomerId);
+        }
+
+        /**
+         * Gives back the spot of a reservation in flight, or of a committed one that was released.
+         */
+        private void release(final UUID aCustomerId) {
+            this.subscribed.remove(aCustomerId);
+            this.inFlight.remove(aCustomerId);
+            this.reservedSpots.updateAndGet(current -> Math.max(0, current - 1));
+        }
+
+        private void reloadCustomers(final List<UUID> someSubscribed, final int someReleases) {
+            this.subscribed = newSubscribed(someSubscribed);
+            this.releases = someReleases;
+        }
+
+        private void reconcile(final int committedSpots) {
+            this.reservedSpots.set(committedSpots + this.inFlight.size());
+        }
+
+        private static Set<UUID> newSubscribed(final List<UUID> someCustomerIds) {
+            final Set<UUID> someSubscribed = ConcurrentHashMap.newKeySet();
+            someSubscribed.addAll(someCustomerIds);
+            return someSubscribed;
+        }
+    }
+}
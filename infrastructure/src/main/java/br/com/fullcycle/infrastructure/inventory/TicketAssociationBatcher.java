@@ -0,0 +1,147 @@
+package br.com.fullcycle.infrastructure.inventory;
+
+import br.com.fullcycle.domain.event.EventTicketId;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.infrastructure.queries.Uuids;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the ticket created for each reservation back to its slot in {@code events_tickets}, coalescing the
+ * associations into one JDBC batch per transaction instead of a round trip per ticket.
+ * <p>
+ * A batch is written as soon as it holds {@code tickets.association.batch-size} associations, or
+ * {@code tickets.association.max-delay} after its first one, whichever comes first. The future returned for an
+ * association completes only once its batch is committed, so a message is acknowledged to the relay only after
+ * its ticket is stored, and a failed batch is relayed again. Slots that already hold a ticket are left alone,
+ * so a redelivered message writes nothing.
+ * <p>
+ * Batches are written on the batcher's own thread, in a transaction of their own, so they never join a
+ * transaction of the thread that handed the association over, such as the relay's.
+ */
+@Component
+@ConditionalOnProperty(name = "events.storage", havingValue = "relational", matchIfMissing = true)
+public class TicketAssociationBatcher implements DisposableBean {
+
+    private static final String ASSOCIATE_TICKET = """
+            update events_tickets set ticket_id = ?
+            where event_ticked_id = ? and ticket_id is null
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService scheduler;
+    private final Counter associated;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private List<Association> pending = new ArrayList<>();
+
+    public TicketAssociationBatcher(
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry,
+            @Value("${tickets.association.batch-size:500}") final int batchSize,
+            @Value("${tickets.association.max-delay:50ms}") final Duration maxDelay) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("tickets.association.batch-size must be at least 1");
+        }
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.associated = Counter.builder("tickets.associated")
+                .description("Tickets written back to the slot of their reservation")
+                .register(meterRegistry);
+        this.batchSize = batchSize;
+        this.maxDelay = Objects.requireNonNull(maxDelay);
+        final var threadFactory = new CustomizableThreadFactory("ticket-association-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    public CompletableFuture<Void> associate(final EventTicketId anEventTicketId, final TicketId aTicketId) {
+        final var association = new Association(
+                Uuids.toBytes(anEventTicketId.uuid()), Uuids.toBytes(aTicketId.uuid()), new CompletableFuture<>());
+        final List<Association> batch;
+        synchronized (this) {
+            this.pending.add(association);
+            if (this.pending.size() < batchSize) {
+                if (this.pending.size() == 1) {
+                    this.scheduler.schedule(this::flush, maxDelay.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                return association.done();
+            }
+            batch = takePending();
+        }
+        try {
+            this.scheduler.execute(() -> write(batch));
+        } catch (RejectedExecutionException e) {
+            write(batch);
+        }
+        return association.done();
+    }
+
+    /**
+     * Writes whatever is pending right away.
+     */
+    public void flush() {
+        final List<Association> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        write(batch);
+    }
+
+    @Override
+    public void destroy() {
+        this.scheduler.shutdown();
+        flush();
+    }
+
+    private List<Association> takePending() {
+        final var batch = this.pending;
+        this.pending = new ArrayList<>();
+        return batch;
+    }
+
+    private void write(final List<Association> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            final var counts = this.transactionTemplate.execute(status -> this.jdbcTemplate.batchUpdate(
+                    ASSOCIATE_TICKET,
+                    batch.stream().map(it -> new Object[]{it.ticketId(), it.eventTicketId()}).toList()));
+            int written = 0;
+            for (final var count : counts) {
+                written += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+            this.associated.increment(written);
+            batch.forEach(it -> it.done().complete(null));
+        } catch (RuntimeException e) {
+            batch.forEach(it -> it.done().completeExceptionally(e));
+        }
+    }
+
+    private record Association(byte[] eventTicketId, byte[] ticketId, CompletableFuture<Void> done) {
+    }
+}
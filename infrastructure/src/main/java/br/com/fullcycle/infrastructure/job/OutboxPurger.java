@@ -0,0 +1,94 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class OutboxPurger {
+
+    private final OutboxJpaRepository outboxJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration publishedFor;
+    private final int chunkSize;
+    private final Counter purged;
+    private final DistributionSummary purgedPerRun;
+    private final AtomicLong pendingRows = new AtomicLong();
+    private final AtomicLong totalRows = new AtomicLong();
+
+    public OutboxPurger(final OutboxJpaRepository outboxJpaRepository,
+                        final PlatformTransactionManager transactionManager,
+                        final MeterRegistry meterRegistry,
+                        @Value("${outbox.retention.published-for:24h}") final Duration publishedFor,
+                        @Value("${outbox.retention.chunk-size:1000}") final int chunkSize) {
+        if (publishedFor.isNegative()) {
+            throw new IllegalArgumentException("outbox.retention.published-for must not be negative");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("outbox.retention.chunk-size must be at least 1");
+        }
+        this.outboxJpaRepository = Objects.requireNonNull(outboxJpaRepository);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.publishedFor = publishedFor;
+        this.chunkSize = chunkSize;
+        this.purged = Counter.builder("outbox.purged")
+                .description("Published outbox messages deleted by the retention job")
+                .register(meterRegistry);
+        this.purgedPerRun = DistributionSummary.builder("outbox.purge.run.rows")
+                .description("Published outbox messages deleted per retention run")
+                .register(meterRegistry);
+        Gauge.builder("outbox.rows", pendingRows, AtomicLong::get)
+                .description("Outbox messages, as of the last retention run")
+                .tag("state", "pending")
+                .register(meterRegistry);
+        Gauge.builder("outbox.rows", totalRows, AtomicLong::get)
+                .description("Outbox messages, as of the last retention run")
+                .tag("state", "all")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Deletes the messages published longer than the retention ago, one chunk per transaction, so row
+     * locks are held only for as long as a chunk takes and never compete with the relay, which only
+     * touches pending messages.
+     */
+    @Scheduled(
+            fixedDelayString = "${outbox.retention.interval:600000}",
+            initialDelayString = "${outbox.retention.initial-delay:60000}")
+    public long execute() {
+        final var cutoff = Instant.now().minus(publishedFor);
+        long total = 0;
+        int deleted;
+        do {
+            deleted = purgeChunk(cutoff);
+            total += deleted;
+        } while (deleted == chunkSize);
+
+        this.purged.increment(total);
+        this.purgedPerRun.record(total);
+        this.pendingRows.set(this.outboxJpaRepository.countByPublishedAtIsNull());
+        this.totalRows.set(this.outboxJpaRepository.count());
+        return total;
+    }
+
+    private int purgeChunk(final Instant cutoff) {
+        final Integer deleted = this.transactionTemplate.execute(status -> {
+            final var ids = this.outboxJpaRepository.findPublishedBefore(cutoff, PageRequest.ofSize(chunkSize));
+            return ids.isEmpty() ? 0 : this.outboxJpaRepository.deleteByIds(ids);
+        });
+        return deleted != null ? deleted : 0;
+    }
+}
@@ -1,32 +1,189 @@
 package br.com.fullcycle.infrastructure.job;
 
 import br.com.fullcycle.infrastructure.gateways.QueueGateway;
+import br.com.fullcycle.infrastructure.gateways.QueueMessage;
+import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
 import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 @Component
 public class OutboxRelay {
 
+    private static final int DEFAULT_MAX_ATTEMPTS = 10;
+    private static final Duration DEFAULT_CLAIM_TIMEOUT = Duration.ofSeconds(30);
+
     private final OutboxJpaRepository outboxJpaRepository;
     private final QueueGateway queueGateway;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor workerExecutor;
+    private final int batchSize;
+    private final int workers;
+    private final boolean drain;
+    private final int maxAttempts;
+    private final Duration claimTimeout;
+    private final Counter deadLettered;
+
+    public OutboxRelay(final OutboxJpaRepository outboxJpaRepository,
+                       final QueueGateway queueGateway,
+                       final PlatformTransactionManager transactionManager,
+                       final int batchSize,
+                       final boolean drain) {
+        this(outboxJpaRepository, queueGateway, transactionManager, Runnable::run, batchSize, 1, drain);
+    }
+
+    public OutboxRelay(final OutboxJpaRepository outboxJpaRepository,
+                       final QueueGateway queueGateway,
+                       final PlatformTransactionManager transactionManager,
+                       final Executor workerExecutor,
+                       final int batchSize,
+                       final int workers,
+                       final boolean drain) {
+        this(outboxJpaRepository, queueGateway, transactionManager, new SimpleMeterRegistry(), workerExecutor,
+                batchSize, workers, drain, DEFAULT_MAX_ATTEMPTS, DEFAULT_CLAIM_TIMEOUT);
+    }
 
+    @Autowired
     public OutboxRelay(final OutboxJpaRepository outboxJpaRepository,
-                       final QueueGateway queueGateway) {
+                       final QueueGateway queueGateway,
+                       final PlatformTransactionManager transactionManager,
+                       final MeterRegistry meterRegistry,
+                       @Qualifier("outboxRelayExecutor") final Executor workerExecutor,
+                       @Value("${outbox.relay.batch-size:500}") final int batchSize,
+                       @Value("${outbox.relay.workers:1}") final int workers,
+                       @Value("${outbox.relay.drain:true}") final boolean drain,
+                       @Value("${outbox.relay.max-attempts:10}") final int maxAttempts,
+                       @Value("${outbox.relay.claim-timeout:30s}") final Duration claimTimeout) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("outbox.relay.batch-size must be at least 1");
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("outbox.relay.workers must be at least 1");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("outbox.relay.max-attempts must be at least 1");
+        }
+        if (claimTimeout.isNegative() || claimTimeout.isZero()) {
+            throw new IllegalArgumentException("outbox.relay.claim-timeout must be positive");
+        }
         this.outboxJpaRepository = Objects.requireNonNull(outboxJpaRepository);
         this.queueGateway = Objects.requireNonNull(queueGateway);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.workerExecutor = Objects.requireNonNull(workerExecutor);
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.drain = drain;
+        this.maxAttempts = maxAttempts;
+        this.claimTimeout = claimTimeout;
+        this.deadLettered = Counter.builder("outbox.dead-lettered")
+                .description("Outbox messages moved to outbox_dead_letters after max-attempts relays")
+                .register(meterRegistry);
     }
 
-    @Scheduled(fixedRate = 2_000)
-    @Transactional
+    /**
+     * Relays one batch per tick or, when draining, keeps relaying batches until one comes back short.
+     * A batch is claimed in a short transaction that leases it to this relay for {@code claim-timeout}, then
+     * published outside of any transaction, and the acknowledgements are recorded in a second short transaction:
+     * no connection or row lock is held while the consumers work. Only acknowledged messages are marked as
+     * published. The others are released and relayed again on a later tick, until they have been attempted
+     * {@code max-attempts} times and are moved to {@code outbox_dead_letters}. A relay that dies mid-batch
+     * leaves its claim to expire. Batches are claimed with SKIP LOCKED, so the workers of this node and the
+     * relays of other nodes never wait on each other's rows.
+     */
+    @Scheduled(
+            fixedDelayString = "${outbox.relay.interval:2000}",
+            initialDelayString = "${outbox.relay.initial-delay:0}")
     public void execute() {
-        this.outboxJpaRepository.findTop100ByPublishedFalse()
-                .forEach(it -> {
-                    this.queueGateway.publish(it.getContent());
-                    this.outboxJpaRepository.save(it.notePublished());
-                });
+        if (workers == 1) {
+            relay();
+            return;
+        }
+        CompletableFuture.allOf(IntStream.range(0, workers)
+                        .mapToObj(i -> CompletableFuture.runAsync(this::relay, workerExecutor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    private void relay() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (drain && relayed == batchSize);
+    }
+
+    private int relayBatch() {
+        final var batch = claim();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        final var acks = this.queueGateway.publishAll(batch.stream()
+                .map(it -> new QueueMessage(it.getSequence(), it.getEventType(), it.getContent()))
+                .toList());
+        CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new))
+                .handle((result, error) -> null)
+                .completeOnTimeout(null, claimTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .join();
+
+        final var acknowledged = new ArrayList<UUID>();
+        final var unacknowledged = new ArrayList<UUID>();
+        final var exhausted = new ArrayList<UUID>();
+        for (int i = 0; i < batch.size(); i++) {
+            final var ack = acks.get(i);
+            final var message = batch.get(i);
+            if (ack.isDone() && !ack.isCompletedExceptionally()) {
+                acknowledged.add(message.getId());
+            } else if (message.getAttempts() + 1 >= maxAttempts) {
+                exhausted.add(message.getId());
+            } else {
+                unacknowledged.add(message.getId());
+            }
+        }
+        this.transactionTemplate.executeWithoutResult(status -> {
+            final var now = Instant.now();
+            if (!acknowledged.isEmpty()) {
+                this.outboxJpaRepository.markPublished(acknowledged, now);
+            }
+            if (!unacknowledged.isEmpty()) {
+                this.outboxJpaRepository.releaseClaims(unacknowledged);
+            }
+            if (!exhausted.isEmpty()) {
+                this.outboxJpaRepository.copyToDeadLetters(exhausted, now);
+                this.outboxJpaRepository.deleteByIds(exhausted);
+            }
+        });
+        this.deadLettered.increment(exhausted.size());
+        return acknowledged.size();
+    }
+
+    private List<OutboxEntity> claim() {
+        final List<OutboxEntity> batch = this.transactionTemplate.execute(status -> {
+            final var now = Instant.now();
+            final var claimed = this.outboxJpaRepository.claimPending(batchSize, now);
+            if (!claimed.isEmpty()) {
+                this.outboxJpaRepository.markClaimed(
+                        claimed.stream().map(OutboxEntity::getId).toList(), now.plus(claimTimeout));
+            }
+            return claimed;
+        });
+        return batch != null ? batch : List.of();
     }
 }
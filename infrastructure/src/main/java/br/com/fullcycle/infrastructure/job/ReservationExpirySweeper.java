@@ -0,0 +1,35 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.application.ticket.ExpireReservationsUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+@ConditionalOnProperty(name = "events.storage", havingValue = "relational", matchIfMissing = true)
+public class ReservationExpirySweeper {
+
+    private final ExpireReservationsUseCase expireReservationsUseCase;
+    private final Counter expired;
+
+    public ReservationExpirySweeper(final ExpireReservationsUseCase expireReservationsUseCase,
+                                    final MeterRegistry meterRegistry) {
+        this.expireReservationsUseCase = Objects.requireNonNull(expireReservationsUseCase);
+        this.expired = Counter.builder("reservations.expired")
+                .description("Unpaid reservations expired and given back to their events")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${reservations.expiry.interval:30000}",
+            initialDelayString = "${reservations.expiry.initial-delay:30000}")
+    public ExpireReservationsUseCase.Output execute() {
+        final var output = this.expireReservationsUseCase.execute();
+        this.expired.increment(output.expired());
+        return output;
+    }
+}
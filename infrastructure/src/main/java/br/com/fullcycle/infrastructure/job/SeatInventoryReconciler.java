@@ -0,0 +1,24 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.infrastructure.inventory.InMemorySeatInventory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+@ConditionalOnProperty(name = "events.storage", havingValue = "relational", matchIfMissing = true)
+public class SeatInventoryReconciler {
+
+    private final InMemorySeatInventory seatInventory;
+
+    public SeatInventoryReconciler(final InMemorySeatInventory seatInventory) {
+        this.seatInventory = Objects.requireNonNull(seatInventory);
+    }
+
+    @Scheduled(fixedDelayString = "${seat-inventory.reconcile-interval:5000}")
+    public void execute() {
+        this.seatInventory.reconcile();
+    }
+}
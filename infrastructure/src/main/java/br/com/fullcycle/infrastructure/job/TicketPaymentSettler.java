@@ -0,0 +1,33 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.application.ticket.SettleTicketPaymentsUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class TicketPaymentSettler {
+
+    private final SettleTicketPaymentsUseCase settleTicketPaymentsUseCase;
+    private final Counter settled;
+
+    public TicketPaymentSettler(final SettleTicketPaymentsUseCase settleTicketPaymentsUseCase,
+                                final MeterRegistry meterRegistry) {
+        this.settleTicketPaymentsUseCase = Objects.requireNonNull(settleTicketPaymentsUseCase);
+        this.settled = Counter.builder("tickets.settled")
+                .description("Tickets moved from PROCESSING to PAID by the settlement job")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${tickets.settlement.interval:10000}",
+            initialDelayString = "${tickets.settlement.initial-delay:10000}")
+    public SettleTicketPaymentsUseCase.Output execute() {
+        final var output = this.settleTicketPaymentsUseCase.execute();
+        this.settled.increment(output.settled());
+        return output;
+    }
+}
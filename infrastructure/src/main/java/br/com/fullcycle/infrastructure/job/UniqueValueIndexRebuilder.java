@@ -0,0 +1,26 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.infrastructure.uniqueness.UniqueValueIndex;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Builds the {@link UniqueValueIndex} at startup, then rebuilds it to pick up the values inserted by other
+ * instances and to drop the ones deleted or changed.
+ */
+@Component
+public class UniqueValueIndexRebuilder {
+
+    private final UniqueValueIndex uniqueValueIndex;
+
+    public UniqueValueIndexRebuilder(final UniqueValueIndex uniqueValueIndex) {
+        this.uniqueValueIndex = Objects.requireNonNull(uniqueValueIndex);
+    }
+
+    @Scheduled(fixedDelayString = "${unique-index.rebuild-interval:3600000}")
+    public void execute() {
+        this.uniqueValueIndex.rebuild();
+    }
+}
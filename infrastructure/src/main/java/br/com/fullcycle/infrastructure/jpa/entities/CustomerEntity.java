@@ -1,5 +1,6 @@
 package br.com.fullcycle.infrastructure.jpa.entities;
 
+import br.com.fullcycle.domain.customer.CustomerId;
 import br.com.fullcycle.domain.customer.Customer;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -45,7 +46,7 @@ public class CustomerEntity {
 
     public static CustomerEntity of(final Customer aCustomer) {
         return with(
-                UUID.fromString(aCustomer.customerId().value()),
+                aCustomer.customerId().uuid(),
                 aCustomer.name().value(),
                 aCustomer.cpf().value(),
                 aCustomer.email().value()
@@ -85,8 +86,8 @@ public class CustomerEntity {
     }
 
     public Customer toDomain() {
-        return Customer.with(
-                getId().toString(),
+        return Customer.restore(
+                CustomerId.with(getId()),
                 getName(),
                 getCpf(),
                 getEmail());
@@ -1,7 +1,9 @@
 package br.com.fullcycle.infrastructure.jpa.entities;
 
 import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventId;
 import br.com.fullcycle.domain.event.EventTicket;
+import br.com.fullcycle.domain.partner.PartnerId;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
@@ -26,9 +28,26 @@ public class EventEntity {
 
     private int totalSpots;
 
+    /**
+     * Moved only by the conditional increments of reservations and releases, never by saving the event, so
+     * that a copy read before a reservation does not write an outdated counter back.
+     */
+    @Column(updatable = false)
+    private int reservedSpots;
+
+    /**
+     * The ordering of the last slot handed out. Moved up with the counter on each reservation but never down on a
+     * release, so the ordering of a released slot is not given to another one.
+     */
+    @Column(updatable = false)
+    private int lastOrdering;
+
     private UUID partnerId;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, mappedBy = "event")
+    @Version
+    private long version;
+
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, mappedBy = "event")
     private Set<EventTicketEntity> tickets;
 
     public EventEntity() {
@@ -40,13 +59,17 @@ public class EventEntity {
             final String aName,
             final LocalDate aDate,
             final int aTotalSpots,
-            final UUID aPartnerId) {
+            final int aReservedSpots,
+            final UUID aPartnerId,
+            final long aVersion) {
         this();
         this.id = anId;
         this.name = aName;
         this.date = aDate;
         this.totalSpots = aTotalSpots;
+        this.reservedSpots = aReservedSpots;
         this.partnerId = aPartnerId;
+        this.version = aVersion;
     }
 
     public static EventEntity with(
@@ -56,16 +79,18 @@ public class EventEntity {
             final int aTotalSpots,
             final UUID aPartnerId
             ) {
-        return new EventEntity(anId, aName, aDate, aTotalSpots, aPartnerId);
+        return new EventEntity(anId, aName, aDate, aTotalSpots, 0, aPartnerId, 0L);
     }
 
     public static EventEntity of(final Event anEvent) {
         final var anEntity = new EventEntity(
-            UUID.fromString(anEvent.eventId().value()),
+            anEvent.eventId().uuid(),
             anEvent.name().value(),
             anEvent.date(),
             anEvent.totalSpots(),
-            UUID.fromString(anEvent.partnerId().value())
+            anEvent.reservedSpots(),
+            anEvent.partnerId().uuid(),
+            anEvent.version()
         );
         anEvent.allTickets().forEach(anEntity::addTicket);
         return anEntity;
@@ -73,17 +98,32 @@ public class EventEntity {
 
     public Event toDomain() {
         return Event.with(
-                getId().toString(),
+                EventId.with(getId()),
                 getName(),
                 getDate().format(ISO_LOCAL_DATE),
                 getTotalSpots(),
-                getPartnerId().toString(),
+                PartnerId.with(getPartnerId()),
+                getReservedSpots(),
+                getVersion(),
                 getTickets().stream()
                         .map(EventTicketEntity::toDomain)
                         .collect(Collectors.toSet())
         );
     }
 
+    public Event toDomainWithoutTickets() {
+        return Event.with(
+                EventId.with(getId()),
+                getName(),
+                getDate().format(ISO_LOCAL_DATE),
+                getTotalSpots(),
+                PartnerId.with(getPartnerId()),
+                getReservedSpots(),
+                getVersion(),
+                new HashSet<>()
+        );
+    }
+
     public UUID getId() {
         return id;
     }
@@ -116,6 +156,22 @@ public class EventEntity {
         this.totalSpots = totalSpots;
     }
 
+    public int getReservedSpots() {
+        return reservedSpots;
+    }
+
+    public void setReservedSpots(int reservedSpots) {
+        this.reservedSpots = reservedSpots;
+    }
+
+    public int getLastOrdering() {
+        return lastOrdering;
+    }
+
+    public void setLastOrdering(int lastOrdering) {
+        this.lastOrdering = lastOrdering;
+    }
+
     public UUID getPartnerId() {
         return partnerId;
     }
@@ -124,6 +180,14 @@ public class EventEntity {
         this.partnerId = partnerId;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Set<EventTicketEntity> getTickets() {
         return tickets;
     }
@@ -6,26 +6,35 @@ import br.com.fullcycle.domain.event.EventTicket;
 import br.com.fullcycle.domain.event.EventTicketId;
 import br.com.fullcycle.domain.event.ticket.TicketId;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.util.Objects;
 import java.util.UUID;
 
 @Entity(name = "EventTicket")
-@Table(name = "events_tickets")
-public class EventTicketEntity {
+@Table(name = "events_tickets", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_events_tickets_event_customer", columnNames = {"event_id", "customer_id"})
+})
+public class EventTicketEntity implements Persistable<UUID> {
 
     @Id
     private UUID eventTickedId;
 
+    @Column(updatable = false)
     private UUID ticketId;
 
+    @Column(name = "customer_id")
     private UUID customerId;
 
     private int ordering;
 
     @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id")
     private EventEntity event;
 
+    @Transient
+    private boolean newTicket = true;
+
     public EventTicketEntity() {
     }
 
@@ -46,8 +55,8 @@ public class EventTicketEntity {
     public static EventTicketEntity of(
             final EventEntity anEvent, final EventTicket anEventTicket) {
         return new EventTicketEntity(
-                UUID.fromString(anEventTicket.eventTicketId().value()),
-                UUID.fromString(anEventTicket.customerId().value()),
+                anEventTicket.eventTicketId().uuid(),
+                anEventTicket.customerId().uuid(),
                 anEventTicket.ordering(),
                 tickedIdIfNonNull(anEventTicket),
                 anEvent
@@ -56,14 +65,30 @@ public class EventTicketEntity {
 
     public EventTicket toDomain() {
         return EventTicket.with(
-                EventTicketId.with(getEventTickedId().toString()),
-                EventId.with(getEvent().getId().toString()),
-                CustomerId.with(getCustomerId().toString()),
+                EventTicketId.with(getEventTickedId()),
+                EventId.with(getEvent().getId()),
+                CustomerId.with(getCustomerId()),
                 ticketIdIfNonNull(),
                 getOrdering()
         );
     }
 
+    @Override
+    public UUID getId() {
+        return getEventTickedId();
+    }
+
+    @Override
+    public boolean isNew() {
+        return newTicket;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newTicket = false;
+    }
+
     public UUID getTicketId() {
         return ticketId;
     }
@@ -118,7 +143,7 @@ public class EventTicketEntity {
     }
 
     private static UUID tickedIdIfNonNull(final EventTicket anEventTicket) {
-        return anEventTicket.ticketId() != null ? UUID.fromString(anEventTicket.ticketId().value()) : null;
+        return anEventTicket.ticketId() != null ? anEventTicket.ticketId().uuid() : null;
     }
 
     private TicketId ticketIdIfNonNull() {
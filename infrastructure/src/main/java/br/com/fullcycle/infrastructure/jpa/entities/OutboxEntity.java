@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Function;
@@ -17,30 +18,58 @@ public class OutboxEntity {
     @Id
     private UUID id;
 
-    @Column(columnDefinition = "JSON", length = 4_000)
+    @Column(insertable = false, updatable = false)
+    private Long sequence;
+
+    @Column(length = 64)
+    private String aggregateType;
+
+    private UUID aggregateId;
+
+    @Column(length = 64)
+    private String eventType;
+
+    @Column(length = 4_000)
     private String content;
 
-    private boolean published;
+    private int attempts;
+
+    private Instant claimedUntil;
+
+    private Instant createdAt;
+
+    private Instant publishedAt;
 
     public OutboxEntity() {
     }
 
     private OutboxEntity(
             final UUID id,
+            final String aggregateType,
+            final UUID aggregateId,
+            final String eventType,
             final String content,
-            final boolean published) {
+            final Instant createdAt) {
         this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
         this.content = content;
-        this.published = published;
+        this.createdAt = createdAt;
     }
 
     public static OutboxEntity of(
+            final String anAggregateType,
+            final UUID anAggregateId,
             final DomainEvent aDomainEvent,
-            final Function<DomainEvent, String> toJson) {
+            final Function<DomainEvent, String> anEncoder) {
         return new OutboxEntity(
-            UUID.fromString(aDomainEvent.domainEventId()),
-                toJson.apply(aDomainEvent),
-                false
+                UUID.fromString(aDomainEvent.domainEventId()),
+                anAggregateType,
+                anAggregateId,
+                aDomainEvent.type(),
+                anEncoder.apply(aDomainEvent),
+                Instant.now()
         );
     }
 
@@ -52,6 +81,34 @@ public class OutboxEntity {
         this.id = id;
     }
 
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public void setAggregateType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public void setAggregateId(UUID aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
     public String getContent() {
         return content;
     }
@@ -60,12 +117,36 @@ public class OutboxEntity {
         this.content = content;
     }
 
-    public boolean isPublished() {
-        return published;
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getClaimedUntil() {
+        return claimedUntil;
+    }
+
+    public void setClaimedUntil(Instant claimedUntil) {
+        this.claimedUntil = claimedUntil;
     }
 
-    public void setPublished(boolean published) {
-        this.published = published;
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void setPublishedAt(Instant publishedAt) {
+        this.publishedAt = publishedAt;
     }
 
     @Override
@@ -80,9 +161,4 @@ public class OutboxEntity {
     public int hashCode() {
         return Objects.hash(id);
     }
-
-    public OutboxEntity notePublished() {
-        this.published = true;
-        return this;
-    }
 }
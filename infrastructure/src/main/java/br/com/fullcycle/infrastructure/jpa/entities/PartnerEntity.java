@@ -1,5 +1,6 @@
 package br.com.fullcycle.infrastructure.jpa.entities;
 
+import br.com.fullcycle.domain.partner.PartnerId;
 import br.com.fullcycle.domain.partner.Partner;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -51,7 +52,7 @@ public class PartnerEntity {
 
     public static PartnerEntity of(final Partner aPartner) {
         return with(
-          UUID.fromString(aPartner.partnerId().value()),
+          aPartner.partnerId().uuid(),
           aPartner.name().value(),
           aPartner.cnpj().value(),
           aPartner.email().value()
@@ -59,8 +60,8 @@ public class PartnerEntity {
     }
 
     public Partner toDomain() {
-        return Partner.with(
-                getId().toString(),
+        return Partner.restore(
+                PartnerId.with(getId()),
                 getName(),
                 getCnpj(),
                 getEmail()
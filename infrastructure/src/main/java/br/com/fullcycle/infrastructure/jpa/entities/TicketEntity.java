@@ -2,6 +2,7 @@ package br.com.fullcycle.infrastructure.jpa.entities;
 
 import br.com.fullcycle.domain.customer.CustomerId;
 import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventTicketId;
 import br.com.fullcycle.domain.event.ticket.Ticket;
 import br.com.fullcycle.domain.event.ticket.TicketId;
 import br.com.fullcycle.domain.event.ticket.TicketStatus;
@@ -18,6 +19,8 @@ public class TicketEntity {
     @Id
     private UUID id;
 
+    private UUID eventTicketId;
+
     private UUID customerId;
 
     private UUID eventId;
@@ -34,12 +37,14 @@ public class TicketEntity {
 
     private TicketEntity(
             final UUID anId,
+            final UUID anEventTicketId,
             final UUID aCustomerId,
             final UUID anEventId,
             final TicketStatus aStatus,
             final Instant aPaidAt,
             final Instant aReservedAt) {
         this.id = anId;
+        this.eventTicketId = anEventTicketId;
         this.customerId = aCustomerId;
         this.eventId = anEventId;
         this.status = aStatus;
@@ -49,9 +54,10 @@ public class TicketEntity {
 
     public static TicketEntity of(Ticket aTicket) {
         return new TicketEntity(
-                UUID.fromString(aTicket.ticketId().value()),
-                UUID.fromString(aTicket.customerId().value()),
-                UUID.fromString(aTicket.eventId().value()),
+                aTicket.ticketId().uuid(),
+                aTicket.eventTicketId() != null ? aTicket.eventTicketId().uuid() : null,
+                aTicket.customerId().uuid(),
+                aTicket.eventId().uuid(),
                 aTicket.status(),
                 aTicket.paidAt(),
                 aTicket.reservedAt()
@@ -60,9 +66,10 @@ public class TicketEntity {
 
     public Ticket toDomain() {
         return Ticket.with(
-                TicketId.with(getId().toString()),
-                CustomerId.with(getCustomerId().toString()),
-                EventId.with(getEventId().toString()),
+                TicketId.with(getId()),
+                getEventTicketId() != null ? EventTicketId.with(getEventTicketId()) : null,
+                CustomerId.with(getCustomerId()),
+                EventId.with(getEventId()),
                 getStatus(),
                 getPaidAt(),
                 getReservedAt());
@@ -76,6 +83,14 @@ public class TicketEntity {
         this.id = id;
     }
 
+    public UUID getEventTicketId() {
+        return eventTicketId;
+    }
+
+    public void setEventTicketId(UUID eventTicketId) {
+        this.eventTicketId = eventTicketId;
+    }
+
     public UUID getCustomerId() {
         return customerId;
     }
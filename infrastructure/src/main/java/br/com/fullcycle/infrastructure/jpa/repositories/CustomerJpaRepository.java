@@ -1,14 +1,41 @@
 package br.com.fullcycle.infrastructure.jpa.repositories;
 
 import br.com.fullcycle.infrastructure.jpa.entities.CustomerEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface CustomerJpaRepository extends CrudRepository<CustomerEntity, UUID> {
 
     Optional<CustomerEntity> findByCpf(String cpf);
 
     Optional<CustomerEntity> findByEmail(String email);
+
+    @Query("select c.cpf from Customer c where c.cpf in :cpfs")
+    List<String> findCpfsIn(Collection<String> cpfs);
+
+    @Query("select c.email from Customer c where c.email in :emails")
+    List<String> findEmailsIn(Collection<String> emails);
+
+    @Query("select c.cpf from Customer c where c.cpf is not null")
+    Stream<String> streamCpfs();
+
+    @Query("select c.email from Customer c where c.email is not null")
+    Stream<String> streamEmails();
+
+    /**
+     * Deletes with a single statement, run right away: {@code deleteAll} removes the entities one by one
+     * on flush, after the inserts of the same transaction, which then collide with the rows to be deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Customer")
+    void deleteAllInBulk();
 }
@@ -1,10 +1,48 @@
 package br.com.fullcycle.infrastructure.jpa.repositories;
 
 import br.com.fullcycle.infrastructure.jpa.entities.EventEntity;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Optional;
 import java.util.UUID;
 
-public interface EventJpaRepository extends CrudRepository<EventEntity, UUID> {
+public interface EventJpaRepository extends JpaRepository<EventEntity, UUID> {
 
+    /**
+     * Reserves {@code quantity} spots in one statement, only while they fit in the total. Concurrent reservations
+     * queue on the row instead of failing on each other, and the version is left alone: it guards edits of the
+     * event itself, which a reservation does not make. The last ordering moves up with the counter, and the row
+     * stays locked until the transaction ends, so {@link #lastOrderingOf} then reads the orderings that are this
+     * transaction's to hand out.
+     *
+     * @return 1 if the spots were reserved, 0 if the event is sold out
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Event e set e.reservedSpots = e.reservedSpots + :quantity, e.lastOrdering = e.lastOrdering + :quantity
+            where e.id = :id and e.reservedSpots + :quantity <= e.totalSpots
+            """)
+    int reserveSpots(UUID id, int quantity);
+
+    @Query("select e.lastOrdering from Event e where e.id = :id")
+    int lastOrderingOf(UUID id);
+
+    /**
+     * The reservations the event holds and the ones it ever made: the gap between them grows with each release.
+     */
+    @Query("select e.reservedSpots as reservedSpots, e.lastOrdering as lastOrdering from Event e where e.id = :id")
+    Optional<Counters> countersOf(UUID id);
+
+    interface Counters {
+
+        int getReservedSpots();
+
+        int getLastOrdering();
+
+        default int releases() {
+            return getLastOrdering() - getReservedSpots();
+        }
+    }
 }
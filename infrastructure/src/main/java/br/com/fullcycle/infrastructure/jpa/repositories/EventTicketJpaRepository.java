@@ -0,0 +1,15 @@
+package br.com.fullcycle.infrastructure.jpa.repositories;
+
+import br.com.fullcycle.infrastructure.jpa.entities.EventTicketEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface EventTicketJpaRepository extends CrudRepository<EventTicketEntity, UUID> {
+
+    @Query("select t.customerId from EventTicket t where t.event.id = :eventId")
+    List<UUID> customerIdsOf(UUID eventId, Pageable aPage);
+}
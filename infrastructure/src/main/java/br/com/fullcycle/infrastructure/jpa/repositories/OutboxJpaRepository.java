@@ -1,20 +1,74 @@
 package br.com.fullcycle.infrastructure.jpa.repositories;
 
 import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
-import jakarta.persistence.LockModeType;
-import jakarta.persistence.QueryHint;
-import org.springframework.data.jpa.repository.Lock;
-import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface OutboxJpaRepository extends CrudRepository<OutboxEntity, UUID> {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @QueryHints({
-            @QueryHint(name = "jakarta.persistence.lock.timeout", value = "2")
-    })
-    List<OutboxEntity> findTop100ByPublishedFalse();
+    /**
+     * Selects up to {@code limit} pending messages that no relay holds a claim on, oldest first. Rows locked by a
+     * relay that is claiming them at this very moment are skipped instead of waited on, so concurrent relays, in
+     * this node or in others, claim disjoint batches. Served by {@code idx_outbox_pending (published_at, sequence)}:
+     * MySQL reads {@code limit} index entries in sequence order, plus the claimed ones in between, no matter how
+     * many published messages the table holds. H2 sorts locked queries outside the index and so locks every
+     * pending row; the claim transaction is short, so there it only serializes concurrent claims.
+     */
+    @Query(value = """
+            select * from outbox
+            where published_at is null
+              and (claimed_until is null or claimed_until < :now)
+            order by sequence
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<OutboxEntity> claimPending(int limit, Instant now);
+
+    /**
+     * Leases the messages to the relay that selected them until {@code claimedUntil}, counting one attempt.
+     */
+    @Modifying
+    @Query("update Outbox o set o.claimedUntil = :claimedUntil, o.attempts = o.attempts + 1 where o.id in :ids")
+    int markClaimed(Collection<UUID> ids, Instant claimedUntil);
+
+    @Modifying
+    @Query("update Outbox o set o.claimedUntil = null where o.id in :ids")
+    int releaseClaims(Collection<UUID> ids);
+
+    long countByPublishedAtIsNull();
+
+    @Modifying
+    @Query("update Outbox o set o.publishedAt = :publishedAt, o.claimedUntil = null where o.id in :ids")
+    int markPublished(Collection<UUID> ids, Instant publishedAt);
+
+    /**
+     * Copies the messages to {@code outbox_dead_letters}; {@link #deleteByIds} removes them from the outbox.
+     */
+    @Modifying
+    @Query(value = """
+            insert into outbox_dead_letters (id, sequence, aggregate_type, aggregate_id, event_type, content,
+                                             attempts, created_at, dead_lettered_at)
+            select id, sequence, aggregate_type, aggregate_id, event_type, content, attempts, created_at, :deadLetteredAt
+            from outbox
+            where id in :ids
+            """, nativeQuery = true)
+    int copyToDeadLetters(Collection<UUID> ids, Instant deadLetteredAt);
+
+    /**
+     * Finds messages published before {@code cutoff}, a page at a time. A range over
+     * {@code idx_outbox_pending}, which never reaches the pending messages.
+     */
+    @Query("select o.id from Outbox o where o.publishedAt < :cutoff")
+    List<UUID> findPublishedBefore(Instant cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Outbox o where o.id in :ids")
+    int deleteByIds(Collection<UUID> ids);
 }
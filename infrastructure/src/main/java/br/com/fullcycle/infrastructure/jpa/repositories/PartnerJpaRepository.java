@@ -1,14 +1,33 @@
 package br.com.fullcycle.infrastructure.jpa.repositories;
 
 import br.com.fullcycle.infrastructure.jpa.entities.PartnerEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface PartnerJpaRepository extends CrudRepository<PartnerEntity, UUID> {
 
     Optional<PartnerEntity> findByCnpj(String cnpj);
 
     Optional<PartnerEntity> findByEmail(String email);
-}
\ No newline at end of file
+
+    @Query("select p.cnpj from Partner p where p.cnpj is not null")
+    Stream<String> streamCnpjs();
+
+    @Query("select p.email from Partner p where p.email is not null")
+    Stream<String> streamEmails();
+
+    /**
+     * Deletes with a single statement, run right away: {@code deleteAll} removes the entities one by one
+     * on flush, after the inserts of the same transaction, which then collide with the rows to be deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Partner")
+    void deleteAllInBulk();
+}
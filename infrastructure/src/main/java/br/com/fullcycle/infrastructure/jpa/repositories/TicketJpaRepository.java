@@ -1,9 +1,38 @@
 package br.com.fullcycle.infrastructure.jpa.repositories;
 
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
 import br.com.fullcycle.infrastructure.jpa.entities.TicketEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
+import java.time.Instant;
 import java.util.UUID;
 
 public interface TicketJpaRepository extends CrudRepository<TicketEntity, UUID> {
+
+    /**
+     * Moves a ticket from {@code previousStatus} to {@code status}. The row lock it takes makes the reservation
+     * expiry skip the ticket, and a ticket the expiry has already moved is left untouched.
+     *
+     * @return 1 if the ticket was moved, 0 if it was no longer in {@code previousStatus}
+     */
+    @Modifying
+    @Query("""
+            update Ticket t set t.status = :status, t.paidAt = :paidAt
+            where t.id = :id and t.status = :previousStatus
+            """)
+    int updateStatus(UUID id, TicketStatus status, Instant paidAt, TicketStatus previousStatus);
+
+    /**
+     * Settles up to {@code limit} tickets still {@code PROCESSING}, in one statement that reads them through
+     * {@code idx_tickets_status} and never sends their ids back and forth.
+     */
+    @Modifying
+    @Query(value = """
+            update tickets set status = 'PAID', paid_at = :paidAt
+            where status = 'PROCESSING'
+            limit :limit
+            """, nativeQuery = true)
+    int settleProcessing(Instant paidAt, int limit);
 }
@@ -0,0 +1,35 @@
+package br.com.fullcycle.infrastructure.queries;
+
+import br.com.fullcycle.application.customer.CustomerQuery;
+import br.com.fullcycle.application.customer.GetCustomerByIdUseCase;
+import br.com.fullcycle.domain.customer.CustomerId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Maps the row of the customer straight into the output, through JDBC: neither an entity nor the aggregate
+ * are built, and there's no query for Hibernate to translate.
+ */
+@Component
+public class CustomerDatabaseQuery implements CustomerQuery {
+
+    private static final String CUSTOMER_OF_ID = "select cpf, email, name from customers where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomerDatabaseQuery(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    @Override
+    public Optional<GetCustomerByIdUseCase.Output> customerOfId(final CustomerId anId) {
+        Objects.requireNonNull(anId, "Id cannot be null");
+        return this.jdbcTemplate.query(CUSTOMER_OF_ID,
+                (rs, rowNum) -> new GetCustomerByIdUseCase.Output(
+                        anId.value(), rs.getString("cpf"), rs.getString("email"), rs.getString("name")),
+                (Object) Uuids.toBytes(anId.uuid())).stream().findFirst();
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.fullcycle.infrastructure.queries;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@code POST /actuator/availability} rebuilds the event availability from scratch.
+ */
+@Component
+@ConditionalOnProperty(name = "events.storage", havingValue = "relational", matchIfMissing = true)
+@Endpoint(id = "availability")
+public class EventAvailabilityEndpoint {
+
+    private final InMemoryEventAvailability eventAvailability;
+
+    public EventAvailabilityEndpoint(final InMemoryEventAvailability eventAvailability) {
+        this.eventAvailability = Objects.requireNonNull(eventAvailability);
+    }
+
+    @WriteOperation
+    public Map<String, Integer> rebuild() {
+        return Map.of("events", this.eventAvailability.rebuild());
+    }
+}
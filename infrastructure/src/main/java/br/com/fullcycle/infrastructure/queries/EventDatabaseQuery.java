@@ -0,0 +1,70 @@
+package br.com.fullcycle.infrastructure.queries;
+
+import br.com.fullcycle.application.event.EventQuery;
+import br.com.fullcycle.application.event.ListEventsUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Seeks to the first event of a page with {@code (date, id)} greater than those of the last event of the
+ * previous page, which the {@code idx_events_date_id} index (or {@code idx_events_partner_date_id}, when
+ * filtering by partner) serves as a range scan, without skipping over the earlier pages.
+ */
+@Component
+@ConditionalOnProperty(name = "events.storage", havingValue = "relational", matchIfMissing = true)
+public class EventDatabaseQuery implements EventQuery {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventDatabaseQuery(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    @Override
+    public List<ListEventsUseCase.Item> events(final Filter aFilter, final Position after, final int limit) {
+        final var sql = new StringBuilder(
+                "select id, date, name, total_spots, reserved_spots, partner_id from events where 1 = 1");
+        final var arguments = new ArrayList<>();
+        if (aFilter.partnerId() != null) {
+            sql.append(" and partner_id = ?");
+            arguments.add(Uuids.toBytes(aFilter.partnerId().uuid()));
+        }
+        if (aFilter.from() != null) {
+            sql.append(" and date >= ?");
+            arguments.add(Date.valueOf(aFilter.from()));
+        }
+        if (aFilter.to() != null) {
+            sql.append(" and date <= ?");
+            arguments.add(Date.valueOf(aFilter.to()));
+        }
+        if (aFilter.available() != null) {
+            sql.append(aFilter.available() ? " and reserved_spots < total_spots" : " and reserved_spots >= total_spots");
+        }
+        if (after != null) {
+            sql.append(" and (date > ? or (date = ? and id > ?))");
+            arguments.add(Date.valueOf(after.date()));
+            arguments.add(Date.valueOf(after.date()));
+            arguments.add(Uuids.toBytes(after.id().uuid()));
+        }
+        sql.append(" order by date, id limit ?");
+        arguments.add(limit);
+
+        return this.jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            final var totalSpots = rs.getInt("total_spots");
+            final var partnerId = rs.getBytes("partner_id");
+            return new ListEventsUseCase.Item(
+                    Uuids.fromBytes(rs.getBytes("id")).toString(),
+                    rs.getDate("date").toLocalDate().toString(),
+                    rs.getString("name"),
+                    totalSpots,
+                    Math.max(0, totalSpots - rs.getInt("reserved_spots")),
+                    partnerId != null ? Uuids.fromBytes(partnerId).toString() : null);
+        }, arguments.toArray());
+    }
+}
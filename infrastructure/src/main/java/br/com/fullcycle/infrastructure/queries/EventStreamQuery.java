@@ -0,0 +1,88 @@
+package br.com.fullcycle.infrastructure.queries;
+
+import br.com.fullcycle.application.event.EventAvailabilityQuery;
+import br.com.fullcycle.application.event.EventQuery;
+import br.com.fullcycle.application.event.GetEventAvailabilityUseCase;
+import br.com.fullcycle.application.event.ListEventsUseCase;
+import br.com.fullcycle.domain.event.EventId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Lists the events and reads their availability with {@code events.storage=event-sourced}, where
+ * {@code events} is not written: each event is its latest snapshot plus the reservations appended to
+ * {@code event_stream} after it. Nothing indexes the listing by date here, so each page reads the snapshots.
+ */
+@Component
+@ConditionalOnProperty(name = "events.storage", havingValue = "event-sourced")
+public class EventStreamQuery implements EventQuery, EventAvailabilityQuery {
+
+    private static final String EVENTS = """
+            select * from (
+                select s.event_id as id, s.date, s.name, s.total_spots, s.partner_id,
+                       s.reserved_spots + (select count(*) from event_stream r
+                                           where r.event_id = s.event_id and r.sequence > s.version) as reserved_spots
+                from event_snapshots s
+                where s.version = (select max(l.version) from event_snapshots l where l.event_id = s.event_id)
+            ) e where 1 = 1""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventStreamQuery(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    @Override
+    public List<ListEventsUseCase.Item> events(final Filter aFilter, final Position after, final int limit) {
+        final var sql = new StringBuilder(EVENTS);
+        final var arguments = new ArrayList<>();
+        if (aFilter.partnerId() != null) {
+            sql.append(" and partner_id = ?");
+            arguments.add(Uuids.toBytes(aFilter.partnerId().uuid()));
+        }
+        if (aFilter.from() != null) {
+            sql.append(" and date >= ?");
+            arguments.add(Date.valueOf(aFilter.from()));
+        }
+        if (aFilter.to() != null) {
+            sql.append(" and date <= ?");
+            arguments.add(Date.valueOf(aFilter.to()));
+        }
+        if (aFilter.available() != null) {
+            sql.append(aFilter.available() ? " and reserved_spots < total_spots" : " and reserved_spots >= total_spots");
+        }
+        if (after != null) {
+            sql.append(" and (date > ? or (date = ? and id > ?))");
+            arguments.add(Date.valueOf(after.date()));
+            arguments.add(Date.valueOf(after.date()));
+            arguments.add(Uuids.toBytes(after.id().uuid()));
+        }
+        sql.append(" order by date, id limit ?");
+        arguments.add(limit);
+
+        return this.jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            final var totalSpots = rs.getInt("total_spots");
+            return new ListEventsUseCase.Item(
+                    Uuids.fromBytes(rs.getBytes("id")).toString(),
+                    rs.getDate("date").toLocalDate().toString(),
+                    rs.getString("name"),
+                    totalSpots,
+                    Math.max(0, totalSpots - rs.getInt("reserved_spots")),
+                    Uuids.fromBytes(rs.getBytes("partner_id")).toString());
+        }, arguments.toArray());
+    }
+
+    @Override
+    public Optional<GetEventAvailabilityUseCase.Output> availabilityOf(final EventId anEventId) {
+        return this.jdbcTemplate.query(EVENTS + " and id = ?", (rs, rowNum) -> GetEventAvailabilityUseCase.Output.with(
+                anEventId.value(), rs.getInt("total_spots"), rs.getInt("reserved_spots")),
+                (Object) Uuids.toBytes(anEventId.uuid())).stream().findFirst();
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.fullcycle.infrastructure.queries;
+
+import br.com.fullcycle.application.event.EventAvailabilityQuery;
+import br.com.fullcycle.application.event.GetEventAvailabilityUseCase;
+import br.com.fullcycle.domain.event.EventId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * The spots left of each event, kept in memory and answered without touching the database. An event is
+ * loaded from its row the first time it is read, then counts the reservations and releases consumed from the
+ * outbox.
+ * <p>
+ * The row is loaded together with the sequence of the event's last outbox message, in one statement. The
+ * counter and the messages are written in one transaction while the event row is locked, so the messages up to
+ * that sequence are the ones the counter already holds, and they are skipped when they arrive. The relay
+ * delivers a message at least once, so the sequences counted since the load are kept to skip the redeliveries.
+ * Messages relayed by another instance are not consumed here, so an event is loaded again once
+ * {@code availability.max-staleness} has passed since it was last loaded. {@link #rebuild} loads every event at
+ * once.
+ */
+@Component
+@ConditionalOnProperty(name = "events.storage", havingValue = "relational", matchIfMissing = true)
+public class InMemoryEventAvailability implements EventAvailabilityQuery {
+
+    private static final String LAST_SEQUENCE = """
+            (select max(o.sequence) from outbox o where o.aggregate_type = 'Event' and o.aggregate_id = e.id)
+            """;
+    private static final String EVENT_OF_ID = "select e.total_spots, e.reserved_spots, " + LAST_SEQUENCE
+            + " as last_sequence from events e where e.id = ?";
+    private static final String ALL_EVENTS = "select e.id, e.total_spots, e.reserved_spots, " + LAST_SEQUENCE
+            + " as last_sequence from events e";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxStalenessNanos;
+    private final LongSupplier clock;
+    private final ConcurrentMap<UUID, Availability> events = new ConcurrentHashMap<>();
+
+    @Autowired
+    public InMemoryEventAvailability(
+            final JdbcTemplate jdbcTemplate,
+            @Value("${availability.max-staleness:5s}") final Duration maxStaleness) {
+        this(jdbcTemplate, maxStaleness, System::nanoTime);
+    }
+
+    InMemoryEventAvailability(
+            final JdbcTemplate jdbcTemplate,
+            final Duration maxStaleness,
+            final LongSupplier aClock) {
+        if (maxStaleness.isNegative()) {
+            throw new IllegalArgumentException("availability.max-staleness must not be negative");
+        }
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.clock = Objects.requireNonNull(aClock);
+    }
+
+    @Override
+    public Optional<GetEventAvailabilityUseCase.Output> availabilityOf(final EventId anEventId) {
+        final var now = clock.getAsLong();
+        var anAvailability = this.events.get(anEventId.uuid());
+        if (anAvailability == null || now - anAvailability.loadedAt > maxStalenessNanos) {
+            anAvailability = load(anEventId.uuid(), now);
+        }
+        if (anAvailability == null) {
+            return Optional.empty();
+        }
+        return Optional.of(GetEventAvailabilityUseCase.Output.with(
+                anEventId.value(), anAvailability.totalSpots, anAvailability.reservedSpots));
+    }
+
+    /**
+     * Counts a reservation of an event already loaded, unless its message was already counted. Others are
+     * counted when they are loaded.
+     */
+    public void reserved(final EventId anEventId, final long aSequence) {
+        this.events.computeIfPresent(anEventId.uuid(), (anId, it) -> it.apply(aSequence, 1));
+    }
+
+    /**
+     * Counts a released reservation of an event already loaded, unless its message was already counted.
+     */
+    public void released(final EventId anEventId, final long aSequence) {
+        this.events.computeIfPresent(anEventId.uuid(), (anId, it) -> it.apply(aSequence, -1));
+    }
+
+    /**
+     * Loads every event from scratch, dropping the ones that no longer exist.
+     *
+     * @return how many events were loaded
+     */
+    public int rebuild() {
+        final var now = clock.getAsLong();
+        final var loaded = new HashSet<UUID>();
+        this.jdbcTemplate.query(ALL_EVENTS, rs -> {
+            final var anId = Uuids.fromBytes(rs.getBytes("id"));
+            this.events.put(anId, availabilityOf(rs, now));
+            loaded.add(anId);
+        });
+        this.events.keySet().retainAll(loaded);
+        return loaded.size();
+    }
+
+    private Availability load(final UUID anEventId, final long now) {
+        final var rows = this.jdbcTemplate.query(EVENT_OF_ID,
+                (rs, rowNum) -> availabilityOf(rs, now),
+                (Object) Uuids.toBytes(anEventId));
+        if (rows.isEmpty()) {
+            this.events.remove(anEventId);
+            return null;
+        }
+        this.events.put(anEventId, rows.get(0));
+        return rows.get(0);
+    }
+
+    private static Availability availabilityOf(final ResultSet rs, final long now) throws SQLException {
+        return new Availability(
+                rs.getInt("total_spots"), rs.getInt("reserved_spots"), rs.getLong("last_sequence"), now);
+    }
+
+    /**
+     * Changed only inside {@link ConcurrentMap#computeIfPresent}, which applies the messages of an event one at a
+     * time.
+     */
+    private static final class Availability {
+
+        private final int totalSpots;
+        private final long lastSequence;
+        private final long loadedAt;
+        private final Set<Long> counted = new HashSet<>();
+        private volatile int reservedSpots;
+
+        private Availability(final int totalSpots, final int reservedSpots, final long lastSequence, final long loadedAt) {
+            this.totalSpots = totalSpots;
+            this.reservedSpots = reservedSpots;
+            this.lastSequence = lastSequence;
+            this.loadedAt = loadedAt;
+        }
+
+        private Availability apply(final long aSequence, final int aChange) {
+            if (aSequence > lastSequence && counted.add(aSequence)) {
+                this.reservedSpots = Math.max(0, reservedSpots + aChange);
+            }
+            return this;
+        }
+    }
+}
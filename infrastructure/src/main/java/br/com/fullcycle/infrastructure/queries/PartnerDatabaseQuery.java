@@ -0,0 +1,35 @@
+package br.com.fullcycle.infrastructure.queries;
+
+import br.com.fullcycle.application.partner.PartnerQuery;
+import br.com.fullcycle.application.partner.GetPartnerByIdUseCase;
+import br.com.fullcycle.domain.partner.PartnerId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Maps the row of the partner straight into the output, through JDBC: neither an entity nor the aggregate
+ * are built, and there's no query for Hibernate to translate.
+ */
+@Component
+public class PartnerDatabaseQuery implements PartnerQuery {
+
+    private static final String PARTNER_OF_ID = "select cnpj, email, name from partners where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PartnerDatabaseQuery(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    @Override
+    public Optional<GetPartnerByIdUseCase.Output> partnerOfId(final PartnerId anId) {
+        Objects.requireNonNull(anId, "Id cannot be null");
+        return this.jdbcTemplate.query(PARTNER_OF_ID,
+                (rs, rowNum) -> new GetPartnerByIdUseCase.Output(
+                        anId.value(), rs.getString("cnpj"), rs.getString("email"), rs.getString("name")),
+                (Object) Uuids.toBytes(anId.uuid())).stream().findFirst();
+    }
+}
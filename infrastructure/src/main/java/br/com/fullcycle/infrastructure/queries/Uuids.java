@@ -0,0 +1,26 @@
+package br.com.fullcycle.infrastructure.queries;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Ids are stored as binary(16), the way Hibernate maps a {@link UUID} on MySQL; H2 converts the bytes to
+ * and from its uuid type.
+ */
+public final class Uuids {
+
+    private Uuids() {
+    }
+
+    public static byte[] toBytes(final UUID anId) {
+        return ByteBuffer.allocate(16)
+                .putLong(anId.getMostSignificantBits())
+                .putLong(anId.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(final byte[] someBytes) {
+        final var buffer = ByteBuffer.wrap(someBytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
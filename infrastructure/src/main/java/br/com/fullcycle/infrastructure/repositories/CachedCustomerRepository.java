@@ -0,0 +1,99 @@
+package br.com.fullcycle.infrastructure.repositories;
+
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.domain.person.Cpf;
+import br.com.fullcycle.domain.person.Email;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Serves {@link #customerOfId} from memory, bounded by {@code cache.customers.maximum-size} and
+ * {@code cache.customers.expire-after-write}. Missing customers are not cached, so a customer is found as
+ * soon as it is created. Lookups by Cpf and Email check uniqueness and always go to the database.
+ */
+@Primary
+@Component
+public class CachedCustomerRepository implements CustomerRepository {
+
+    private final CustomerRepository customerRepository;
+    private final Cache<CustomerId, Customer> customers;
+
+    public CachedCustomerRepository(
+            final CustomerDatabaseRepository customerRepository,
+            final MeterRegistry meterRegistry,
+            @Value("${cache.customers.maximum-size:10000}") final long maximumSize,
+            @Value("${cache.customers.expire-after-write:10m}") final Duration expireAfterWrite) {
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.customers = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, customers, "customers");
+    }
+
+    @Override
+    public Optional<Customer> customerOfId(final CustomerId anId) {
+        Objects.requireNonNull(anId, "Id cannot be null");
+        return Optional.ofNullable(this.customers.get(anId, id -> this.customerRepository.customerOfId(id).orElse(null)));
+    }
+
+    @Override
+    public Optional<Customer> customerOfCpf(final Cpf aCpf) {
+        return this.customerRepository.customerOfCpf(aCpf);
+    }
+
+    @Override
+    public Optional<Customer> customerOfEmail(final Email anEmail) {
+        return this.customerRepository.customerOfEmail(anEmail);
+    }
+
+    @Override
+    public Customer create(final Customer aCustomer) {
+        return this.customerRepository.create(aCustomer);
+    }
+
+    @Override
+    public Customer update(final Customer aCustomer) {
+        try {
+            return this.customerRepository.update(aCustomer);
+        } finally {
+            this.customers.invalidate(aCustomer.customerId());
+        }
+    }
+
+    @Override
+    public Set<Cpf> cpfsTaken(final Collection<Cpf> someCpfs) {
+        return this.customerRepository.cpfsTaken(someCpfs);
+    }
+
+    @Override
+    public Set<Email> emailsTaken(final Collection<Email> someEmails) {
+        return this.customerRepository.emailsTaken(someEmails);
+    }
+
+    @Override
+    public void createAll(final List<Customer> customers) {
+        this.customerRepository.createAll(customers);
+    }
+
+    @Override
+    public void deleteAll() {
+        this.customerRepository.deleteAll();
+        this.customers.invalidateAll();
+    }
+}
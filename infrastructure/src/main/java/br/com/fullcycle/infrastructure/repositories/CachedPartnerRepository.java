@@ -0,0 +1,81 @@
+package br.com.fullcycle.infrastructure.repositories;
+
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.domain.partner.PartnerId;
+import br.com.fullcycle.domain.partner.PartnerRepository;
+import br.com.fullcycle.domain.person.Cnpj;
+import br.com.fullcycle.domain.person.Email;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves {@link #partnerOfId} from memory, bounded by {@code cache.partners.maximum-size} and
+ * {@code cache.partners.expire-after-write}. Missing partners are not cached, so a partner is found as
+ * soon as it is created. Lookups by Cnpj and Email check uniqueness and always go to the database.
+ */
+@Primary
+@Component
+public class CachedPartnerRepository implements PartnerRepository {
+
+    private final PartnerRepository partnerRepository;
+    private final Cache<PartnerId, Partner> partners;
+
+    public CachedPartnerRepository(
+            final PartnerDatabaseRepository partnerRepository,
+            final MeterRegistry meterRegistry,
+            @Value("${cache.partners.maximum-size:1000}") final long maximumSize,
+            @Value("${cache.partners.expire-after-write:10m}") final Duration expireAfterWrite) {
+        this.partnerRepository = Objects.requireNonNull(partnerRepository);
+        this.partners = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, partners, "partners");
+    }
+
+    @Override
+    public Optional<Partner> partnerOfId(final PartnerId anId) {
+        Objects.requireNonNull(anId, "Id cannot be null");
+        return Optional.ofNullable(this.partners.get(anId, id -> this.partnerRepository.partnerOfId(id).orElse(null)));
+    }
+
+    @Override
+    public Optional<Partner> partnerOfCnpj(final Cnpj aCnpj) {
+        return this.partnerRepository.partnerOfCnpj(aCnpj);
+    }
+
+    @Override
+    public Optional<Partner> partnerOfEmail(final Email anEmail) {
+        return this.partnerRepository.partnerOfEmail(anEmail);
+    }
+
+    @Override
+    public Partner create(final Partner aPartner) {
+        return this.partnerRepository.create(aPartner);
+    }
+
+    @Override
+    public Partner update(final Partner aPartner) {
+        try {
+            return this.partnerRepository.update(aPartner);
+        } finally {
+            this.partners.invalidate(aPartner.partnerId());
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        this.partnerRepository.deleteAll();
+        this.partners.invalidateAll();
+    }
+}
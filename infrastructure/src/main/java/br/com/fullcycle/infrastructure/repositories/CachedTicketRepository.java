@@ -0,0 +1,84 @@
+package br.com.fullcycle.infrastructure.repositories;
+
+import br.com.fullcycle.domain.event.EventTicketId;
+import br.com.fullcycle.domain.event.ticket.Ticket;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Remembers which ticket was issued for each reservation, bounded by {@code cache.tickets.maximum-size} and
+ * {@code cache.tickets.expire-after-write}, so that a reservation delivered again is answered from memory.
+ * A reservation never changes its ticket, so nothing has to be invalidated; reservations without a ticket
+ * are not cached, and the unique constraint behind {@link #create} stays the final arbiter.
+ */
+@Primary
+@Component
+public class CachedTicketRepository implements TicketRepository {
+
+    private final TicketRepository ticketRepository;
+    private final Cache<EventTicketId, TicketId> issued;
+
+    public CachedTicketRepository(
+            final TicketDatabaseRepository ticketRepository,
+            final MeterRegistry meterRegistry,
+            @Value("${cache.tickets.maximum-size:100000}") final long maximumSize,
+            @Value("${cache.tickets.expire-after-write:1h}") final Duration expireAfterWrite) {
+        this.ticketRepository = Objects.requireNonNull(ticketRepository);
+        this.issued = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, issued, "tickets");
+    }
+
+    @Override
+    public Optional<Ticket> ticketOfId(final TicketId anId) {
+        return this.ticketRepository.ticketOfId(anId);
+    }
+
+    @Override
+    public Optional<TicketId> ticketIdOfEventTicketId(final EventTicketId anEventTicketId) {
+        Objects.requireNonNull(anEventTicketId, "EventTicketId cannot be null");
+        return Optional.ofNullable(this.issued.get(anEventTicketId,
+                id -> this.ticketRepository.ticketIdOfEventTicketId(id).orElse(null)));
+    }
+
+    @Override
+    public Ticket create(final Ticket aTicket) {
+        final var created = this.ticketRepository.create(aTicket);
+        if (created.eventTicketId() != null) {
+            this.issued.put(created.eventTicketId(), created.ticketId());
+        }
+        return created;
+    }
+
+    @Override
+    public Ticket update(final Ticket aTicket, final TicketStatus aPreviousStatus) {
+        return this.ticketRepository.update(aTicket, aPreviousStatus);
+    }
+
+    @Override
+    public int settleProcessing(final Instant aPaidAt, final int aLimit) {
+        return this.ticketRepository.settleProcessing(aPaidAt, aLimit);
+    }
+
+    @Override
+    public void deleteAll() {
+        this.ticketRepository.deleteAll();
+        this.issued.invalidateAll();
+    }
+}
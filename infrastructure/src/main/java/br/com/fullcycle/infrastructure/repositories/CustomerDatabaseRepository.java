@@ -5,34 +5,55 @@ import br.com.fullcycle.domain.customer.CustomerId;
 import br.com.fullcycle.domain.person.Cpf;
 import br.com.fullcycle.domain.person.Email;
 import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.domain.exceptions.ValidationException;
 import br.com.fullcycle.infrastructure.jpa.entities.CustomerEntity;
 import br.com.fullcycle.infrastructure.jpa.repositories.CustomerJpaRepository;
+import br.com.fullcycle.infrastructure.uniqueness.UniqueValueIndex;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 public class CustomerDatabaseRepository implements CustomerRepository {
 
     private final CustomerJpaRepository customerJpaRepository;
+    private final UniqueValueIndex uniqueValueIndex;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
 
-    public CustomerDatabaseRepository(final CustomerJpaRepository customerJpaRepository) {
+    public CustomerDatabaseRepository(
+            final CustomerJpaRepository customerJpaRepository,
+            final UniqueValueIndex uniqueValueIndex,
+            final EntityManager entityManager,
+            final PlatformTransactionManager transactionManager) {
         this.customerJpaRepository = Objects.requireNonNull(customerJpaRepository);
+        this.uniqueValueIndex = Objects.requireNonNull(uniqueValueIndex);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
     }
 
     @Override
     public Optional<Customer> customerOfId(final CustomerId anId) {
         Objects.requireNonNull(anId, "Id cannot be null");
-        return this.customerJpaRepository.findById(UUID.fromString(anId.value()))
+        return this.customerJpaRepository.findById(anId.uuid())
                 .map(CustomerEntity::toDomain);
     }
 
     @Override
     public Optional<Customer> customerOfCpf(final Cpf aCpf) {
         Objects.requireNonNull(aCpf, "Cpf cannot be null");
+        if (!this.uniqueValueIndex.customerCpfs().mightExist(aCpf.value())) {
+            return Optional.empty();
+        }
         return this.customerJpaRepository.findByCpf(aCpf.value())
                 .map(CustomerEntity::toDomain);
     }
@@ -40,26 +61,89 @@ public class CustomerDatabaseRepository implements CustomerRepository {
     @Override
     public Optional<Customer> customerOfEmail(final Email anEmail) {
         Objects.requireNonNull(anEmail, "Email cannot be null");
+        if (!this.uniqueValueIndex.customerEmails().mightExist(anEmail.value())) {
+            return Optional.empty();
+        }
         return this.customerJpaRepository.findByEmail(anEmail.value())
                 .map(CustomerEntity::toDomain);
     }
 
-    @Transactional
+    @Override
+    public Set<Cpf> cpfsTaken(final Collection<Cpf> someCpfs) {
+        final var candidates = someCpfs.stream()
+                .map(Cpf::value)
+                .filter(this.uniqueValueIndex.customerCpfs()::mightExist)
+                .toList();
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return this.customerJpaRepository.findCpfsIn(candidates).stream()
+                .map(Cpf::new)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<Email> emailsTaken(final Collection<Email> someEmails) {
+        final var candidates = someEmails.stream()
+                .map(Email::value)
+                .filter(this.uniqueValueIndex.customerEmails()::mightExist)
+                .toList();
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return this.customerJpaRepository.findEmailsIn(candidates).stream()
+                .map(Email::new)
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public Customer create(final Customer aCustomer) {
-        return this.customerJpaRepository.save(CustomerEntity.of(aCustomer))
-                .toDomain();
+        return save(aCustomer);
     }
 
-    @Transactional
     @Override
     public Customer update(final Customer aCustomer) {
-        return this.customerJpaRepository.save(CustomerEntity.of(aCustomer))
-                .toDomain();
+        return save(aCustomer);
+    }
+
+    /**
+     * Persists instead of saving: the ids are assigned, so saving would first select every customer to tell
+     * whether it is new. The inserts are sent in JDBC batches of {@code hibernate.jdbc.batch_size}.
+     */
+    @Override
+    public void createAll(final List<Customer> customers) {
+        try {
+            this.transactionTemplate.executeWithoutResult(status ->
+                    customers.forEach(aCustomer -> this.entityManager.persist(CustomerEntity.of(aCustomer))));
+        } catch (DataIntegrityViolationException e) {
+            throw new ValidationException("Customer already exists");
+        }
+        customers.forEach(aCustomer -> {
+            this.uniqueValueIndex.customerCpfs().add(aCustomer.cpf().value());
+            this.uniqueValueIndex.customerEmails().add(aCustomer.email().value());
+        });
     }
 
     @Override
     public void deleteAll() {
-        this.customerJpaRepository.deleteAll();
+        this.customerJpaRepository.deleteAllInBulk();
+        this.uniqueValueIndex.customerCpfs().clear();
+        this.uniqueValueIndex.customerEmails().clear();
+    }
+
+    /**
+     * Saves in a transaction of its own, so that a Cpf or an Email already taken, missed by the checks
+     * made beforehand, fails here on the unique constraint of its column.
+     */
+    private Customer save(final Customer aCustomer) {
+        final Customer saved;
+        try {
+            saved = this.customerJpaRepository.save(CustomerEntity.of(aCustomer)).toDomain();
+        } catch (DataIntegrityViolationException e) {
+            throw new ValidationException("Customer already exists");
+        }
+        this.uniqueValueIndex.customerCpfs().add(saved.cpf().value());
+        this.uniqueValueIndex.customerEmails().add(saved.email().value());
+        return saved;
     }
 }
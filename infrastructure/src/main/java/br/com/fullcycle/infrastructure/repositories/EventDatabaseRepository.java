@@ -1,44 +1,69 @@
 package br.com.fullcycle.infrastructure.repositories;
 
-import br.com.fullcycle.domain.DomainEvent;
 import br.com.fullcycle.domain.event.Event;
 import br.com.fullcycle.domain.event.EventId;
 import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.EventTicket;
+import br.com.fullcycle.domain.event.EventTicketId;
+import br.com.fullcycle.domain.event.EventTicketReserved;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.exceptions.ValidationException;
 import br.com.fullcycle.infrastructure.jpa.entities.EventEntity;
+import br.com.fullcycle.infrastructure.jpa.entities.EventTicketEntity;
+import br.com.fullcycle.infrastructure.codec.DomainEventCodec;
 import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
 import br.com.fullcycle.infrastructure.jpa.repositories.EventJpaRepository;
+import br.com.fullcycle.infrastructure.jpa.repositories.EventTicketJpaRepository;
 import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
+@ConditionalOnProperty(name = "events.storage", havingValue = "relational", matchIfMissing = true)
 public class EventDatabaseRepository implements EventRepository {
 
+    private static final String UNIQUE_EVENT_CUSTOMER = "uk_events_tickets_event_customer";
+
     private final EventJpaRepository eventJpaRepository;
+    private final EventTicketJpaRepository eventTicketJpaRepository;
     private final OutboxJpaRepository outboxJpaRepository;
-    private final ObjectMapper mapper;
+    private final DomainEventCodec codec;
 
     public EventDatabaseRepository(final EventJpaRepository eventJpaRepository,
+                                   final EventTicketJpaRepository eventTicketJpaRepository,
                                    final OutboxJpaRepository outboxJpaRepository,
-                                   final ObjectMapper aMapper) {
+                                   final DomainEventCodec codec) {
         this.eventJpaRepository = Objects.requireNonNull(eventJpaRepository);
+        this.eventTicketJpaRepository = Objects.requireNonNull(eventTicketJpaRepository);
         this.outboxJpaRepository = Objects.requireNonNull(outboxJpaRepository);
-        this.mapper = aMapper;
+        this.codec = Objects.requireNonNull(codec);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Optional<Event> eventOfId(final EventId anId) {
         Objects.requireNonNull(anId, "Id cannot be null");
-        return this.eventJpaRepository.findById(UUID.fromString(anId.value()))
+        return this.eventJpaRepository.findById(anId.uuid())
                 .map(EventEntity::toDomain);
     }
 
+    @Override
+    public Optional<Event> eventOfIdWithoutTickets(final EventId anId) {
+        Objects.requireNonNull(anId, "Id cannot be null");
+        return this.eventJpaRepository.findById(anId.uuid())
+                .map(EventEntity::toDomainWithoutTickets);
+    }
+
     @Transactional
     @Override
     public Event create(final Event anEvent) {
@@ -48,7 +73,35 @@ public class EventDatabaseRepository implements EventRepository {
     @Transactional
     @Override
     public Event update(final Event anEvent) {
-        return save(anEvent);
+        final var reservedTickets = reservedTicketsOf(anEvent);
+        if (reservedTickets.isEmpty()) {
+            return save(anEvent);
+        }
+        final var anEventId = anEvent.eventId().uuid();
+        try {
+            if (this.eventJpaRepository.reserveSpots(anEventId, reservedTickets.size()) == 0) {
+                throw new ValidationException("Event sold out");
+            }
+            var anOrdering = this.eventJpaRepository.lastOrderingOf(anEventId) - reservedTickets.size();
+            final var anEventReference = this.eventJpaRepository.getReferenceById(anEventId);
+            final var slots = new ArrayList<EventTicketEntity>(reservedTickets.size());
+            for (final var aTicket : reservedTickets) {
+                final var aSlot = EventTicketEntity.of(anEventReference, aTicket);
+                aSlot.setOrdering(++anOrdering);
+                slots.add(aSlot);
+            }
+            this.eventTicketJpaRepository.saveAll(slots);
+            saveDomainEvents(anEvent);
+            this.eventJpaRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (violates(e, UNIQUE_EVENT_CUSTOMER)) {
+                throw new ValidationException("Customer already subscribed to this event", e);
+            }
+            throw e;
+        } catch (PessimisticLockingFailureException e) {
+            throw new ConcurrencyException("Event was modified concurrently", e);
+        }
+        return anEvent;
     }
 
     @Override
@@ -56,21 +109,36 @@ public class EventDatabaseRepository implements EventRepository {
         this.eventJpaRepository.deleteAll();
     }
 
-    private String toJson(final DomainEvent aDomainEvent) {
+    private Event save(Event anEvent) {
+        saveDomainEvents(anEvent);
         try {
-            return this.mapper.writeValueAsString(aDomainEvent);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+            return this.eventJpaRepository.saveAndFlush(EventEntity.of(anEvent))
+                    .toDomain();
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrencyException("Event was modified concurrently", e);
         }
     }
 
-    private Event save(Event anEvent) {
+    private void saveDomainEvents(final Event anEvent) {
         this.outboxJpaRepository.saveAll(
                 anEvent.allDomainEvents()
-                        .stream().map(it -> OutboxEntity.of(it, this::toJson))
+                        .stream().map(it -> OutboxEntity.of("Event", anEvent.eventId().uuid(), it, this.codec::encode))
                         .toList()
         );
-        return this.eventJpaRepository.save(EventEntity.of(anEvent))
-                .toDomain();
+    }
+
+    private static boolean violates(final DataIntegrityViolationException e, final String aConstraint) {
+        final var aMessage = e.getMostSpecificCause().getMessage();
+        return aMessage != null && aMessage.toLowerCase().contains(aConstraint);
+    }
+
+    private static List<EventTicket> reservedTicketsOf(final Event anEvent) {
+        final var reservedTicketIds = anEvent.allDomainEvents().stream()
+                .filter(EventTicketReserved.class::isInstance)
+                .map(it -> EventTicketId.with(((EventTicketReserved) it).eventTickedId()))
+                .collect(Collectors.toSet());
+        return anEvent.allTickets().stream()
+                .filter(it -> reservedTicketIds.contains(it.eventTicketId()))
+                .toList();
     }
 }
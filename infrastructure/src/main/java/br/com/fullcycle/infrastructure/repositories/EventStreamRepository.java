@@ -0,0 +1,306 @@
+package br.com.fullcycle.infrastructure.repositories;
+
+import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.EventTicket;
+import br.com.fullcycle.domain.event.EventTicketId;
+import br.com.fullcycle.domain.event.EventTicketReserved;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.partner.PartnerId;
+import br.com.fullcycle.infrastructure.codec.DomainEventCodec;
+import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
+import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
+import br.com.fullcycle.infrastructure.queries.Uuids;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Stores each event as the stream of what happened to it, selected with {@code events.storage=event-sourced}.
+ * <p>
+ * A reservation appends a single row to {@code event_stream}, numbered by the version it was made on, instead
+ * of inserting its slot and rewriting the event's row. Every {@code events.snapshot-interval} versions the whole
+ * state is written to {@code event_snapshots}, replacing the older snapshots of the event, and an event is loaded
+ * from that snapshot plus the rows appended after it. Loading without tickets only counts those rows.
+ * <p>
+ * The beans that read {@code events} and {@code events_tickets} directly are off in this mode: the listing and
+ * the availability are read by {@link br.com.fullcycle.infrastructure.queries.EventStreamQuery}, and
+ * {@link br.com.fullcycle.infrastructure.configurations.EventSourcedConfig} stands in for the rest.
+ */
+@Component
+@ConditionalOnProperty(name = "events.storage", havingValue = "event-sourced")
+public class EventStreamRepository implements EventRepository {
+
+    private static final String LATEST_SNAPSHOT = """
+            select version, name, date, total_spots, reserved_spots, partner_id from event_snapshots
+            where event_id = ? order by version desc limit 1
+            """;
+    private static final String LATEST_SNAPSHOT_WITH_TICKETS = """
+            select version, name, date, total_spots, reserved_spots, partner_id, tickets from event_snapshots
+            where event_id = ? order by version desc limit 1
+            """;
+    private static final String STREAM_AFTER = """
+            select event_type, content from event_stream
+            where event_id = ? and sequence > ? order by sequence
+            """;
+    private static final String STREAM_LENGTH_AFTER = """
+            select count(*) from event_stream where event_id = ? and sequence > ?
+            """;
+    private static final String APPEND = """
+            insert into event_stream (event_id, sequence, event_type, customer_id, content, occurred_on)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_SNAPSHOT = """
+            insert into event_snapshots
+            (event_id, version, name, date, total_spots, reserved_spots, partner_id, tickets, created_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String DELETE_OLDER_SNAPSHOTS = """
+            delete from event_snapshots where event_id = ? and version < ?
+            """;
+    private static final String CUSTOMER_RESERVED = """
+            select count(*) from event_stream where event_id = ? and customer_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxJpaRepository outboxJpaRepository;
+    private final DomainEventCodec codec;
+    private final ObjectReader ticketsReader;
+    private final ObjectWriter ticketsWriter;
+    private final int snapshotInterval;
+
+    public EventStreamRepository(final JdbcTemplate jdbcTemplate,
+                                 final OutboxJpaRepository outboxJpaRepository,
+                                 final DomainEventCodec codec,
+                                 final ObjectMapper mapper,
+                                 @Value("${events.snapshot-interval:100}") final int snapshotInterval) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("events.snapshot-interval must be at least 1");
+        }
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.outboxJpaRepository = Objects.requireNonNull(outboxJpaRepository);
+        this.codec = Objects.requireNonNull(codec);
+        this.ticketsReader = mapper.readerForListOf(SnapshotTicket.class);
+        this.ticketsWriter = mapper.writerFor(mapper.getTypeFactory()
+                .constructCollectionType(List.class, SnapshotTicket.class));
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<Event> eventOfId(final EventId anId) {
+        Objects.requireNonNull(anId, "Id cannot be null");
+        return load(anId);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<Event> eventOfIdWithoutTickets(final EventId anId) {
+        Objects.requireNonNull(anId, "Id cannot be null");
+        final var anIdBytes = Uuids.toBytes(anId.uuid());
+        return latestSnapshot(anIdBytes, false).map(snapshot -> {
+            final var appended = this.jdbcTemplate.queryForObject(
+                    STREAM_LENGTH_AFTER, Integer.class, anIdBytes, snapshot.version());
+            return snapshot.restore(anId, snapshot.reservedSpots() + appended, snapshot.version() + appended,
+                    new HashSet<>());
+        });
+    }
+
+    @Transactional
+    @Override
+    public Event create(final Event anEvent) {
+        snapshot(anEvent);
+        saveDomainEvents(anEvent);
+        return anEvent;
+    }
+
+    @Transactional
+    @Override
+    public Event update(final Event anEvent) {
+        final var orderings = anEvent.allTickets().stream()
+                .collect(Collectors.toMap(it -> it.eventTicketId().value(), EventTicket::ordering));
+        final var domainEvents = anEvent.allDomainEvents().stream()
+                .filter(EventTicketReserved.class::isInstance)
+                .map(EventTicketReserved.class::cast)
+                .sorted(Comparator.comparing(it -> orderings.get(it.eventTickedId())))
+                .toList();
+        if (domainEvents.isEmpty()) {
+            return anEvent;
+        }
+        final var anIdBytes = Uuids.toBytes(anEvent.eventId().uuid());
+        final var rows = new ArrayList<Object[]>(domainEvents.size());
+        var version = anEvent.version();
+        for (final var it : domainEvents) {
+            rows.add(new Object[]{
+                    anIdBytes,
+                    ++version,
+                    it.type(),
+                    Uuids.toBytes(CustomerId.with(it.customerId()).uuid()),
+                    this.codec.encode(it),
+                    Timestamp.from(it.occurredOn())});
+        }
+        try {
+            this.jdbcTemplate.batchUpdate(APPEND, rows);
+        } catch (DuplicateKeyException e) {
+            if (domainEvents.stream().anyMatch(it -> customerReserved(anIdBytes, it.customerId()))) {
+                throw new ValidationException("Customer already subscribed to this event", e);
+            }
+            throw new ConcurrencyException("Event was modified concurrently", e);
+        }
+        saveDomainEvents(anEvent);
+        if (version / snapshotInterval > anEvent.version() / snapshotInterval) {
+            snapshot(load(anEvent.eventId()).orElseThrow());
+        }
+        return anEvent;
+    }
+
+    @Transactional
+    @Override
+    public void deleteAll() {
+        this.jdbcTemplate.update("delete from event_stream");
+        this.jdbcTemplate.update("delete from event_snapshots");
+    }
+
+    private Optional<Event> load(final EventId anId) {
+        final var anIdBytes = Uuids.toBytes(anId.uuid());
+        return latestSnapshot(anIdBytes, true).map(snapshot -> {
+            final var tickets = new HashSet<EventTicket>();
+            readTickets(snapshot.tickets()).forEach(it -> tickets.add(it.toDomain(anId)));
+            var reservedSpots = snapshot.reservedSpots();
+            var version = snapshot.version();
+            final var stream = this.jdbcTemplate.query(STREAM_AFTER, (rs, rowNum) ->
+                    this.codec.decode(rs.getString("event_type"), rs.getString("content")), anIdBytes, version);
+            for (final DomainEvent it : stream) {
+                if (!(it instanceof EventTicketReserved reserved)) {
+                    throw new IllegalStateException("Cannot replay " + it.type() + " on an event");
+                }
+                tickets.add(EventTicket.with(
+                        EventTicketId.with(reserved.eventTickedId()),
+                        anId,
+                        CustomerId.with(reserved.customerId()),
+                        null,
+                        ++reservedSpots));
+                version++;
+            }
+            return snapshot.restore(anId, reservedSpots, version, tickets);
+        });
+    }
+
+    private Optional<Snapshot> latestSnapshot(final byte[] anIdBytes, final boolean withTickets) {
+        return this.jdbcTemplate.query(withTickets ? LATEST_SNAPSHOT_WITH_TICKETS : LATEST_SNAPSHOT, (rs, rowNum) -> new Snapshot(
+                rs.getLong("version"),
+                rs.getString("name"),
+                rs.getDate("date").toLocalDate().toString(),
+                rs.getInt("total_spots"),
+                rs.getInt("reserved_spots"),
+                PartnerId.with(Uuids.fromBytes(rs.getBytes("partner_id"))),
+                withTickets ? rs.getString("tickets") : null
+        ), anIdBytes).stream().findFirst();
+    }
+
+    private void snapshot(final Event anEvent) {
+        final var anIdBytes = Uuids.toBytes(anEvent.eventId().uuid());
+        this.jdbcTemplate.update(INSERT_SNAPSHOT,
+                anIdBytes,
+                anEvent.version(),
+                anEvent.name().value(),
+                Date.valueOf(anEvent.date()),
+                anEvent.totalSpots(),
+                anEvent.reservedSpots(),
+                Uuids.toBytes(anEvent.partnerId().uuid()),
+                writeTickets(anEvent.allTickets().stream().map(SnapshotTicket::of).toList()),
+                Timestamp.from(Instant.now()));
+        this.jdbcTemplate.update(DELETE_OLDER_SNAPSHOTS, anIdBytes, anEvent.version());
+    }
+
+    private boolean customerReserved(final byte[] anIdBytes, final String aCustomerId) {
+        final var reserved = this.jdbcTemplate.queryForObject(CUSTOMER_RESERVED, Integer.class,
+                anIdBytes, Uuids.toBytes(CustomerId.with(aCustomerId).uuid()));
+        return reserved != null && reserved > 0;
+    }
+
+    private void saveDomainEvents(final Event anEvent) {
+        this.outboxJpaRepository.saveAll(
+                anEvent.allDomainEvents()
+                        .stream().map(it -> OutboxEntity.of("Event", anEvent.eventId().uuid(), it, this.codec::encode))
+                        .toList()
+        );
+    }
+
+    private List<SnapshotTicket> readTickets(final String content) {
+        try {
+            return this.ticketsReader.readValue(content);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String writeTickets(final List<SnapshotTicket> tickets) {
+        try {
+            return this.ticketsWriter.writeValueAsString(tickets);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Snapshot(
+            long version,
+            String name,
+            String date,
+            int totalSpots,
+            int reservedSpots,
+            PartnerId partnerId,
+            String tickets) {
+
+        private Event restore(final EventId anId,
+                              final int aReservedSpots,
+                              final long aVersion,
+                              final Set<EventTicket> someTickets) {
+            return Event.with(anId, name, date, totalSpots, partnerId, aReservedSpots, aVersion, someTickets);
+        }
+    }
+
+    private record SnapshotTicket(String eventTicketId, String customerId, String ticketId, int ordering) {
+
+        private static SnapshotTicket of(final EventTicket aTicket) {
+            return new SnapshotTicket(
+                    aTicket.eventTicketId().value(),
+                    aTicket.customerId().value(),
+                    aTicket.ticketId() != null ? aTicket.ticketId().value() : null,
+                    aTicket.ordering());
+        }
+
+        private EventTicket toDomain(final EventId anEventId) {
+            return EventTicket.with(
+                    EventTicketId.with(eventTicketId),
+                    anEventId,
+                    CustomerId.with(customerId),
+                    ticketId != null ? TicketId.with(ticketId) : null,
+                    ordering);
+        }
+    }
+}
@@ -5,34 +5,42 @@ import br.com.fullcycle.domain.partner.PartnerId;
 import br.com.fullcycle.domain.person.Cnpj;
 import br.com.fullcycle.domain.person.Email;
 import br.com.fullcycle.domain.partner.PartnerRepository;
+import br.com.fullcycle.domain.exceptions.ValidationException;
 import br.com.fullcycle.infrastructure.jpa.entities.PartnerEntity;
 import br.com.fullcycle.infrastructure.jpa.repositories.PartnerJpaRepository;
+import br.com.fullcycle.infrastructure.uniqueness.UniqueValueIndex;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
 
 @Component
 public class PartnerDatabaseRepository implements PartnerRepository {
 
     private final PartnerJpaRepository partnerJpaRepository;
+    private final UniqueValueIndex uniqueValueIndex;
 
-    public PartnerDatabaseRepository(final PartnerJpaRepository partnerJpaRepository) {
+    public PartnerDatabaseRepository(
+            final PartnerJpaRepository partnerJpaRepository,
+            final UniqueValueIndex uniqueValueIndex) {
         this.partnerJpaRepository = Objects.requireNonNull(partnerJpaRepository);
+        this.uniqueValueIndex = Objects.requireNonNull(uniqueValueIndex);
     }
 
     @Override
     public Optional<Partner> partnerOfId(final PartnerId anId) {
         Objects.requireNonNull(anId, "Id cannot be null");
-        return this.partnerJpaRepository.findById(UUID.fromString(anId.value()))
+        return this.partnerJpaRepository.findById(anId.uuid())
                 .map(PartnerEntity::toDomain);
     }
 
     @Override
     public Optional<Partner> partnerOfCnpj(final Cnpj aCnpj) {
         Objects.requireNonNull(aCnpj, "Cnpj cannot be null");
+        if (!this.uniqueValueIndex.partnerCnpjs().mightExist(aCnpj.value())) {
+            return Optional.empty();
+        }
         return this.partnerJpaRepository.findByCnpj(aCnpj.value())
                 .map(PartnerEntity::toDomain);
     }
@@ -40,26 +48,43 @@ public class PartnerDatabaseRepository implements PartnerRepository {
     @Override
     public Optional<Partner> partnerOfEmail(final Email anEmail) {
         Objects.requireNonNull(anEmail, "Email cannot be null");
+        if (!this.uniqueValueIndex.partnerEmails().mightExist(anEmail.value())) {
+            return Optional.empty();
+        }
         return this.partnerJpaRepository.findByEmail(anEmail.value())
                 .map(PartnerEntity::toDomain);
     }
 
-    @Transactional
     @Override
     public Partner create(final Partner aPartner) {
-        return this.partnerJpaRepository.save(PartnerEntity.of(aPartner))
-                .toDomain();
+        return save(aPartner);
     }
 
-    @Transactional
     @Override
     public Partner update(final Partner aPartner) {
-        return this.partnerJpaRepository.save(PartnerEntity.of(aPartner))
-                .toDomain();
+        return save(aPartner);
     }
 
     @Override
     public void deleteAll() {
-        this.partnerJpaRepository.deleteAll();
+        this.partnerJpaRepository.deleteAllInBulk();
+        this.uniqueValueIndex.partnerCnpjs().clear();
+        this.uniqueValueIndex.partnerEmails().clear();
+    }
+
+    /**
+     * Saves in a transaction of its own, so that a Cnpj or an Email already taken, missed by the checks
+     * made beforehand, fails here on the unique constraint of its column.
+     */
+    private Partner save(final Partner aPartner) {
+        final Partner saved;
+        try {
+            saved = this.partnerJpaRepository.save(PartnerEntity.of(aPartner)).toDomain();
+        } catch (DataIntegrityViolationException e) {
+            throw new ValidationException("Partner already exists");
+        }
+        this.uniqueValueIndex.partnerCnpjs().add(saved.cnpj().value());
+        this.uniqueValueIndex.partnerEmails().add(saved.email().value());
+        return saved;
     }
 }
@@ -1,18 +1,25 @@
 package br.com.fullcycle.infrastructure.repositories;
 
-import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.event.EventTicketId;
 import br.com.fullcycle.domain.event.ticket.Ticket;
 import br.com.fullcycle.domain.event.ticket.TicketId;
 import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.infrastructure.codec.DomainEventCodec;
 import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
 import br.com.fullcycle.infrastructure.jpa.entities.TicketEntity;
 import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
 import br.com.fullcycle.infrastructure.jpa.repositories.TicketJpaRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,33 +27,86 @@ import java.util.UUID;
 @Component
 public class TicketDatabaseRepository implements TicketRepository {
 
+    private static final String TICKET_ID_OF_EVENT_TICKET_ID =
+            "select t.id from Ticket t where t.eventTicketId = :eventTicketId";
+
     private final TicketJpaRepository ticketJpaRepository;
     private final OutboxJpaRepository outboxJpaRepository;
-    private final ObjectMapper mapper;
+    private final DomainEventCodec codec;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
 
-    public TicketDatabaseRepository(final TicketJpaRepository ticketJpaRepository, OutboxJpaRepository outboxJpaRepository, ObjectMapper mapper) {
+    public TicketDatabaseRepository(final TicketJpaRepository ticketJpaRepository,
+                                    final OutboxJpaRepository outboxJpaRepository,
+                                    final DomainEventCodec codec,
+                                    final EntityManager entityManager,
+                                    final PlatformTransactionManager transactionManager) {
         this.ticketJpaRepository = Objects.requireNonNull(ticketJpaRepository);
         this.outboxJpaRepository = Objects.requireNonNull(outboxJpaRepository);
-        this.mapper = Objects.requireNonNull(mapper);
+        this.codec = Objects.requireNonNull(codec);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
     }
 
     @Override
     public Optional<Ticket> ticketOfId(final TicketId anId) {
         Objects.requireNonNull(anId, "Id cannot be null");
-        return this.ticketJpaRepository.findById(UUID.fromString(anId.value()))
+        return this.ticketJpaRepository.findById(anId.uuid())
                 .map(TicketEntity::toDomain);
     }
 
-    @Transactional
+    /**
+     * Queried through the {@link EntityManager}: a {@code @Query} method has its JPQL parsed again by Spring
+     * Data on every call, which costs more than the lookup itself.
+     */
+    @Override
+    public Optional<TicketId> ticketIdOfEventTicketId(final EventTicketId anEventTicketId) {
+        Objects.requireNonNull(anEventTicketId, "EventTicketId cannot be null");
+        return this.entityManager.createQuery(TICKET_ID_OF_EVENT_TICKET_ID, UUID.class)
+                .setParameter("eventTicketId", anEventTicketId.uuid())
+                .getResultList()
+                .stream()
+                .findFirst()
+                .map(TicketId::with);
+    }
+
+    /**
+     * Persists the ticket and its domain events in a transaction of its own, so that a second ticket for the
+     * same reservation fails here on {@code uk_tickets_event_ticket}, with nothing written to the outbox.
+     */
     @Override
     public Ticket create(final Ticket aTicket) {
-        return save(aTicket);
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> {
+                saveDomainEvents(aTicket);
+                this.entityManager.persist(TicketEntity.of(aTicket));
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new ValidationException("Ticket already exists");
+        }
+        return aTicket;
+    }
+
+    /**
+     * Writes only the status and payment date, the only fields a ticket changes once issued, and only if the
+     * stored ticket is still in {@code aPreviousStatus}.
+     */
+    @Transactional
+    @Override
+    public Ticket update(final Ticket aTicket, final TicketStatus aPreviousStatus) {
+        final var updated = this.ticketJpaRepository.updateStatus(
+                aTicket.ticketId().uuid(), aTicket.status(), aTicket.paidAt(), aPreviousStatus);
+        if (updated == 0) {
+            throw new ConcurrencyException("Ticket was modified concurrently");
+        }
+        saveDomainEvents(aTicket);
+        return aTicket;
     }
 
     @Transactional
     @Override
-    public Ticket update(final Ticket aTicket) {
-        return save(aTicket);
+    public int settleProcessing(final Instant aPaidAt, final int aLimit) {
+        return this.ticketJpaRepository.settleProcessing(aPaidAt, aLimit);
     }
 
     @Override
@@ -54,21 +114,11 @@ public class TicketDatabaseRepository implements TicketRepository {
         this.ticketJpaRepository.deleteAll();
     }
 
-    private Ticket save(Ticket aTicket) {
+    private void saveDomainEvents(final Ticket aTicket) {
         this.outboxJpaRepository.saveAll(
                 aTicket.allDomainEvents()
-                        .stream().map(it -> OutboxEntity.of(it, this::toJson))
+                        .stream().map(it -> OutboxEntity.of("Ticket", aTicket.ticketId().uuid(), it, this.codec::encode))
                         .toList()
         );
-        return this.ticketJpaRepository.save(TicketEntity.of(aTicket))
-                .toDomain();
-    }
-
-    private String toJson(final DomainEvent aDomainEvent) {
-        try {
-            return this.mapper.writeValueAsString(aDomainEvent);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
     }
 }
@@ -4,13 +4,23 @@ import br.com.fullcycle.application.Presenter;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 import br.com.fullcycle.application.customer.CreateCustomerUseCase;
 import br.com.fullcycle.application.customer.GetCustomerByIdUseCase;
+import br.com.fullcycle.application.customer.ImportCustomersUseCase;
 import br.com.fullcycle.infrastructure.dtos.NewCustomerDTO;
+import br.com.fullcycle.infrastructure.imports.CustomerRows;
 import br.com.fullcycle.infrastructure.rest.presenters.GetCustomerByIdResponseEntity;
 import br.com.fullcycle.infrastructure.rest.presenters.PublicGetCustomerByIdString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -20,12 +30,18 @@ public class CustomerController {
 
     private final CreateCustomerUseCase createCustomerUseCase;
     private final GetCustomerByIdUseCase getCustomerByIdUseCase;
+    private final ImportCustomersUseCase importCustomersUseCase;
+    private final ObjectMapper mapper;
 
     public CustomerController(
             final CreateCustomerUseCase createCustomerUseCase,
-            final GetCustomerByIdUseCase getCustomerByIdUseCase) {
+            final GetCustomerByIdUseCase getCustomerByIdUseCase,
+            final ImportCustomersUseCase importCustomersUseCase,
+            final ObjectMapper mapper) {
         this.createCustomerUseCase = Objects.requireNonNull(createCustomerUseCase);
         this.getCustomerByIdUseCase = Objects.requireNonNull(getCustomerByIdUseCase);
+        this.importCustomersUseCase = Objects.requireNonNull(importCustomersUseCase);
+        this.mapper = Objects.requireNonNull(mapper);
     }
 
     @PostMapping
@@ -45,6 +61,26 @@ public class CustomerController {
         }
     }
 
+    /**
+     * Imports a customer list sent as NDJSON or CSV, read as it is imported, and reports the rows that could
+     * not be imported.
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<?> importCustomers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) final MediaType contentType,
+            final InputStream body) throws IOException {
+        final var charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        try (final var reader = new BufferedReader(new InputStreamReader(body, charset))) {
+            final var rows = "csv".equals(contentType.getSubtype())
+                    ? CustomerRows.csv(reader)
+                    : CustomerRows.ndjson(reader, mapper);
+            return ResponseEntity.ok(importCustomersUseCase.execute(ImportCustomersUseCase.Input.with(rows)));
+        } catch (ValidationException e) {
+            return ResponseEntity.unprocessableEntity()
+                    .body(e.getMessage());
+        }
+    }
+
     @GetMapping("/{id}")
     public Object get(@PathVariable String id, @RequestHeader(name = "X-PUBLIC", required = false) String xPublic) {
         Presenter<Optional<GetCustomerByIdUseCase.Output>, Object> presenter = new GetCustomerByIdResponseEntity();
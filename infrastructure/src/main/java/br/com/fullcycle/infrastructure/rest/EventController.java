@@ -1,7 +1,10 @@
 package br.com.fullcycle.infrastructure.rest;
 
 import br.com.fullcycle.application.event.CreateEventUseCase;
+import br.com.fullcycle.application.event.GetEventAvailabilityUseCase;
+import br.com.fullcycle.application.event.ListEventsUseCase;
 import br.com.fullcycle.application.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 import br.com.fullcycle.infrastructure.dtos.NewEventDTO;
 import br.com.fullcycle.infrastructure.dtos.SubscribeDTO;
@@ -11,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 import java.net.URI;
 import java.util.Objects;
 
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.CREATED;
 
 @RestController
@@ -19,12 +23,48 @@ public class EventController {
 
     private final CreateEventUseCase createEventUseCase;
     private final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase;
+    private final ListEventsUseCase listEventsUseCase;
+    private final GetEventAvailabilityUseCase getEventAvailabilityUseCase;
 
     public EventController(
             final CreateEventUseCase createEventUseCase,
-            final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase) {
+            final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase,
+            final ListEventsUseCase listEventsUseCase,
+            final GetEventAvailabilityUseCase getEventAvailabilityUseCase) {
         this.createEventUseCase = Objects.requireNonNull(createEventUseCase);
         this.subscribeCustomerToEventUseCase = Objects.requireNonNull(subscribeCustomerToEventUseCase);
+        this.listEventsUseCase = Objects.requireNonNull(listEventsUseCase);
+        this.getEventAvailabilityUseCase = Objects.requireNonNull(getEventAvailabilityUseCase);
+    }
+
+    @GetMapping
+    public ResponseEntity<?> list(
+            @RequestParam(required = false) String partnerId,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Boolean available,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            final var input = ListEventsUseCase.Input.with(partnerId, from, to, available, after, limit);
+            return ResponseEntity.ok(listEventsUseCase.execute(input));
+        } catch (ValidationException e) {
+            return ResponseEntity.unprocessableEntity()
+                    .body(e.getMessage());
+        }
+    }
+
+    @GetMapping(value = "/{id}/availability")
+    public ResponseEntity<?> availability(@PathVariable String id) {
+        try {
+            final var input = GetEventAvailabilityUseCase.Input.with(id);
+            return getEventAvailabilityUseCase.execute(input)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(ResponseEntity.notFound()::build);
+        } catch (ValidationException e) {
+            return ResponseEntity.unprocessableEntity()
+                    .body(e.getMessage());
+        }
     }
 
     @PostMapping
@@ -51,6 +91,9 @@ public class EventController {
         } catch (ValidationException e) {
             return ResponseEntity.unprocessableEntity()
                     .body(e.getMessage());
+        } catch (ConcurrencyException e) {
+            return ResponseEntity.status(CONFLICT)
+                    .body(e.getMessage());
         }
     }
 }
@@ -0,0 +1,36 @@
+package br.com.fullcycle.infrastructure.rest;
+
+import br.com.fullcycle.application.ticket.ConfirmTicketPaymentUseCase;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Objects;
+
+import static org.springframework.http.HttpStatus.CONFLICT;
+
+@RestController
+@RequestMapping(value = "tickets")
+public class TicketController {
+
+    private final ConfirmTicketPaymentUseCase confirmTicketPaymentUseCase;
+
+    public TicketController(final ConfirmTicketPaymentUseCase confirmTicketPaymentUseCase) {
+        this.confirmTicketPaymentUseCase = Objects.requireNonNull(confirmTicketPaymentUseCase);
+    }
+
+    @PostMapping(value = "/{id}/confirm-payment")
+    public ResponseEntity<?> confirmPayment(@PathVariable String id) {
+        try {
+            final var input = ConfirmTicketPaymentUseCase.Input.with(id);
+            return ResponseEntity.ok(confirmTicketPaymentUseCase.execute(input));
+        } catch (ValidationException e) {
+            return ResponseEntity.unprocessableEntity()
+                    .body(e.getMessage());
+        } catch (ConcurrencyException e) {
+            return ResponseEntity.status(CONFLICT)
+                    .body(e.getMessage());
+        }
+    }
+}
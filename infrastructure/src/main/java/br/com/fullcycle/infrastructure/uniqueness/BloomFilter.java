@@ -0,0 +1,68 @@
+package br.com.fullcycle.infrastructure.uniqueness;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread-safe Bloom filter of strings: {@link #mightContain} never answers false for a value that was
+ * {@link #put}, and answers true for a value that was not with about the false positive rate it was sized
+ * for.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long size;
+    private final int hashes;
+
+    private BloomFilter(final long size, final int hashes) {
+        this.bits = new AtomicLongArray((int) ((size + 63) >>> 6));
+        this.size = size;
+        this.hashes = hashes;
+    }
+
+    static BloomFilter sized(final long expectedValues, final double falsePositiveRate) {
+        final var values = Math.max(expectedValues, 1);
+        final var size = Math.max(64, (long) Math.ceil(-values * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        final var hashes = Math.max(1, (int) Math.round((double) size / values * Math.log(2)));
+        return new BloomFilter(size, hashes);
+    }
+
+    void put(final String aValue) {
+        final var hash1 = hash(aValue);
+        final var hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashes; i++) {
+            final var bit = Math.floorMod(hash1 + i * hash2, size);
+            final var index = (int) (bit >>> 6);
+            final var mask = 1L << bit;
+            long word;
+            while (((word = bits.get(index)) & mask) == 0 && !bits.compareAndSet(index, word, word | mask)) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    boolean mightContain(final String aValue) {
+        final var hash1 = hash(aValue);
+        final var hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashes; i++) {
+            final var bit = Math.floorMod(hash1 + i * hash2, size);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(final String aValue) {
+        var hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < aValue.length(); i++) {
+            hash = (hash ^ aValue.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long aHash) {
+        aHash = (aHash ^ (aHash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        aHash = (aHash ^ (aHash >>> 27)) * 0x94D049BB133111EBL;
+        return aHash ^ (aHash >>> 31);
+    }
+}
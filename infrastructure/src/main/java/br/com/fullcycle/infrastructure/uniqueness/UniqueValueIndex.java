@@ -0,0 +1,81 @@
+package br.com.fullcycle.infrastructure.uniqueness;
+
+import br.com.fullcycle.infrastructure.jpa.repositories.CustomerJpaRepository;
+import br.com.fullcycle.infrastructure.jpa.repositories.PartnerJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * In-memory {@link UniqueValues} of the customers' Cpf and Email and of the partners' Cnpj and Email, so
+ * that the uniqueness checks made before a signup skip the database when the value is certainly new. Each
+ * filter is sized for {@code unique-index.expected-values} values with a
+ * {@code unique-index.false-positive-rate}.
+ */
+@Component
+public class UniqueValueIndex {
+
+    private final CustomerJpaRepository customerJpaRepository;
+    private final PartnerJpaRepository partnerJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final UniqueValues customerCpfs;
+    private final UniqueValues customerEmails;
+    private final UniqueValues partnerCnpjs;
+    private final UniqueValues partnerEmails;
+
+    public UniqueValueIndex(
+            final CustomerJpaRepository customerJpaRepository,
+            final PartnerJpaRepository partnerJpaRepository,
+            final PlatformTransactionManager transactionManager,
+            @Value("${unique-index.expected-values:1000000}") final long expectedValues,
+            @Value("${unique-index.false-positive-rate:0.01}") final double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("unique-index.false-positive-rate must be between 0 and 1");
+        }
+        this.customerJpaRepository = Objects.requireNonNull(customerJpaRepository);
+        this.partnerJpaRepository = Objects.requireNonNull(partnerJpaRepository);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.transactionTemplate.setReadOnly(true);
+        this.customerCpfs = new UniqueValues(expectedValues, falsePositiveRate);
+        this.customerEmails = new UniqueValues(expectedValues, falsePositiveRate);
+        this.partnerCnpjs = new UniqueValues(expectedValues, falsePositiveRate);
+        this.partnerEmails = new UniqueValues(expectedValues, falsePositiveRate);
+    }
+
+    public UniqueValues customerCpfs() {
+        return customerCpfs;
+    }
+
+    public UniqueValues customerEmails() {
+        return customerEmails;
+    }
+
+    public UniqueValues partnerCnpjs() {
+        return partnerCnpjs;
+    }
+
+    public UniqueValues partnerEmails() {
+        return partnerEmails;
+    }
+
+    public void rebuild() {
+        this.customerCpfs.rebuild(load(this.customerJpaRepository::streamCpfs));
+        this.customerEmails.rebuild(load(this.customerJpaRepository::streamEmails));
+        this.partnerCnpjs.rebuild(load(this.partnerJpaRepository::streamCnpjs));
+        this.partnerEmails.rebuild(load(this.partnerJpaRepository::streamEmails));
+    }
+
+    private Consumer<Consumer<String>> load(final Supplier<Stream<String>> aQuery) {
+        return aConsumer -> this.transactionTemplate.executeWithoutResult(status -> {
+            try (final var values = aQuery.get()) {
+                values.forEach(aConsumer);
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.fullcycle.infrastructure.uniqueness;
+
+import java.util.function.Consumer;
+
+/**
+ * The values of a unique column, kept in a {@link BloomFilter}: when {@link #mightExist} answers false the
+ * value is certainly not in the column and the lookup can skip the database. Until the first
+ * {@link #rebuild} every value might exist.
+ * <p>
+ * Values are only ever added, so a value that is deleted or changed stays a false positive until the next
+ * rebuild. A value inserted by another instance is missed until then, which the unique constraint of the
+ * column catches on insert.
+ */
+public class UniqueValues {
+
+    private final long expectedValues;
+    private final double falsePositiveRate;
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+
+    UniqueValues(final long expectedValues, final double falsePositiveRate) {
+        this.expectedValues = expectedValues;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public boolean mightExist(final String aValue) {
+        final var aFilter = this.filter;
+        return aFilter == null || aFilter.mightContain(aValue);
+    }
+
+    public void add(final String aValue) {
+        // Read before the filter: a value added after the rebuild is done is then added to the new filter
+        final var next = this.rebuilding;
+        final var aFilter = this.filter;
+        if (aFilter != null) {
+            aFilter.put(aValue);
+        }
+        if (next != null) {
+            next.put(aValue);
+        }
+    }
+
+    /**
+     * Replaces the filter by one holding the values handed by {@code aLoader}, and the values added while
+     * it loads them.
+     */
+    public synchronized void rebuild(final Consumer<Consumer<String>> aLoader) {
+        final var next = BloomFilter.sized(expectedValues, falsePositiveRate);
+        this.rebuilding = next;
+        try {
+            aLoader.accept(next::put);
+            this.filter = next;
+        } finally {
+            this.rebuilding = null;
+        }
+    }
+
+    /**
+     * Forgets every value, once the column is known to be empty.
+     */
+    public synchronized void clear() {
+        this.filter = BloomFilter.sized(expectedValues, falsePositiveRate);
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.fullcycle.infrastructure.configurations;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs the blocking work of the application on virtual threads: Tomcat request handling, the scheduled
+ * jobs, the outbox relay workers and the queue consumers. A thread blocked on JDBC then no longer pins a
+ * platform thread, so the number of requests in flight is bounded by the connection pool rather than by
+ * {@code server.tomcat.threads.max}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean
+    public TaskScheduler taskScheduler() {
+        final var scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadFactory(Thread.ofVirtual().name("scheduling-", 1).factory());
+        return scheduler;
+    }
+
+    @Bean
+    public ExecutorService outboxRelayExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("outbox-relay-", 1).factory());
+    }
+
+    @Bean
+    public ThreadFactory consumerThreadFactory() {
+        return Thread.ofVirtual().name("consumer-", 1).factory();
+    }
+}
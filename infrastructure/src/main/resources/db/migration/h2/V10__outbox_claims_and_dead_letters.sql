@@ -0,0 +1,17 @@
+-- H2 counterpart of db/migration/mysql.
+
+alter table outbox add column attempts integer default 0 not null;
+alter table outbox add column claimed_until timestamp(6) with time zone;
+
+create table outbox_dead_letters (
+    id               uuid                        not null,
+    sequence         bigint                      not null,
+    aggregate_type   varchar(64)                 not null,
+    aggregate_id     uuid                        not null,
+    event_type       varchar(64)                 not null,
+    content          varchar(4000)               not null,
+    attempts         integer                     not null,
+    created_at       timestamp(6) with time zone not null,
+    dead_lettered_at timestamp(6) with time zone not null,
+    primary key (id)
+);
@@ -0,0 +1,6 @@
+-- H2 counterpart of db/migration/mysql.
+
+alter table events add column last_ordering integer default 0 not null;
+
+update events e
+set last_ordering = coalesce((select max(t.ordering) from events_tickets t where t.event_id = e.id), 0);
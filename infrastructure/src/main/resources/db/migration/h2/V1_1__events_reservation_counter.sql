@@ -0,0 +1,7 @@
+-- H2 counterpart of db/migration/mysql.
+
+alter table events add column reserved_spots integer default 0 not null;
+alter table events add column version bigint default 0 not null;
+
+alter table events_tickets
+    add constraint uk_events_tickets_event_customer unique (event_id, customer_id);
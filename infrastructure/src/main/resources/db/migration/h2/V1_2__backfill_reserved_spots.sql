@@ -0,0 +1,4 @@
+-- H2 counterpart of db/migration/mysql.
+
+update events e
+set reserved_spots = (select count(*) from events_tickets t where t.event_id = e.id);
@@ -0,0 +1,53 @@
+-- H2 counterpart of db/migration/mysql, used by the tests.
+
+create table customers (
+    id    uuid not null,
+    name  varchar(255),
+    cpf   varchar(255),
+    email varchar(255),
+    primary key (id)
+);
+
+create table partners (
+    id    uuid not null,
+    name  varchar(255),
+    cnpj  varchar(255),
+    email varchar(255),
+    primary key (id)
+);
+
+create table events (
+    id             uuid    not null,
+    name           varchar(255),
+    date           date,
+    total_spots    integer not null,
+    partner_id     uuid,
+    primary key (id)
+);
+
+create table events_tickets (
+    event_ticked_id uuid    not null,
+    ticket_id       uuid,
+    customer_id     uuid,
+    ordering        integer not null,
+    event_id        uuid,
+    primary key (event_ticked_id),
+    constraint fk_events_tickets_event foreign key (event_id) references events (id)
+);
+
+create table tickets (
+    id          uuid not null,
+    customer_id uuid,
+    event_id    uuid,
+    status      varchar(255) check (status in ('PENDING', 'PROCESSING', 'PAID')),
+    paid_at     timestamp(6) with time zone,
+    reserved_at timestamp(6) with time zone,
+    primary key (id)
+);
+
+create table outbox (
+    id        uuid    not null,
+    content   json,
+    published boolean not null,
+    primary key (id)
+);
@@ -0,0 +1,20 @@
+-- H2 counterpart of db/migration/mysql. H2 databases are in-memory only, so there are no pending
+-- messages worth carrying over. The content is stored as text: an H2 json column keeps a string
+-- bound to it as a JSON string literal instead of the document.
+
+drop table outbox;
+
+create table outbox (
+    sequence       bigint                      not null auto_increment,
+    id             uuid                        not null,
+    aggregate_type varchar(64)                 not null,
+    aggregate_id   uuid                        not null,
+    content        varchar(4000)               not null,
+    created_at     timestamp(6) with time zone not null,
+    published_at   timestamp(6) with time zone,
+    primary key (sequence),
+    constraint uk_outbox_id unique (id)
+);
+
+create index idx_outbox_pending on outbox (published_at, sequence);
+create index idx_outbox_aggregate on outbox (aggregate_type, aggregate_id, sequence);
@@ -0,0 +1,3 @@
+-- H2 counterpart of db/migration/mysql. The outbox is always empty when it runs.
+
+alter table outbox add column event_type varchar(64) not null after aggregate_id;
@@ -0,0 +1,7 @@
+-- H2 counterpart of db/migration/mysql.
+
+alter table customers add constraint uk_customers_cpf unique (cpf);
+alter table customers add constraint uk_customers_email unique (email);
+
+alter table partners add constraint uk_partners_cnpj unique (cnpj);
+alter table partners add constraint uk_partners_email unique (email);
@@ -0,0 +1,4 @@
+-- H2 counterpart of db/migration/mysql.
+
+create index idx_events_date_id on events (date, id);
+create index idx_events_partner_date_id on events (partner_id, date, id);
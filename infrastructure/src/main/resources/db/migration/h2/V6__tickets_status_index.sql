@@ -0,0 +1,3 @@
+-- Payment settlement updates the tickets still PROCESSING a batch at a time.
+
+create index idx_tickets_status on tickets (status, id);
@@ -0,0 +1,14 @@
+-- Unpaid reservations expire: tickets gain the EXPIRED status, and the sweeper finds the PENDING ones past
+-- their deadline by a range over (status, reserved_at). H2 keeps the unnamed check of V1 through any change
+-- of the column, so the column is replaced.
+
+drop index idx_tickets_status;
+
+alter table tickets add column status_v7 varchar(255);
+update tickets set status_v7 = status;
+alter table tickets drop column status;
+alter table tickets alter column status_v7 rename to status;
+alter table tickets add constraint ck_tickets_status check (status in ('PENDING', 'PROCESSING', 'PAID', 'EXPIRED'));
+
+create index idx_tickets_status on tickets (status, id);
+create index idx_tickets_status_reserved_at on tickets (status, reserved_at);
@@ -0,0 +1,5 @@
+-- H2 counterpart of db/migration/mysql.
+
+alter table tickets add column event_ticket_id uuid;
+
+alter table tickets add constraint uk_tickets_event_ticket unique (event_ticket_id);
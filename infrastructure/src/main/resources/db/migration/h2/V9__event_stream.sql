@@ -0,0 +1,25 @@
+-- H2 counterpart of db/migration/mysql. The content is stored as text, as in the outbox.
+
+create table event_stream (
+    event_id    uuid                        not null,
+    sequence    bigint                      not null,
+    event_type  varchar(64)                 not null,
+    customer_id uuid,
+    content     varchar(4000)               not null,
+    occurred_on timestamp(6) with time zone not null,
+    primary key (event_id, sequence),
+    constraint uk_event_stream_event_customer unique (event_id, customer_id)
+);
+
+create table event_snapshots (
+    event_id       uuid                        not null,
+    version        bigint                      not null,
+    name           varchar(255)                not null,
+    date           date                        not null,
+    total_spots    integer                     not null,
+    reserved_spots integer                     not null,
+    partner_id     uuid                        not null,
+    tickets        clob                        not null,
+    created_at     timestamp(6) with time zone not null,
+    primary key (event_id, version)
+);
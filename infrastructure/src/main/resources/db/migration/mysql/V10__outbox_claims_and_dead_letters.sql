@@ -0,0 +1,20 @@
+-- A relay claims a batch by leasing it until claimed_until, in a transaction of its own, and publishes it
+-- outside of any transaction, so no connection or row lock is held while it waits on the consumers. Each
+-- claim counts one attempt; a message still unacknowledged after outbox.relay.max-attempts is moved to
+-- outbox_dead_letters instead of being relayed forever.
+
+alter table outbox add column attempts integer not null default 0 after content;
+alter table outbox add column claimed_until datetime(6) after attempts;
+
+create table outbox_dead_letters (
+    id               binary(16)  not null,
+    sequence         bigint      not null,
+    aggregate_type   varchar(64) not null,
+    aggregate_id     binary(16)  not null,
+    event_type       varchar(64) not null,
+    content          json        not null,
+    attempts         integer     not null,
+    created_at       datetime(6) not null,
+    dead_lettered_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
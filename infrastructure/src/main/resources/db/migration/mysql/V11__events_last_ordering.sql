@@ -0,0 +1,9 @@
+-- Slots were numbered from reserved_spots, which releases move down, so a reservation made after a
+-- release took the ordering of a slot still held. last_ordering numbers them instead: it moves up
+-- with each reservation and never down.
+
+alter table events
+    add column last_ordering integer not null default 0;
+
+update events e
+set last_ordering = coalesce((select max(t.ordering) from events_tickets t where t.event_id = e.id), 0);
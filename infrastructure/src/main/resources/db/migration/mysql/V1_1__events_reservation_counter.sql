@@ -0,0 +1,11 @@
+-- Reservations were counted by loading every ticket of the event. Events now keep the count in
+-- reserved_spots, incremented in place when a spot is reserved, and a version for the other edits.
+-- uk_events_tickets_event_customer replaces the in-memory check that a customer holds one spot per
+-- event; databases with duplicate pairs must have them removed before this migration runs.
+
+alter table events
+    add column reserved_spots integer not null default 0,
+    add column version        bigint  not null default 0;
+
+alter table events_tickets
+    add constraint uk_events_tickets_event_customer unique (event_id, customer_id);
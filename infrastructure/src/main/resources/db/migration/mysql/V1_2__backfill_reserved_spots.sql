@@ -0,0 +1,6 @@
+-- Events baselined from the Hibernate schema already hold reservations in events_tickets, and
+-- V1_1 started their counter at zero. The counter is the reservation check now, so it starts from
+-- the reservations the event actually has.
+
+update events e
+set reserved_spots = (select count(*) from events_tickets t where t.event_id = e.id);
@@ -0,0 +1,54 @@
+-- Schema as previously created by Hibernate (ddl-auto=update). Databases created that way are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and only receive later migrations.
+
+create table customers (
+    id    binary(16) not null,
+    name  varchar(255),
+    cpf   varchar(255),
+    email varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table partners (
+    id    binary(16) not null,
+    name  varchar(255),
+    cnpj  varchar(255),
+    email varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table events (
+    id             binary(16) not null,
+    name           varchar(255),
+    date           date,
+    total_spots    integer    not null,
+    partner_id     binary(16),
+    primary key (id)
+) engine=InnoDB;
+
+create table events_tickets (
+    event_ticked_id binary(16) not null,
+    ticket_id       binary(16),
+    customer_id     binary(16),
+    ordering        integer    not null,
+    event_id        binary(16),
+    primary key (event_ticked_id),
+    constraint fk_events_tickets_event foreign key (event_id) references events (id)
+) engine=InnoDB;
+
+create table tickets (
+    id          binary(16) not null,
+    customer_id binary(16),
+    event_id    binary(16),
+    status      enum ('PENDING', 'PROCESSING', 'PAID'),
+    paid_at     datetime(6),
+    reserved_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table outbox (
+    id        binary(16) not null,
+    content   json,
+    published bit        not null,
+    primary key (id)
+) engine=InnoDB;
@@ -0,0 +1,33 @@
+-- The outbox was polled by a scan over a boolean flag, which got slower as published rows piled up.
+-- Messages are now clustered by an auto-increment sequence, so appends land at the end of the
+-- primary key, and pending messages are found through idx_outbox_pending in O(batch):
+-- published_at is null, ordered by sequence. The aggregate (type and id) is the partition key, and
+-- idx_outbox_aggregate keeps each aggregate's messages in sequence order.
+
+rename table outbox to outbox_legacy;
+
+create table outbox (
+    sequence       bigint      not null auto_increment,
+    id             binary(16)  not null,
+    aggregate_type varchar(64) not null,
+    aggregate_id   binary(16)  not null,
+    content        json        not null,
+    created_at     datetime(6) not null,
+    published_at   datetime(6),
+    primary key (sequence),
+    constraint uk_outbox_id unique (id),
+    index idx_outbox_pending (published_at, sequence),
+    index idx_outbox_aggregate (aggregate_type, aggregate_id, sequence)
+) engine=InnoDB;
+
+insert into outbox (id, aggregate_type, aggregate_id, content, created_at, published_at)
+select id,
+       if(content ->> '$.type' = 'ticket.created', 'Ticket', 'Event'),
+       uuid_to_bin(if(content ->> '$.type' = 'ticket.created', content ->> '$.ticketId', content ->> '$.eventId')),
+       content,
+       now(6),
+       if(published, now(6), null)
+from outbox_legacy
+order by content ->> '$.occurredOn';
+
+drop table outbox_legacy;
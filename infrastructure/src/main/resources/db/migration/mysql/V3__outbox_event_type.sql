@@ -0,0 +1,7 @@
+-- The type of each message, so consumers dispatch on it without parsing the body.
+
+alter table outbox add column event_type varchar(64) after aggregate_id;
+
+update outbox set event_type = content ->> '$.type';
+
+alter table outbox modify event_type varchar(64) not null;
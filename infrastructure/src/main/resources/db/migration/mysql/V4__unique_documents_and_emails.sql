@@ -0,0 +1,11 @@
+-- The final arbiter of the uniqueness checks made before a customer or a partner is created, which an
+-- in-memory index of these columns lets skip the database. Fails if the tables already hold duplicates,
+-- which have to be resolved by hand first.
+
+alter table customers
+    add constraint uk_customers_cpf unique (cpf),
+    add constraint uk_customers_email unique (email);
+
+alter table partners
+    add constraint uk_partners_cnpj unique (cnpj),
+    add constraint uk_partners_email unique (email);
@@ -0,0 +1,5 @@
+-- Keyset pagination of the event listing: pages are ordered by (date, id) and seek past the last event
+-- of the previous page, optionally within a partner.
+
+create index idx_events_date_id on events (date, id);
+create index idx_events_partner_date_id on events (partner_id, date, id);
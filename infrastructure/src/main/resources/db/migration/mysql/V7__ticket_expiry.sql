@@ -0,0 +1,6 @@
+-- Unpaid reservations expire: tickets gain the EXPIRED status, and the sweeper finds the PENDING ones past
+-- their deadline by a range over (status, reserved_at).
+
+alter table tickets modify status enum ('PENDING', 'PROCESSING', 'PAID', 'EXPIRED');
+
+create index idx_tickets_status_reserved_at on tickets (status, reserved_at);
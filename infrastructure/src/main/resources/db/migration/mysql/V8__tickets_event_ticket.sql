@@ -0,0 +1,6 @@
+-- A reservation gets at most one ticket: the ticket keeps the id of its reservation, unique, so a
+-- reservation delivered again cannot issue a second one.
+
+alter table tickets add column event_ticket_id binary(16);
+
+alter table tickets add constraint uk_tickets_event_ticket unique (event_ticket_id);
@@ -0,0 +1,29 @@
+-- Event-sourced storage of events, used with events.storage=event-sourced. A reservation appends one row to
+-- event_stream, numbered by the version of the event it was made on: two writers appending on the same version
+-- collide on the primary key, and a customer reserving twice collides on uk_event_stream_event_customer.
+-- event_snapshots keeps the whole state every events.snapshot-interval versions, so loading an event replays
+-- only the rows appended after its latest snapshot.
+
+create table event_stream (
+    event_id    binary(16)  not null,
+    sequence    bigint      not null,
+    event_type  varchar(64) not null,
+    customer_id binary(16),
+    content     json        not null,
+    occurred_on datetime(6) not null,
+    primary key (event_id, sequence),
+    constraint uk_event_stream_event_customer unique (event_id, customer_id)
+) engine=InnoDB;
+
+create table event_snapshots (
+    event_id       binary(16)   not null,
+    version        bigint       not null,
+    name           varchar(255) not null,
+    date           date         not null,
+    total_spots    integer      not null,
+    reserved_spots integer      not null,
+    partner_id     binary(16)   not null,
+    tickets        longtext     not null,
+    created_at     datetime(6)  not null,
+    primary key (event_id, version)
+) engine=InnoDB;
@@ -0,0 +1,45 @@
+package br.com.fullcycle.infrastructure.codec;
+
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventTicketId;
+import br.com.fullcycle.domain.event.EventTicketReserved;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainEventCodecTest {
+
+    private final DomainEventCodec codec = new DomainEventCodec(Jackson2ObjectMapperBuilder.json().build());
+
+    @Test
+    @DisplayName("Deve decodificar pelo tipo o evento que foi codificado")
+    public void testRoundTrip() {
+        // Given
+        final var expectedEvent = new EventTicketReserved(
+                EventTicketId.unique(), EventId.unique(), CustomerId.unique());
+
+        // When
+        final var actualContent = codec.encode(expectedEvent);
+        final var actualEvent = codec.decode(expectedEvent.type(), actualContent);
+
+        // Then
+        assertEquals(expectedEvent, actualEvent);
+    }
+
+    @Test
+    @DisplayName("Não deve decodificar um tipo de evento não registrado")
+    public void testDecodeUnregisteredType() {
+        // Given
+        final var expectedError = "Unregistered domain event type: unknown";
+
+        // When
+        final var actualException = assertThrows(
+                IllegalArgumentException.class, () -> codec.decode("unknown", "{}"));
+
+        // Then
+        assertEquals(expectedError, actualException.getMessage());
+    }
+}
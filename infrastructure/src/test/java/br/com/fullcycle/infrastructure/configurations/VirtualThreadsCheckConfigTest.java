@@ -0,0 +1,29 @@
+package br.com.fullcycle.infrastructure.configurations;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.util.ClassUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+class VirtualThreadsCheckConfigTest {
+
+    @Test
+    @DisplayName("Deve recusar o modo de threads virtuais fora de um build Java 21")
+    public void testRejectWithoutJava21Build() throws Exception {
+        assumeFalse(ClassUtils.isPresent(VirtualThreadsCheckConfig.VIRTUAL_THREADS_CONFIG, getClass().getClassLoader()));
+
+        // Given
+        final var aCheck = VirtualThreadsCheckConfig.virtualThreadsCheck();
+
+        // When
+        Executable invalidMethodCall = () -> aCheck.postProcessBeanFactory(new DefaultListableBeanFactory());
+
+        // Then
+        final var actualException = assertThrows(IllegalStateException.class, invalidMethodCall);
+        assertTrue(actualException.getMessage().startsWith("threads.virtual.enabled requires"));
+    }
+}
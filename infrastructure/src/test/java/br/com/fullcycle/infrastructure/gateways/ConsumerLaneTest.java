@@ -0,0 +1,65 @@
+package br.com.fullcycle.infrastructure.gateways;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsumerLaneTest {
+
+    @Test
+    @DisplayName("Deve bloquear o produtor enquanto a raia estiver cheia")
+    public void testBlockProducerWhenLaneIsFull() throws Exception {
+        // Given
+        final var release = new CountDownLatch(1);
+        final Runnable blockedConsumer = () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        try (final var lane = new ConsumerLane(Executors.defaultThreadFactory(), 1, 2)) {
+            final var first = lane.submit(blockedConsumer);
+            final var second = lane.submit(blockedConsumer);
+
+            // When
+            final var third = CompletableFuture.supplyAsync(() -> lane.submit(() -> {
+            }));
+
+            // Then
+            assertThrows(TimeoutException.class, () -> third.get(200, TimeUnit.MILLISECONDS));
+
+            release.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+            third.get(10, TimeUnit.SECONDS).get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve concluir a confirmação com erro quando o consumidor falha")
+    public void testFailAcknowledgementWhenConsumerFails() throws Exception {
+        try (final var lane = new ConsumerLane(Executors.defaultThreadFactory(), 1, 1)) {
+            // When
+            final var actualAck = lane.submit(() -> {
+                throw new IllegalStateException("Consumer failed");
+            });
+
+            // Then
+            final var actualError = assertThrows(Exception.class, () -> actualAck.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, actualError.getCause());
+
+            final var nextAck = lane.submit(() -> {
+            });
+            assertNull(nextAck.get(10, TimeUnit.SECONDS));
+        }
+    }
+}
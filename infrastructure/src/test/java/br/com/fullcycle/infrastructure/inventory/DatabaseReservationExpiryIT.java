@@ -0,0 +1,209 @@
+package br.com.fullcycle.infrastructure.inventory;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.EventTicket;
+import br.com.fullcycle.domain.event.ticket.Ticket;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.infrastructure.codec.DomainEventCodec;
+import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reservation_expiry_test;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "reservations.expiry.initial-delay=3600000"
+})
+class DatabaseReservationExpiryIT extends IntegrationTest {
+
+    @Autowired
+    private DatabaseReservationExpiry reservationExpiry;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OutboxJpaRepository outboxJpaRepository;
+
+    @Autowired
+    private DomainEventCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        jdbcTemplate.update("delete from outbox");
+    }
+
+    @Test
+    @DisplayName("Deve expirar as reservas vencidas e devolver seus lugares ao evento")
+    public void testExpireReservedBefore() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        final var now = Instant.now();
+
+        final var expired = reserve(anEvent, now.minus(Duration.ofHours(1)));
+        final var recent = reserve(anEvent, now);
+        final var confirmed = reserve(anEvent, now.minus(Duration.ofHours(1)));
+        confirmed.confirmPayment();
+        ticketRepository.update(confirmed, TicketStatus.PENDING);
+
+        final var expectedVersion = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get().version() + 1;
+
+        // When
+        final var actualTickets = reservationExpiry.expireReservedBefore(now.minus(Duration.ofMinutes(15)), 10);
+
+        // Then
+        assertEquals(1, actualTickets.size());
+        assertEquals(expired.ticketId(), actualTickets.get(0).ticketId());
+
+        assertEquals(TicketStatus.EXPIRED, ticketRepository.ticketOfId(expired.ticketId()).get().status());
+        assertEquals(TicketStatus.PENDING, ticketRepository.ticketOfId(recent.ticketId()).get().status());
+        assertEquals(TicketStatus.PROCESSING, ticketRepository.ticketOfId(confirmed.ticketId()).get().status());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId()).get();
+        assertEquals(2, actualEvent.reservedSpots());
+        assertEquals(expectedVersion, actualEvent.version());
+        assertTrue(actualEvent.allTickets().stream().noneMatch(it -> it.customerId().equals(expired.customerId())));
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from outbox where event_type = 'event-ticket.released'", Integer.class));
+        assertTrue(reservationExpiry.expireReservedBefore(now.minus(Duration.ofMinutes(15)), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve liberar o lugar expirado para uma nova reserva")
+    public void testReserveAfterExpiry() throws Exception {
+        // Given
+        final var anEvent = createEvent(1);
+        final var expired = reserve(anEvent, Instant.now().minus(Duration.ofHours(1)));
+
+        reservationExpiry.expireReservedBefore(Instant.now(), 10);
+
+        // When
+        final var anotherEvent = eventRepository.eventOfId(anEvent.eventId()).get();
+        anotherEvent.reserveTicket(expired.customerId());
+        eventRepository.update(anotherEvent);
+
+        // Then
+        assertEquals(1, eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get().reservedSpots());
+    }
+
+    @Test
+    @DisplayName("Não deve repetir a ordem de um lugar ainda reservado depois de uma expiração")
+    public void testOrderingAfterExpiry() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        reserve(anEvent, Instant.now().minus(Duration.ofHours(1)));
+        reserve(anEvent, Instant.now());
+        reserve(anEvent, Instant.now());
+
+        reservationExpiry.expireReservedBefore(Instant.now().minus(Duration.ofMinutes(30)), 10);
+
+        // When
+        reserve(anEvent, Instant.now());
+
+        // Then
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId()).get();
+        assertEquals(3, actualEvent.reservedSpots());
+        assertEquals(List.of(2, 3, 4), actualEvent.allTickets().stream()
+                .map(EventTicket::ordering)
+                .sorted()
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Não deve confirmar o pagamento de uma reserva expirada depois de lida")
+    public void testConfirmPaymentAfterExpiry() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        final var expired = reserve(anEvent, Instant.now().minus(Duration.ofHours(1)));
+        final var aTicketReadBeforeExpiry = ticketRepository.ticketOfId(expired.ticketId()).get();
+
+        reservationExpiry.expireReservedBefore(Instant.now(), 10);
+
+        // When
+        aTicketReadBeforeExpiry.confirmPayment();
+
+        // Then
+        assertThrows(ConcurrencyException.class,
+                () -> ticketRepository.update(aTicketReadBeforeExpiry, TicketStatus.PENDING));
+        assertEquals(TicketStatus.EXPIRED, ticketRepository.ticketOfId(expired.ticketId()).get().status());
+        assertEquals(0, ticketRepository.settleProcessing(Instant.now(), 10));
+    }
+
+    @Test
+    @DisplayName("Deve reportar como concorrência a falha ao bloquear o evento")
+    public void testExpireWhenEventLockFails() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        final var expired = reserve(anEvent, Instant.now().minus(Duration.ofHours(1)));
+
+        final var aFailingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public int update(final String sql, final Object... args) {
+                if (sql.startsWith("update events set version")) {
+                    throw new CannotAcquireLockException("Lock wait timeout exceeded");
+                }
+                return super.update(sql, args);
+            }
+        };
+        final var aReservationExpiry = new DatabaseReservationExpiry(
+                aFailingJdbcTemplate, transactionManager, outboxJpaRepository, codec);
+
+        // When
+        assertThrows(ConcurrencyException.class,
+                () -> aReservationExpiry.expireReservedBefore(Instant.now().minus(Duration.ofMinutes(15)), 10));
+
+        // Then
+        assertEquals(TicketStatus.PENDING, ticketRepository.ticketOfId(expired.ticketId()).get().status());
+        assertEquals(1, eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get().reservedSpots());
+    }
+
+    private Ticket reserve(final Event anEvent, final Instant aReservedAt) {
+        final var aCustomerId = CustomerId.unique();
+        final var anEventToReserve = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get();
+        anEventToReserve.reserveTicket(aCustomerId);
+        eventRepository.update(anEventToReserve);
+        return ticketRepository.create(Ticket.with(
+                TicketId.unique(),
+                aCustomerId,
+                anEvent.eventId(),
+                TicketStatus.PENDING,
+                null,
+                aReservedAt));
+    }
+
+    private Event createEvent(final int totalSpots) {
+        final var aPartner = Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com");
+        return eventRepository.create(
+                Event.newEvent("Disney on Ice", "2021-01-01", totalSpots, aPartner));
+    }
+}
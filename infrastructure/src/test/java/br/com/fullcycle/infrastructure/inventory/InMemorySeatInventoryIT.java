@@ -0,0 +1,193 @@
+package br.com.fullcycle.infrastructure.inventory;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.infrastructure.queries.Uuids;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemorySeatInventoryIT extends IntegrationTest {
+
+    @Autowired
+    private InMemorySeatInventory seatInventory;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve admitir apenas o total de lugares sob concorrência")
+    public void testReserveConcurrently() throws Exception {
+        // Given
+        final var expectedTotalSpots = 10;
+        final var anEvent = createEvent(expectedTotalSpots);
+
+        final Callable<Boolean> reservation = () -> {
+            try {
+                seatInventory.reserve(anEvent.eventId(), CustomerId.unique());
+                return true;
+            } catch (ValidationException e) {
+                return false;
+            }
+        };
+
+        final var executor = Executors.newFixedThreadPool(16);
+
+        // When
+        var actualAdmitted = 0;
+        try {
+            for (final var result : executor.invokeAll(
+                    IntStream.range(0, 200).mapToObj(i -> reservation).toList())) {
+                actualAdmitted += result.get() ? 1 : 0;
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertEquals(expectedTotalSpots, actualAdmitted);
+    }
+
+    @Test
+    @DisplayName("Não deve admitir duas reservas para um mesmo cliente")
+    public void testReserveTwiceForTheSameCustomer() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        final var aCustomerId = CustomerId.unique();
+
+        seatInventory.reserve(anEvent.eventId(), aCustomerId);
+
+        final var expectedErrorMessage = "Customer already subscribed to this event";
+
+        // When
+        Executable invalidMethodCall = () -> seatInventory.reserve(anEvent.eventId(), aCustomerId);
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class, invalidMethodCall);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve recusar em memória o cliente já inscrito, carregado com o evento ou confirmado depois")
+    public void testReserveForSubscribedCustomer() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        final var aLoadedCustomerId = CustomerId.unique();
+        final var anEventToReserve = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get();
+        anEventToReserve.reserveTicket(aLoadedCustomerId);
+        eventRepository.update(anEventToReserve);
+
+        final var aConfirmedCustomerId = CustomerId.unique();
+        seatInventory.reserve(anEvent.eventId(), aConfirmedCustomerId);
+        seatInventory.confirm(anEvent.eventId(), aConfirmedCustomerId);
+
+        final var expectedErrorMessage = "Customer already subscribed to this event";
+
+        // When
+        final var actualLoaded = assertThrows(ValidationException.class,
+                () -> seatInventory.reserve(anEvent.eventId(), aLoadedCustomerId));
+        final var actualConfirmed = assertThrows(ValidationException.class,
+                () -> seatInventory.reserve(anEvent.eventId(), aConfirmedCustomerId));
+
+        // Then
+        assertEquals(expectedErrorMessage, actualLoaded.getMessage());
+        assertEquals(expectedErrorMessage, actualConfirmed.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar os clientes inscritos quando o evento liberou reservas em outro nó")
+    public void testReconcileAfterReleaseElsewhere() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        final var aCustomerId = CustomerId.unique();
+        final var anEventToReserve = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get();
+        anEventToReserve.reserveTicket(aCustomerId);
+        eventRepository.update(anEventToReserve);
+        assertThrows(ValidationException.class, () -> seatInventory.reserve(anEvent.eventId(), aCustomerId));
+
+        final var anEventIdBytes = Uuids.toBytes(anEvent.eventId().uuid());
+        jdbcTemplate.update("delete from events_tickets where event_id = ? and customer_id = ?",
+                anEventIdBytes, Uuids.toBytes(aCustomerId.uuid()));
+        jdbcTemplate.update("update events set reserved_spots = reserved_spots - 1 where id = ?",
+                (Object) anEventIdBytes);
+
+        // When
+        seatInventory.reconcile();
+
+        // Then
+        assertDoesNotThrow(() -> seatInventory.reserve(anEvent.eventId(), aCustomerId));
+    }
+
+    @Test
+    @DisplayName("Deve liberar o lugar de uma reserva desfeita")
+    public void testRelease() throws Exception {
+        // Given
+        final var anEvent = createEvent(1);
+        final var aCustomerId = CustomerId.unique();
+
+        seatInventory.reserve(anEvent.eventId(), aCustomerId);
+
+        // When
+        seatInventory.release(anEvent.eventId(), aCustomerId);
+
+        // Then
+        assertDoesNotThrow(() -> seatInventory.reserve(anEvent.eventId(), CustomerId.unique()));
+    }
+
+    @Test
+    @DisplayName("Deve reconciliar pelo contador do evento sem perder as reservas em andamento")
+    public void testReconcile() throws Exception {
+        // Given
+        final var anEvent = createEvent(3);
+        seatInventory.reserve(anEvent.eventId(), CustomerId.unique());
+
+        final var anEventToReserve = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get();
+        anEventToReserve.reserveTicket(CustomerId.unique());
+        anEventToReserve.reserveTicket(CustomerId.unique());
+        eventRepository.update(anEventToReserve);
+
+        final var expectedErrorMessage = "Event sold out";
+
+        // When
+        seatInventory.reconcile();
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class,
+                () -> seatInventory.reserve(anEvent.eventId(), CustomerId.unique()));
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar eventos que não existem")
+    public void testReserveForUnknownEvent() throws Exception {
+        assertDoesNotThrow(() -> seatInventory.reserve(EventId.unique(), CustomerId.unique()));
+    }
+
+    private Event createEvent(final int totalSpots) {
+        final var aPartner = Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com");
+        return eventRepository.create(
+                Event.newEvent("Disney on Ice", "2021-01-01", totalSpots, aPartner));
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.fullcycle.infrastructure.inventory;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.EventTicket;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.infrastructure.job.OutboxRelay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ticket_association_test;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "outbox.relay.initial-delay=3600000",
+        "tickets.association.batch-size=2"
+})
+class TicketAssociationBatcherIT extends IntegrationTest {
+
+    @Autowired
+    private TicketAssociationBatcher ticketAssociationBatcher;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        jdbcTemplate.update("delete from outbox");
+    }
+
+    @Test
+    @DisplayName("Deve associar a cada lugar reservado o ingresso criado para ele")
+    public void testAssociateCreatedTickets() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        reserve(anEvent, 3);
+
+        // When
+        outboxRelay.execute();
+        outboxRelay.execute();
+
+        // Then
+        final var actualTickets = eventRepository.eventOfId(anEvent.eventId()).get().allTickets();
+        assertEquals(3, actualTickets.size());
+        for (final EventTicket actualTicket : actualTickets) {
+            assertEquals(
+                    ticketRepository.ticketIdOfEventTicketId(actualTicket.eventTicketId()).get(),
+                    actualTicket.ticketId());
+        }
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from outbox where published_at is null", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Deve manter as associações de um lote cheio mesmo que a transação de quem o entregou seja desfeita")
+    public void testFullBatchOutlivesCallerTransaction() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        reserve(anEvent, 2);
+        outboxRelay.execute();
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxRelay.execute();
+            status.setRollbackOnly();
+        });
+
+        // Then
+        final var actualTickets = eventRepository.eventOfId(anEvent.eventId()).get().allTickets();
+        assertEquals(2, actualTickets.size());
+        for (final EventTicket actualTicket : actualTickets) {
+            assertNotNull(actualTicket.ticketId());
+            assertEquals(
+                    ticketRepository.ticketIdOfEventTicketId(actualTicket.eventTicketId()).get(),
+                    actualTicket.ticketId());
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve trocar o ingresso de um lugar já associado")
+    public void testAssociateAgain() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        reserve(anEvent, 1);
+        final var anEventTicketId = eventRepository.eventOfId(anEvent.eventId()).get()
+                .allTickets().iterator().next().eventTicketId();
+        final var expectedTicketId = TicketId.unique();
+
+        // When
+        ticketAssociationBatcher.associate(anEventTicketId, expectedTicketId).get(5, TimeUnit.SECONDS);
+        ticketAssociationBatcher.associate(anEventTicketId, TicketId.unique()).get(5, TimeUnit.SECONDS);
+
+        // Then
+        final var actualTicket = eventRepository.eventOfId(anEvent.eventId()).get().allTickets().iterator().next();
+        assertEquals(expectedTicketId, actualTicket.ticketId());
+    }
+
+    @Test
+    @DisplayName("Não deve desfazer a associação ao salvar um evento carregado antes dela")
+    public void testUpdateStaleEvent() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        reserve(anEvent, 1);
+        final var aStaleEvent = eventRepository.eventOfId(anEvent.eventId()).get();
+        final var anEventTicketId = aStaleEvent.allTickets().iterator().next().eventTicketId();
+        final var expectedTicketId = TicketId.unique();
+
+        ticketAssociationBatcher.associate(anEventTicketId, expectedTicketId).get(5, TimeUnit.SECONDS);
+
+        // When
+        eventRepository.update(aStaleEvent);
+
+        // Then
+        final var actualTicket = eventRepository.eventOfId(anEvent.eventId()).get().allTickets().iterator().next();
+        assertEquals(expectedTicketId, actualTicket.ticketId());
+    }
+
+    private void reserve(final Event anEvent, final int customers) {
+        final var anEventToReserve = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get();
+        for (int i = 0; i < customers; i++) {
+            anEventToReserve.reserveTicket(CustomerId.unique());
+        }
+        eventRepository.update(anEventToReserve);
+    }
+
+    private Event createEvent(final int totalSpots) {
+        final var aPartner = Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com");
+        return eventRepository.create(
+                Event.newEvent("Disney on Ice", "2021-01-01", totalSpots, aPartner));
+    }
+}
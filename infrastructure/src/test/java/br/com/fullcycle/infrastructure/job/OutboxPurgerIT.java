@@ -0,0 +1,104 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
+import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox_purger_test;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "outbox.relay.initial-delay=3600000",
+        "outbox.retention.initial-delay=3600000"
+})
+class OutboxPurgerIT extends IntegrationTest {
+
+    @Autowired
+    private OutboxJpaRepository outboxJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        this.outboxJpaRepository.deleteAll();
+        this.meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Deve remover em partes as mensagens publicadas há mais tempo que a retenção")
+    public void testPurgeExpiredMessagesInChunks() throws Exception {
+        // Given
+        final var expectedPurged = 250;
+        final var now = Instant.now();
+        createMessages(expectedPurged, now.minus(25, ChronoUnit.HOURS));
+        createMessages(30, now.minus(1, ChronoUnit.HOURS));
+        createMessages(20, null);
+
+        final var purger = new OutboxPurger(
+                outboxJpaRepository, transactionManager, meterRegistry, Duration.ofHours(24), 100);
+
+        // When
+        final var actualPurged = purger.execute();
+
+        // Then
+        assertEquals(expectedPurged, actualPurged);
+        assertEquals(50, outboxJpaRepository.count());
+        assertEquals(20, outboxJpaRepository.countByPublishedAtIsNull());
+
+        assertEquals(expectedPurged, meterRegistry.get("outbox.purged").counter().count());
+        assertEquals(1, meterRegistry.get("outbox.purge.run.rows").summary().count());
+        assertEquals(50, meterRegistry.get("outbox.rows").tag("state", "all").gauge().value());
+        assertEquals(20, meterRegistry.get("outbox.rows").tag("state", "pending").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Não deve remover mensagens pendentes nem publicadas dentro da retenção")
+    public void testKeepPendingAndRecentMessages() throws Exception {
+        // Given
+        createMessages(10, Instant.now().minus(1, ChronoUnit.HOURS));
+        createMessages(10, null);
+
+        final var purger = new OutboxPurger(
+                outboxJpaRepository, transactionManager, meterRegistry, Duration.ofHours(24), 100);
+
+        // When
+        final var actualPurged = purger.execute();
+
+        // Then
+        assertEquals(0, actualPurged);
+        assertEquals(20, outboxJpaRepository.count());
+    }
+
+    private void createMessages(final int aQuantity, final Instant publishedAt) {
+        final var messages = IntStream.range(0, aQuantity)
+                .mapToObj(i -> {
+                    final var aMessage = new OutboxEntity();
+                    aMessage.setId(UUID.randomUUID());
+                    aMessage.setAggregateType("Event");
+                    aMessage.setAggregateId(UUID.randomUUID());
+                    aMessage.setEventType("test");
+                    aMessage.setCreatedAt(publishedAt != null ? publishedAt : Instant.now());
+                    aMessage.setPublishedAt(publishedAt);
+                    aMessage.setContent("{\"type\":\"test\",\"sequence\":%d}".formatted(i));
+                    return aMessage;
+                })
+                .toList();
+        this.outboxJpaRepository.saveAll(messages);
+    }
+}
@@ -0,0 +1,302 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.infrastructure.gateways.QueueGateway;
+import br.com.fullcycle.infrastructure.gateways.QueueMessage;
+import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
+import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox_relay_test;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "outbox.relay.initial-delay=3600000"
+})
+class OutboxRelayIT extends IntegrationTest {
+
+    @Autowired
+    private OutboxJpaRepository outboxJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RecordingQueueGateway queueGateway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        this.outboxJpaRepository.deleteAll();
+        this.jdbcTemplate.update("delete from outbox_dead_letters");
+        this.queueGateway = new RecordingQueueGateway();
+    }
+
+    @Test
+    @DisplayName("Deve drenar as mensagens pendentes em lotes")
+    public void testDrainInBatches() throws Exception {
+        // Given
+        final var expectedBatches = List.of(500, 500, 200);
+        createPendingMessages(1_200);
+
+        final var relay = new OutboxRelay(outboxJpaRepository, queueGateway, transactionManager, 500, true);
+
+        // When
+        relay.execute();
+
+        // Then
+        assertEquals(expectedBatches, queueGateway.batches.stream().map(List::size).toList());
+        assertEquals(0, outboxJpaRepository.countByPublishedAtIsNull());
+    }
+
+    @Test
+    @DisplayName("Deve publicar um único lote por execução quando não drenar")
+    public void testRelaySingleBatch() throws Exception {
+        // Given
+        createPendingMessages(120);
+
+        final var relay = new OutboxRelay(outboxJpaRepository, queueGateway, transactionManager, 50, false);
+
+        // When
+        relay.execute();
+
+        // Then
+        assertEquals(1, queueGateway.batches.size());
+        assertEquals(50, queueGateway.batches.get(0).size());
+        assertEquals(70, outboxJpaRepository.countByPublishedAtIsNull());
+    }
+
+    @Test
+    @DisplayName("Deve publicar as mensagens na ordem em que foram registradas")
+    public void testRelayInInsertionOrder() throws Exception {
+        // Given
+        createPendingMessages(300);
+
+        final var relay = new OutboxRelay(outboxJpaRepository, queueGateway, transactionManager, 100, true);
+
+        // When
+        relay.execute();
+
+        // Then
+        final var actualContents = queueGateway.batches.stream().flatMap(List::stream).toList();
+        final var expectedContents = IntStream.range(0, 300)
+                .mapToObj("{\"type\":\"test\",\"sequence\":%d}"::formatted)
+                .toList();
+        assertEquals(expectedContents, actualContents);
+    }
+
+    @Test
+    @DisplayName("Não deve marcar o lote como publicado quando a publicação falha")
+    public void testKeepBatchPendingWhenPublishFails() throws Exception {
+        // Given
+        createPendingMessages(10);
+
+        final QueueGateway failingGateway = message -> {
+            throw new IllegalStateException("Queue unavailable");
+        };
+        final var relay = new OutboxRelay(outboxJpaRepository, failingGateway, transactionManager, 50, true);
+
+        // When
+        relay.execute();
+
+        // Then
+        assertEquals(10, outboxJpaRepository.countByPublishedAtIsNull());
+    }
+
+    @Test
+    @DisplayName("Deve marcar como publicadas apenas as mensagens confirmadas pelo consumidor")
+    public void testMarkOnlyAcknowledgedMessagesAsPublished() throws Exception {
+        // Given
+        createPendingMessages(10);
+
+        final QueueGateway rejectingOddGateway = message -> {
+            if (message.content().matches(".*\"sequence\":\\d*[13579]}")) {
+                throw new IllegalStateException("Consumer failed");
+            }
+        };
+        final var relay = new OutboxRelay(outboxJpaRepository, rejectingOddGateway, transactionManager, 50, true);
+
+        // When
+        relay.execute();
+
+        // Then
+        assertEquals(5, outboxJpaRepository.countByPublishedAtIsNull());
+    }
+
+    @Test
+    @DisplayName("Deve publicar fora de uma transação, com as mensagens reservadas ao relay")
+    public void testPublishOutsideTransaction() throws Exception {
+        // Given
+        createPendingMessages(10);
+
+        final var transactionActive = new AtomicBoolean(true);
+        final var claimedMessages = new AtomicLong();
+        final QueueGateway inspectingGateway = message -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            claimedMessages.set(StreamSupport.stream(outboxJpaRepository.findAll().spliterator(), false)
+                    .filter(it -> it.getClaimedUntil() != null && it.getAttempts() == 1)
+                    .count());
+        };
+        final var relay = new OutboxRelay(outboxJpaRepository, inspectingGateway, transactionManager, 50, true);
+
+        // When
+        relay.execute();
+
+        // Then
+        assertFalse(transactionActive.get());
+        assertEquals(10, claimedMessages.get());
+        assertEquals(0, outboxJpaRepository.countByPublishedAtIsNull());
+    }
+
+    @Test
+    @DisplayName("Deve mover para as mensagens mortas as mensagens que esgotaram as tentativas")
+    public void testDeadLetterAfterMaxAttempts() throws Exception {
+        // Given
+        createPendingMessages(3);
+
+        final QueueGateway failingGateway = message -> {
+            throw new IllegalStateException("Consumer failed");
+        };
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var relay = new OutboxRelay(outboxJpaRepository, failingGateway, transactionManager, meterRegistry,
+                Runnable::run, 50, 1, true, 2, Duration.ofSeconds(30));
+
+        // When
+        relay.execute();
+        final var pendingAfterFirstAttempt = outboxJpaRepository.countByPublishedAtIsNull();
+        relay.execute();
+
+        // Then
+        assertEquals(3, pendingAfterFirstAttempt);
+        assertEquals(0, outboxJpaRepository.count());
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "select count(*) from outbox_dead_letters where attempts = 2", Integer.class));
+        assertEquals(3, meterRegistry.get("outbox.dead-lettered").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve drenar em paralelo sem publicar uma mensagem mais de uma vez")
+    public void testDrainWithConcurrentWorkers() throws Exception {
+        // Given
+        final var expectedMessages = 2_000;
+        final var expectedWorkers = 4;
+        createPendingMessages(expectedMessages);
+
+        final var executor = Executors.newFixedThreadPool(expectedWorkers);
+        final var relay = new OutboxRelay(
+                outboxJpaRepository, queueGateway, transactionManager, executor, 100, expectedWorkers, true);
+
+        // When
+        try {
+            relay.execute();
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        final var actualContents = queueGateway.batches.stream().flatMap(List::stream).toList();
+        assertEquals(expectedMessages, actualContents.size());
+        assertEquals(expectedMessages, new HashSet<>(actualContents).size());
+        assertEquals(0, outboxJpaRepository.countByPublishedAtIsNull());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar as mensagens reservadas por outro relay")
+    public void testSkipMessagesClaimedByAnotherRelay() throws Exception {
+        // Given
+        createPendingMessages(100);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            final var claimed = outboxJpaRepository.claimPending(10, Instant.now());
+            outboxJpaRepository.markClaimed(
+                    claimed.stream().map(OutboxEntity::getId).toList(), Instant.now().plusSeconds(30));
+        });
+
+        final var relay = new OutboxRelay(outboxJpaRepository, queueGateway, transactionManager, 50, true);
+
+        // When
+        relay.execute();
+
+        // Then
+        assertEquals(90, queueGateway.batches.stream().mapToInt(List::size).sum());
+        assertEquals(10, outboxJpaRepository.countByPublishedAtIsNull());
+    }
+
+    @Test
+    @DisplayName("Deve retomar as mensagens cuja reserva por outro relay expirou")
+    public void testReclaimExpiredClaims() throws Exception {
+        // Given
+        createPendingMessages(100);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            final var claimed = outboxJpaRepository.claimPending(10, Instant.now());
+            outboxJpaRepository.markClaimed(
+                    claimed.stream().map(OutboxEntity::getId).toList(), Instant.now().minusSeconds(1));
+        });
+
+        final var relay = new OutboxRelay(outboxJpaRepository, queueGateway, transactionManager, 50, true);
+
+        // When
+        relay.execute();
+
+        // Then
+        assertEquals(100, queueGateway.batches.stream().mapToInt(List::size).sum());
+        assertEquals(0, outboxJpaRepository.countByPublishedAtIsNull());
+    }
+
+    private void createPendingMessages(final int aQuantity) {
+        final var messages = IntStream.range(0, aQuantity)
+                .mapToObj(i -> {
+                    final var aMessage = new OutboxEntity();
+                    aMessage.setId(UUID.randomUUID());
+                    aMessage.setAggregateType("Event");
+                    aMessage.setAggregateId(UUID.randomUUID());
+                    aMessage.setEventType("test");
+                    aMessage.setCreatedAt(Instant.now());
+                    aMessage.setContent("{\"type\":\"test\",\"sequence\":%d}".formatted(i));
+                    return aMessage;
+                })
+                .toList();
+        this.outboxJpaRepository.saveAll(messages);
+    }
+
+    private static class RecordingQueueGateway implements QueueGateway {
+
+        private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void publish(final QueueMessage message) {
+            batches.add(List.of(message.content()));
+        }
+
+        @Override
+        public List<CompletableFuture<Void>> publishAll(final List<QueueMessage> messages) {
+            batches.add(messages.stream().map(QueueMessage::content).toList());
+            return messages.stream().map(message -> CompletableFuture.<Void>completedFuture(null)).toList();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.application.ticket.ConfirmTicketPaymentUseCase;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.ticket.Ticket;
+import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ticket_settlement_test;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "tickets.settlement.initial-delay=3600000",
+        "tickets.settlement.batch-size=100"
+})
+class TicketPaymentSettlerIT extends IntegrationTest {
+
+    @Autowired
+    private TicketPaymentSettler settler;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ConfirmTicketPaymentUseCase confirmTicketPaymentUseCase;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve liquidar em lotes os tickets com pagamento confirmado")
+    public void testSettle() throws Exception {
+        // Given
+        final var processing = IntStream.range(0, 250)
+                .mapToObj(i -> ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique())))
+                .peek(it -> confirmTicketPaymentUseCase.execute(
+                        ConfirmTicketPaymentUseCase.Input.with(it.ticketId().value())))
+                .toList();
+        final var pending = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+
+        // When
+        final var output = settler.execute();
+
+        // Then
+        assertEquals(250, output.settled());
+        assertEquals(3, output.batches());
+        processing.forEach(it -> {
+            final var actualTicket = ticketRepository.ticketOfId(it.ticketId()).get();
+            assertEquals(TicketStatus.PAID, actualTicket.status());
+            assertNotNull(actualTicket.paidAt());
+        });
+        assertEquals(TicketStatus.PENDING, ticketRepository.ticketOfId(pending.ticketId()).get().status());
+        assertEquals(0, settler.execute().settled());
+    }
+}
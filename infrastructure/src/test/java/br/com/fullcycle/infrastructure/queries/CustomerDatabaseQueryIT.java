@@ -0,0 +1,76 @@
+package br.com.fullcycle.infrastructure.queries;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerDatabaseQueryIT extends IntegrationTest {
+
+    @Autowired
+    private CustomerDatabaseQuery customerQuery;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar pelo id um cliente gravado pelo Hibernate")
+    public void testCustomerOfId() throws Exception {
+        // Given
+        final var expectedCustomer = customerRepository.create(
+                Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@gmail.com"));
+        customerRepository.create(Customer.newCustomer("Jane Doe", "774.839.010-04", "jane.doe@gmail.com"));
+
+        // When
+        final var actualOutput = customerQuery.customerOfId(expectedCustomer.customerId()).get();
+
+        // Then
+        assertEquals(expectedCustomer.customerId().value(), actualOutput.id());
+        assertEquals("123.456.789-09", actualOutput.cpf());
+        assertEquals("john.doe@gmail.com", actualOutput.email());
+        assertEquals("John Doe", actualOutput.name());
+    }
+
+    @Test
+    @DisplayName("Deve gravar o id com os mesmos bytes que o Hibernate")
+    public void testIdBytes() throws Exception {
+        // Given
+        final var aCustomer = customerRepository.create(
+                Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@gmail.com"));
+
+        // When
+        final var actualBytes = jdbcTemplate.queryForObject("select id from customers", byte[].class);
+
+        // Then
+        assertArrayEquals(Uuids.toBytes(aCustomer.customerId().uuid()), actualBytes);
+        assertEquals(aCustomer.customerId().uuid(), Uuids.fromBytes(actualBytes));
+    }
+
+    @Test
+    @DisplayName("Não deve encontrar um cliente não existente")
+    public void testCustomerOfIdNotFound() throws Exception {
+        // Given
+        customerRepository.create(Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@gmail.com"));
+
+        // When
+        final var actualOutput = customerQuery.customerOfId(CustomerId.unique());
+
+        // Then
+        assertTrue(actualOutput.isEmpty());
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.fullcycle.infrastructure.queries;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.application.event.GetEventAvailabilityUseCase;
+import br.com.fullcycle.application.event.ListEventsUseCase;
+import br.com.fullcycle.application.event.SeatInventory;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.infrastructure.inventory.DatabaseReservationExpiry;
+import br.com.fullcycle.infrastructure.inventory.InMemorySeatInventory;
+import br.com.fullcycle.infrastructure.inventory.TicketAssociationBatcher;
+import br.com.fullcycle.infrastructure.job.OutboxRelay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:event_stream_query_test;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "outbox.relay.initial-delay=3600000",
+        "events.storage=event-sourced",
+        "events.snapshot-interval=2"
+})
+class EventStreamQueryIT extends IntegrationTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ListEventsUseCase listEventsUseCase;
+
+    @Autowired
+    private GetEventAvailabilityUseCase getEventAvailabilityUseCase;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        jdbcTemplate.update("delete from outbox");
+    }
+
+    @Test
+    @DisplayName("Não deve ativar os componentes que leem as tabelas de eventos relacionais")
+    public void testRelationalBeansOff() throws Exception {
+        assertTrue(context.getBeansOfType(EventDatabaseQuery.class).isEmpty());
+        assertTrue(context.getBeansOfType(InMemoryEventAvailability.class).isEmpty());
+        assertTrue(context.getBeansOfType(InMemorySeatInventory.class).isEmpty());
+        assertTrue(context.getBeansOfType(DatabaseReservationExpiry.class).isEmpty());
+        assertTrue(context.getBeansOfType(TicketAssociationBatcher.class).isEmpty());
+        assertNotNull(context.getBean(SeatInventory.class));
+    }
+
+    @Test
+    @DisplayName("Deve listar os eventos com as reservas feitas depois do último snapshot")
+    public void testListEvents() throws Exception {
+        // Given
+        final var aPartner = Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com");
+        final var soldOut = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 3, aPartner));
+        final var available = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-02", 10, aPartner));
+        reserve(soldOut, 3);
+        reserve(available, 1);
+
+        // When
+        final var actualOutput = listEventsUseCase.execute(ListEventsUseCase.Input.with(null, null, null, null, null, null));
+        final var actualAvailable = listEventsUseCase.execute(ListEventsUseCase.Input.with(null, null, null, true, null, null));
+
+        // Then
+        assertEquals(List.of(soldOut.eventId().value(), available.eventId().value()),
+                actualOutput.items().stream().map(ListEventsUseCase.Item::id).toList());
+        assertEquals(List.of(0, 9),
+                actualOutput.items().stream().map(ListEventsUseCase.Item::availableSpots).toList());
+        assertEquals(aPartner.partnerId().value(), actualOutput.items().get(0).partnerId());
+        assertEquals(List.of(available.eventId().value()),
+                actualAvailable.items().stream().map(ListEventsUseCase.Item::id).toList());
+    }
+
+    @Test
+    @DisplayName("Deve ler a disponibilidade de um evento e consumir as reservas publicadas")
+    public void testAvailability() throws Exception {
+        // Given
+        final var aPartner = Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com");
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner));
+        reserve(anEvent, 3);
+
+        // When
+        outboxRelay.execute();
+        outboxRelay.execute();
+        final var actualOutput = getEventAvailabilityUseCase.execute(
+                GetEventAvailabilityUseCase.Input.with(anEvent.eventId().value())).get();
+
+        // Then
+        assertEquals(10, actualOutput.totalSpots());
+        assertEquals(3, actualOutput.reservedSpots());
+        assertEquals(7, actualOutput.availableSpots());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from outbox where published_at is null", Integer.class));
+    }
+
+    private void reserve(final Event anEvent, final int customers) {
+        for (int i = 0; i < customers; i++) {
+            final var anEventToReserve = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get();
+            anEventToReserve.reserveTicket(CustomerId.unique());
+            eventRepository.update(anEventToReserve);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.fullcycle.infrastructure.queries;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.partner.Partner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryEventAvailabilityIT extends IntegrationTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private InMemoryEventAvailability eventAvailability;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        eventAvailability = new InMemoryEventAvailability(jdbcTemplate, Duration.ofSeconds(5), clock::get);
+    }
+
+    @Test
+    @DisplayName("Deve contar as reservas consumidas sem reler o evento")
+    public void testReserved() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        eventAvailability.availabilityOf(anEvent.eventId());
+
+        // When
+        eventAvailability.reserved(anEvent.eventId(), Long.MAX_VALUE - 1);
+        eventAvailability.reserved(anEvent.eventId(), Long.MAX_VALUE);
+
+        // Then
+        final var actualOutput = eventAvailability.availabilityOf(anEvent.eventId()).get();
+        assertEquals(anEvent.eventId().value(), actualOutput.eventId());
+        assertEquals(10, actualOutput.totalSpots());
+        assertEquals(2, actualOutput.reservedSpots());
+        assertEquals(8, actualOutput.availableSpots());
+    }
+
+    @Test
+    @DisplayName("Não deve contar de novo as reservas que o evento já contava nem as reentregues")
+    public void testSkipCountedMessages() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        reserve(anEvent);
+        reserve(anEvent);
+        eventAvailability.availabilityOf(anEvent.eventId());
+        reserve(anEvent);
+
+        final var sequences = jdbcTemplate.queryForList(
+                "select sequence from outbox where aggregate_id = ? order by sequence",
+                Long.class, (Object) Uuids.toBytes(anEvent.eventId().uuid()));
+
+        // When
+        sequences.forEach(it -> eventAvailability.reserved(anEvent.eventId(), it));
+        sequences.forEach(it -> eventAvailability.reserved(anEvent.eventId(), it));
+
+        // Then
+        assertEquals(3, sequences.size());
+        assertEquals(3, eventAvailability.availabilityOf(anEvent.eventId()).get().reservedSpots());
+    }
+
+    @Test
+    @DisplayName("Deve reler o evento depois do limite de defasagem")
+    public void testMaxStaleness() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        eventAvailability.availabilityOf(anEvent.eventId());
+        eventAvailability.reserved(anEvent.eventId(), Long.MAX_VALUE);
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        // Then
+        final var actualOutput = eventAvailability.availabilityOf(anEvent.eventId()).get();
+        assertEquals(0, actualOutput.reservedSpots());
+        assertEquals(10, actualOutput.availableSpots());
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir a disponibilidade de todos os eventos")
+    public void testRebuild() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        eventAvailability.availabilityOf(anEvent.eventId());
+        eventAvailability.reserved(anEvent.eventId(), Long.MAX_VALUE);
+        createEvent(5);
+
+        // When
+        final var actualLoaded = eventAvailability.rebuild();
+
+        // Then
+        assertEquals(2, actualLoaded);
+        assertEquals(0, eventAvailability.availabilityOf(anEvent.eventId()).get().reservedSpots());
+    }
+
+    @Test
+    @DisplayName("Não deve encontrar eventos que não existem")
+    public void testUnknownEvent() throws Exception {
+        assertTrue(eventAvailability.availabilityOf(EventId.unique()).isEmpty());
+    }
+
+    private void reserve(final Event anEvent) {
+        final var anEventToReserve = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get();
+        anEventToReserve.reserveTicket(CustomerId.unique());
+        eventRepository.update(anEventToReserve);
+    }
+
+    private Event createEvent(final int totalSpots) {
+        final var aPartner = Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com");
+        return eventRepository.create(
+                Event.newEvent("Disney on Ice", "2021-01-01", totalSpots, aPartner));
+    }
+}
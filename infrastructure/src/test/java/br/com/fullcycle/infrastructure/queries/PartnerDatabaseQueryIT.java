@@ -0,0 +1,81 @@
+package br.com.fullcycle.infrastructure.queries;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.domain.partner.PartnerId;
+import br.com.fullcycle.domain.partner.PartnerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartnerDatabaseQueryIT extends IntegrationTest {
+
+    @Autowired
+    private PartnerDatabaseQuery partnerQuery;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        partnerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar pelo id um parceiro gravado pelo Hibernate")
+    public void testPartnerOfId() throws Exception {
+        // Given
+        final var expectedPartner = partnerRepository.create(
+                Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com"));
+        partnerRepository.create(Partner.newPartner("Pixar", "90.113.692/0001-77", "pixar@gmail.com"));
+
+        // When
+        final var actualOutput = partnerQuery.partnerOfId(expectedPartner.partnerId()).get();
+
+        // Then
+        assertEquals(expectedPartner.partnerId().value(), actualOutput.id());
+        assertEquals("92.759.544/0001-50", actualOutput.cnpj());
+        assertEquals("disney@gmail.com", actualOutput.email());
+        assertEquals("Disney", actualOutput.name());
+    }
+
+    @Test
+    @DisplayName("Deve gravar o id com os mesmos bytes que o Hibernate")
+    public void testIdBytes() throws Exception {
+        // Given
+        final var aPartner = partnerRepository.create(
+                Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com"));
+
+        // When
+        final var actualBytes = jdbcTemplate.queryForObject("select id from partners", byte[].class);
+
+        // Then
+        assertArrayEquals(Uuids.toBytes(aPartner.partnerId().uuid()), actualBytes);
+        assertEquals(aPartner.partnerId().uuid(), Uuids.fromBytes(actualBytes));
+    }
+
+    @Test
+    @DisplayName("Não deve encontrar um parceiro não existente")
+    public void testPartnerOfIdNotFound() throws Exception {
+        // Given
+        partnerRepository.create(Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com"));
+
+        // When
+        final var actualOutput = partnerQuery.partnerOfId(PartnerId.unique());
+
+        // Then
+        assertTrue(actualOutput.isEmpty());
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.fullcycle.infrastructure.repositories;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.infrastructure.jpa.repositories.CustomerJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedCustomerRepositoryIT extends IntegrationTest {
+
+    @Autowired
+    private CustomerDatabaseRepository customerDatabaseRepository;
+
+    @Autowired
+    private CustomerJpaRepository customerJpaRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachedCustomerRepository customerRepository;
+
+    @BeforeEach
+    void setUp() {
+        this.customerJpaRepository.deleteAll();
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.customerRepository = new CachedCustomerRepository(
+                customerDatabaseRepository, meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Deve obter da memória um cliente já consultado")
+    public void testCustomerOfIdServedFromCache() throws Exception {
+        // Given
+        final var aCustomer = customerRepository.create(
+                Customer.newCustomer("John Doe", "774.839.010-04", "john.doe@gmail.com"));
+        customerRepository.customerOfId(aCustomer.customerId());
+        customerJpaRepository.deleteAll();
+
+        // When
+        final var actualCustomer = customerRepository.customerOfId(aCustomer.customerId());
+
+        // Then
+        assertTrue(actualCustomer.isPresent());
+        assertEquals(aCustomer.name(), actualCustomer.get().name());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "customers").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "customers").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Deve consultar novamente o cliente após atualizá-lo")
+    public void testUpdateInvalidatesCustomer() throws Exception {
+        // Given
+        final var aCustomer = customerRepository.create(
+                Customer.newCustomer("John Doe", "774.839.010-04", "john.doe@gmail.com"));
+        customerRepository.customerOfId(aCustomer.customerId());
+
+        final var expectedName = "John Smith";
+
+        // When
+        customerRepository.update(Customer.with(
+                aCustomer.customerId(), expectedName, aCustomer.cpf().value(), aCustomer.email().value()));
+        final var actualCustomer = customerRepository.customerOfId(aCustomer.customerId());
+
+        // Then
+        assertTrue(actualCustomer.isPresent());
+        assertEquals(expectedName, actualCustomer.get().name().value());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar em memória um cliente inexistente")
+    public void testMissingCustomerIsNotCached() throws Exception {
+        // Given
+        final var aCustomer = Customer.newCustomer("John Doe", "774.839.010-04", "john.doe@gmail.com");
+        customerRepository.customerOfId(aCustomer.customerId());
+
+        // When
+        customerRepository.create(aCustomer);
+        final var actualCustomer = customerRepository.customerOfId(aCustomer.customerId());
+
+        // Then
+        assertTrue(actualCustomer.isPresent());
+    }
+}
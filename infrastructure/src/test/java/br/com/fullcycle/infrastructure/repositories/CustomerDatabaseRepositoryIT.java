@@ -0,0 +1,108 @@
+package br.com.fullcycle.infrastructure.repositories;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.person.Cpf;
+import br.com.fullcycle.infrastructure.jpa.entities.CustomerEntity;
+import br.com.fullcycle.infrastructure.jpa.repositories.CustomerJpaRepository;
+import br.com.fullcycle.infrastructure.uniqueness.UniqueValueIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerDatabaseRepositoryIT extends IntegrationTest {
+
+    @Autowired
+    private CustomerDatabaseRepository customerRepository;
+
+    @Autowired
+    private CustomerJpaRepository customerJpaRepository;
+
+    @Autowired
+    private UniqueValueIndex uniqueValueIndex;
+
+    @BeforeEach
+    void setUp() {
+        this.customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar pelo CPF um cliente criado")
+    public void testCustomerOfCpf() throws Exception {
+        // Given
+        final var expectedCpf = "774.839.010-04";
+        customerRepository.create(Customer.newCustomer("John Doe", expectedCpf, "john.doe@gmail.com"));
+
+        // When
+        final var actualCustomer = customerRepository.customerOfCpf(new Cpf(expectedCpf));
+
+        // Then
+        assertTrue(actualCustomer.isPresent());
+        assertEquals(expectedCpf, actualCustomer.get().cpf().value());
+    }
+
+    @Test
+    @DisplayName("Deve ler um cliente gravado com um CPF de dígito verificador inválido")
+    public void testCustomerOfIdWithStoredInvalidCheckDigit() throws Exception {
+        // Given
+        final var expectedCpf = "774.839.010-05";
+        final var aCustomerEntity = customerJpaRepository.save(
+                CustomerEntity.with(UUID.randomUUID(), "John Doe", expectedCpf, "john.doe@gmail.com"));
+
+        // When
+        final var actualCustomer = customerRepository.customerOfId(CustomerId.with(aCustomerEntity.getId()));
+
+        // Then
+        assertTrue(actualCustomer.isPresent());
+        assertEquals(expectedCpf, actualCustomer.get().cpf().value());
+    }
+
+    @Test
+    @DisplayName("Deve recusar pela restrição única um CPF que o índice ainda não conhece")
+    public void testCreateWithCpfMissedByTheIndex() throws Exception {
+        // Given
+        final var aCpf = "774.839.010-04";
+        customerJpaRepository.save(CustomerEntity.of(
+                Customer.newCustomer("John Doe", aCpf, "john.doe@gmail.com")));
+
+        final var expectedErrorMessage = "Customer already exists";
+
+        // When
+        final var missedByTheIndex = !uniqueValueIndex.customerCpfs().mightExist(aCpf);
+        final var actualException = assertThrows(ValidationException.class, () -> customerRepository.create(
+                Customer.newCustomer("John Smith", aCpf, "john.smith@gmail.com")));
+
+        // Then
+        assertTrue(missedByTheIndex);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals(1, customerJpaRepository.count());
+    }
+
+    @Test
+    @DisplayName("Não deve criar nenhum cliente do lote quando um deles já existe")
+    public void testCreateAllWithCustomerTaken() throws Exception {
+        // Given
+        customerJpaRepository.save(CustomerEntity.of(
+                Customer.newCustomer("John Doe", "774.839.010-04", "john.doe@gmail.com")));
+
+        final var customers = List.of(
+                Customer.newCustomer("Jane Doe", "926.400.290-10", "jane.doe@gmail.com"),
+                Customer.newCustomer("John Smith", "774.839.010-04", "john.smith@gmail.com"));
+
+        // When
+        final var actualException = assertThrows(ValidationException.class,
+                () -> customerRepository.createAll(customers));
+
+        // Then
+        assertEquals("Customer already exists", actualException.getMessage());
+        assertEquals(1, customerJpaRepository.count());
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.fullcycle.infrastructure.repositories;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.EventTicket;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.partner.Partner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:event_stream_test;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "outbox.relay.initial-delay=3600000",
+        "events.storage=event-sourced",
+        "events.snapshot-interval=2"
+})
+class EventStreamRepositoryIT extends IntegrationTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        jdbcTemplate.update("delete from outbox");
+    }
+
+    @Test
+    @DisplayName("Deve usar o armazenamento por eventos quando configurado")
+    public void testStorageSelected() throws Exception {
+        assertInstanceOf(EventStreamRepository.class, eventRepository);
+    }
+
+    @Test
+    @DisplayName("Deve recuperar um evento criado")
+    public void testCreate() throws Exception {
+        // Given
+        final var expectedEvent = createEvent(10);
+
+        // When
+        final var actualEvent = eventRepository.eventOfId(expectedEvent.eventId()).get();
+
+        // Then
+        assertEquals(expectedEvent.name(), actualEvent.name());
+        assertEquals(expectedEvent.date(), actualEvent.date());
+        assertEquals(expectedEvent.totalSpots(), actualEvent.totalSpots());
+        assertEquals(expectedEvent.partnerId(), actualEvent.partnerId());
+        assertEquals(0, actualEvent.reservedSpots());
+        assertEquals(0, actualEvent.version());
+        assertTrue(actualEvent.allTickets().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir as reservas a partir do último snapshot")
+    public void testReplayFromLatestSnapshot() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        for (int i = 0; i < 5; i++) {
+            final var anEventToReserve = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get();
+            anEventToReserve.reserveTicket(CustomerId.unique());
+            eventRepository.update(anEventToReserve);
+        }
+
+        // When
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId()).get();
+        final var actualEventWithoutTickets = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get();
+
+        // Then
+        assertEquals(5, actualEvent.reservedSpots());
+        assertEquals(5, actualEvent.version());
+        assertEquals(List.of(1, 2, 3, 4, 5), actualEvent.allTickets().stream()
+                .sorted(Comparator.comparingInt(EventTicket::ordering))
+                .map(EventTicket::ordering)
+                .toList());
+        assertEquals(5, actualEventWithoutTickets.reservedSpots());
+        assertEquals(5, actualEventWithoutTickets.version());
+        assertTrue(actualEventWithoutTickets.allTickets().isEmpty());
+
+        assertEquals(5, jdbcTemplate.queryForObject("select count(*) from event_stream", Integer.class));
+        assertEquals(List.of(4L), jdbcTemplate.queryForList("select version from event_snapshots", Long.class));
+        assertEquals(5, jdbcTemplate.queryForObject(
+                "select count(*) from outbox where event_type = 'event-ticket.reserved'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Não deve reservar duas vezes para o mesmo cliente")
+    public void testReserveTwice() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        final var aCustomerId = CustomerId.unique();
+
+        final var anEventToReserve = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get();
+        anEventToReserve.reserveTicket(aCustomerId);
+        eventRepository.update(anEventToReserve);
+
+        final var expectedErrorMessage = "Customer already subscribed to this event";
+
+        // When
+        final var anotherEvent = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get();
+        anotherEvent.reserveTicket(aCustomerId);
+        final var actualException = assertThrows(ValidationException.class, () -> eventRepository.update(anotherEvent));
+
+        // Then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals(1, eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get().reservedSpots());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a reserva feita sobre uma versão desatualizada do evento")
+    public void testReserveOnStaleVersion() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        final var aStaleEvent = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get();
+
+        final var anEventToReserve = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get();
+        anEventToReserve.reserveTicket(CustomerId.unique());
+        eventRepository.update(anEventToReserve);
+
+        // When
+        aStaleEvent.reserveTicket(CustomerId.unique());
+
+        // Then
+        assertThrows(ConcurrencyException.class, () -> eventRepository.update(aStaleEvent));
+        assertEquals(1, eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).get().reservedSpots());
+    }
+
+    private Event createEvent(final int totalSpots) {
+        final var aPartner = Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com");
+        return eventRepository.create(
+                Event.newEvent("Disney on Ice", "2021-01-01", totalSpots, aPartner));
+    }
+}
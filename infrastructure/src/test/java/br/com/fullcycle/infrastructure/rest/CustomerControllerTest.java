@@ -3,6 +3,7 @@ package br.com.fullcycle.infrastructure.rest;
 import br.com.fullcycle.application.customer.CreateCustomerUseCase;
 import br.com.fullcycle.application.customer.GetCustomerByIdUseCase;
 import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.domain.person.Cpf;
 import br.com.fullcycle.infrastructure.dtos.NewCustomerDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Assertions;
@@ -180,4 +181,68 @@ public class CustomerControllerTest {
 
         Assertions.assertEquals(customerId, new String(actualResponse));
     }
+
+    @Test
+    @DisplayName("Deve importar uma lista de clientes em NDJSON")
+    public void testImportNdjson() throws Exception {
+
+        final var body = String.join("\n",
+                mapper.writeValueAsString(NewCustomerDTO.with("John Doe", "946.769.990-70", "john.doe@gmail.com")),
+                "",
+                "{not json",
+                "null",
+                mapper.writeValueAsString(NewCustomerDTO.with("Jane Doe", "774.839.010-04", "jane.doe@gmail.com")));
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.post("/customers/import")
+                                .contentType("application/x-ndjson")
+                                .content(body)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.imported").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.failed").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].row").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].message").value("Malformed row"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[1].row").value(3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[1].message").value("Malformed row"));
+
+        Assertions.assertTrue(customerRepository.customerOfCpf(new Cpf("774.839.010-04")).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve importar uma lista de clientes em CSV")
+    public void testImportCsv() throws Exception {
+
+        final var body = """
+                email,name,cpf
+                john.doe@gmail.com,"Doe, John",946.769.990-70
+                jane.doe@gmail.com,Jane Doe,946.769.990-70
+                """;
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.post("/customers/import")
+                                .contentType("text/csv")
+                                .content(body)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.imported").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].row").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].message").value("Customer already exists"));
+
+        final var actualCustomer = customerRepository.customerOfCpf(new Cpf("946.769.990-70"));
+        Assertions.assertTrue(actualCustomer.isPresent());
+        Assertions.assertEquals("Doe, John", actualCustomer.get().name().value());
+    }
+
+    @Test
+    @DisplayName("Não deve importar um CSV sem as colunas do cliente")
+    public void testImportCsvWithoutHeader() throws Exception {
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.post("/customers/import")
+                                .contentType("text/csv")
+                                .content("john.doe@gmail.com,John Doe,946.769.990-70\n")
+                )
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity());
+    }
 }
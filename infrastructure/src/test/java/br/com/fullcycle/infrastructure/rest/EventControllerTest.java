@@ -114,4 +114,123 @@ class EventControllerTest {
         var actualEvent = eventRepository.eventOfId(EventId.with(eventId)).get();
         Assertions.assertEquals(1, actualEvent.allTickets().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Um mesmo cliente não pode comprar mais de um ticket por evento")
+    public void testReserveTicketMoreThanOnce() throws Exception {
+
+        var event = new NewEventDTO(
+                "Disney on Ice", "2021-01-01", 100,
+                    UUID.fromString(disney.partnerId().value()));
+
+        final var createResult = this.mvc.perform(
+                        MockMvcRequestBuilders.post("/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(event))
+                )
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        var eventId = mapper.readValue(createResult, CreateCustomerUseCase.Output.class).id();
+
+        var sub = SubscribeDTO
+                .with(johnDoe.customerId().value());
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.post("/events/{id}/subscribe", eventId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(sub))
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.post("/events/{id}/subscribe", eventId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(sub))
+                )
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.content().string("Customer already subscribed to this event"));
+
+        var actualEvent = eventRepository.eventOfIdWithoutTickets(EventId.with(eventId)).get();
+        Assertions.assertEquals(1, actualEvent.reservedSpots());
+    }
+
+    @Test
+    @DisplayName("Deve listar os eventos de um parceiro por data, página a página")
+    public void testListEvents() throws Exception {
+
+        for (var date : new String[]{"2021-03-01", "2021-01-01", "2021-02-01"}) {
+            this.mvc.perform(
+                            MockMvcRequestBuilders.post("/events")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(mapper.writeValueAsString(new NewEventDTO(
+                                            "Disney on Ice", date, 100, UUID.fromString(disney.partnerId().value()))))
+                    )
+                    .andExpect(MockMvcResultMatchers.status().isCreated());
+        }
+
+        final var firstPage = this.mvc.perform(
+                        MockMvcRequestBuilders.get("/events")
+                                .param("partnerId", disney.partnerId().value())
+                                .param("available", "true")
+                                .param("limit", "2")
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].date").value("2021-01-01"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].date").value("2021-02-01"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].availableSpots").value(100))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").isString())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        final var cursor = mapper.readTree(firstPage).get("nextCursor").asText();
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.get("/events")
+                                .param("partnerId", disney.partnerId().value())
+                                .param("limit", "2")
+                                .param("after", cursor)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].date").value("2021-03-01"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").doesNotExist());
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.get("/events")
+                                .param("available", "false")
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Deve consultar os lugares disponíveis de um evento")
+    public void testGetAvailability() throws Exception {
+
+        var event = new NewEventDTO("Disney on Ice", "2021-01-01", 100, UUID.fromString(disney.partnerId().value()));
+
+        final var createResult = this.mvc.perform(
+                        MockMvcRequestBuilders.post("/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(event))
+                )
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        var eventId = mapper.readValue(createResult, CreateEventUseCase.Output.class).id();
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.get("/events/{id}/availability", eventId)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.eventId").value(eventId))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalSpots").value(100))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.availableSpots").value(100));
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.get("/events/{id}/availability", EventId.unique().value())
+                )
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.fullcycle.infrastructure.rest;
+
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.ticket.Ticket;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest
+class TicketControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve confirmar o pagamento de um ticket")
+    public void testConfirmPayment() throws Exception {
+
+        final var aTicket = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.post("/tickets/{id}/confirm-payment", aTicket.ticketId().value())
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.ticketId").value(aTicket.ticketId().value()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("PROCESSING"));
+
+        Assertions.assertEquals(
+                TicketStatus.PROCESSING, ticketRepository.ticketOfId(aTicket.ticketId()).get().status());
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.post("/tickets/{id}/confirm-payment", aTicket.ticketId().value())
+                )
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.content().string("Ticket cannot move from PROCESSING to PROCESSING"));
+    }
+
+    @Test
+    @DisplayName("Não deve confirmar o pagamento de um ticket não existente")
+    public void testConfirmPaymentOfUnknownTicket() throws Exception {
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.post("/tickets/{id}/confirm-payment", TicketId.unique().value())
+                )
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.content().string("Ticket not found"));
+    }
+}
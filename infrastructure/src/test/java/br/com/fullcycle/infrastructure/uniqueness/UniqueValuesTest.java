@@ -0,0 +1,60 @@
+package br.com.fullcycle.infrastructure.uniqueness;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UniqueValuesTest {
+
+    @Test
+    @DisplayName("Deve considerar que qualquer valor pode existir antes da primeira reconstrução")
+    public void testEveryValueMightExistBeforeRebuild() throws Exception {
+        // Given
+        final var someValues = new UniqueValues(1_000, 0.01);
+
+        // When
+        final var actualMightExist = someValues.mightExist("john.doe@gmail.com");
+
+        // Then
+        assertTrue(actualMightExist);
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer os valores carregados e adicionados, e descartar quase todos os outros")
+    public void testMightExistAfterRebuild() throws Exception {
+        // Given
+        final var someValues = new UniqueValues(10_000, 0.01);
+        someValues.rebuild(aConsumer -> IntStream.range(0, 5_000).forEach(i -> aConsumer.accept("loaded" + i)));
+        IntStream.range(0, 5_000).forEach(i -> someValues.add("added" + i));
+
+        // When
+        final var actualFalsePositives = IntStream.range(0, 10_000)
+                .filter(i -> someValues.mightExist("absent" + i))
+                .count();
+
+        // Then
+        IntStream.range(0, 5_000).forEach(i -> {
+            assertTrue(someValues.mightExist("loaded" + i));
+            assertTrue(someValues.mightExist("added" + i));
+        });
+        assertTrue(actualFalsePositives < 200, "false positives: " + actualFalsePositives);
+    }
+
+    @Test
+    @DisplayName("Deve manter os valores adicionados durante a reconstrução")
+    public void testAddWhileRebuilding() throws Exception {
+        // Given
+        final var someValues = new UniqueValues(1_000, 0.01);
+        someValues.rebuild(aConsumer -> aConsumer.accept("before"));
+
+        // When
+        someValues.rebuild(aConsumer -> someValues.add("during"));
+
+        // Then
+        assertTrue(someValues.mightExist("during"));
+        assertFalse(someValues.mightExist("before"));
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.fullcycle.infrastructure.usecases;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.application.ticket.CreateTicketForCustomerUseCase;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventTicketId;
+import br.com.fullcycle.domain.event.ticket.Ticket;
+import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.infrastructure.repositories.TicketDatabaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreateTicketForCustomerUseCaseIT extends IntegrationTest {
+
+    @Autowired
+    private CreateTicketForCustomerUseCase useCase;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TicketDatabaseRepository ticketDatabaseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        jdbcTemplate.update("delete from outbox");
+    }
+
+    @Test
+    @DisplayName("Deve emitir um único ticket para uma reserva entregue várias vezes ao mesmo tempo")
+    public void testCreateTicketConcurrently() throws Exception {
+        // Given
+        final var input = new CreateTicketForCustomerUseCase.Input(
+                EventTicketId.unique().value(), EventId.unique().value(), CustomerId.unique().value());
+
+        final Callable<String> delivery = () -> useCase.execute(input).ticketId();
+
+        final var executor = Executors.newFixedThreadPool(16);
+
+        // When
+        final var actualTicketIds = new HashSet<String>();
+        try {
+            for (final var result : executor.invokeAll(IntStream.range(0, 64).mapToObj(i -> delivery).toList())) {
+                actualTicketIds.add(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertEquals(1, actualTicketIds.size());
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from tickets", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from outbox where event_type = 'ticket.created'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Não deve emitir um segundo ticket para a mesma reserva")
+    public void testCreateSecondTicket() throws Exception {
+        // Given
+        final var anEventTicketId = EventTicketId.unique();
+        ticketDatabaseRepository.create(Ticket.newTicket(anEventTicketId, CustomerId.unique(), EventId.unique()));
+
+        final var expectedErrorMessage = "Ticket already exists";
+
+        // When
+        final var actualException = assertThrows(ValidationException.class, () -> ticketDatabaseRepository.create(
+                Ticket.newTicket(anEventTicketId, CustomerId.unique(), EventId.unique())));
+
+        // Then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from tickets", Integer.class));
+    }
+}
@@ -0,0 +1,213 @@
+package br.com.fullcycle.infrastructure.usecases;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.application.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.partner.Partner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubscribeCustomerToEventUseCaseIT extends IntegrationTest {
+
+    @Autowired
+    private SubscribeCustomerToEventUseCase useCase;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        this.eventRepository.deleteAll();
+        this.customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve reservar a partir de uma cópia desatualizada sem perder a reserva concorrente")
+    public void testReserveOnStaleCopy() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        final var aCustomer = createCustomer(1);
+        final var aCustomer2 = createCustomer(2);
+
+        final var aCopy = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).orElseThrow();
+        final var aStaleCopy = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).orElseThrow();
+
+        aCopy.reserveTicket(aCustomer.customerId());
+        eventRepository.update(aCopy);
+
+        aStaleCopy.reserveTicket(aCustomer2.customerId());
+
+        // When
+        eventRepository.update(aStaleCopy);
+
+        // Then
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId()).orElseThrow();
+        assertEquals(2, actualEvent.reservedSpots());
+        assertEquals(2, actualEvent.allTickets().size());
+        assertEquals(anEvent.version(), actualEvent.version());
+    }
+
+    @Test
+    @DisplayName("Não deve vender o último lugar duas vezes a partir de uma cópia desatualizada")
+    public void testReserveLastSpotOnStaleCopy() throws Exception {
+        // Given
+        final var anEvent = createEvent(1);
+        final var aCustomer = createCustomer(1);
+        final var aCustomer2 = createCustomer(2);
+
+        final var aCopy = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).orElseThrow();
+        final var aStaleCopy = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).orElseThrow();
+
+        aCopy.reserveTicket(aCustomer.customerId());
+        eventRepository.update(aCopy);
+
+        aStaleCopy.reserveTicket(aCustomer2.customerId());
+
+        final var expectedErrorMessage = "Event sold out";
+
+        // When
+        Executable invalidMethodCall = () -> eventRepository.update(aStaleCopy);
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class, invalidMethodCall);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId()).orElseThrow();
+        assertEquals(1, actualEvent.reservedSpots());
+        assertEquals(1, actualEvent.allTickets().size());
+    }
+
+    @Test
+    @DisplayName("Não deve reservar duas vezes para o mesmo cliente a partir de uma cópia desatualizada")
+    public void testReserveTwiceOnStaleCopy() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        final var aCustomer = createCustomer(1);
+
+        final var aCopy = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).orElseThrow();
+        final var aStaleCopy = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).orElseThrow();
+
+        aCopy.reserveTicket(aCustomer.customerId());
+        eventRepository.update(aCopy);
+
+        aStaleCopy.reserveTicket(aCustomer.customerId());
+
+        final var expectedErrorMessage = "Customer already subscribed to this event";
+
+        // When
+        Executable invalidMethodCall = () -> eventRepository.update(aStaleCopy);
+
+        // Then
+        final var actualException = assertThrows(ValidationException.class, invalidMethodCall);
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId()).orElseThrow();
+        assertEquals(1, actualEvent.reservedSpots());
+        assertEquals(1, actualEvent.allTickets().size());
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever o contador de reservas ao salvar uma cópia desatualizada")
+    public void testSaveStaleCopy() throws Exception {
+        // Given
+        final var anEvent = createEvent(10);
+        final var aCustomer = createCustomer(1);
+
+        final var aStaleCopy = eventRepository.eventOfId(anEvent.eventId()).orElseThrow();
+
+        final var aCopy = eventRepository.eventOfIdWithoutTickets(anEvent.eventId()).orElseThrow();
+        aCopy.reserveTicket(aCustomer.customerId());
+        eventRepository.update(aCopy);
+
+        // When
+        eventRepository.update(aStaleCopy);
+
+        // Then
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId()).orElseThrow();
+        assertEquals(1, actualEvent.reservedSpots());
+        assertEquals(1, actualEvent.allTickets().size());
+    }
+
+    @Test
+    @DisplayName("Não deve vender mais lugares do que o total sob concorrência")
+    public void testSubscribeConcurrently() throws Exception {
+        // Given
+        final var expectedTotalSpots = 8;
+        final var anEvent = createEvent(expectedTotalSpots);
+
+        final var subscriptions = IntStream.range(0, 32)
+                .mapToObj(this::createCustomer)
+                .<Callable<Boolean>>map(aCustomer -> () -> {
+                    try {
+                        useCase.execute(SubscribeCustomerToEventUseCase.Input
+                                .with(anEvent.eventId().value(), aCustomer.customerId().value()));
+                        return true;
+                    } catch (ValidationException | ConcurrencyException e) {
+                        return false;
+                    }
+                })
+                .toList();
+
+        final var executor = Executors.newFixedThreadPool(16);
+
+        // When
+        var actualSubscribed = 0;
+        try {
+            for (final var result : executor.invokeAll(subscriptions)) {
+                actualSubscribed += result.get() ? 1 : 0;
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId()).orElseThrow();
+        assertEquals(expectedTotalSpots, actualSubscribed);
+        assertEquals(actualSubscribed, actualEvent.reservedSpots());
+        assertEquals(actualSubscribed, actualEvent.allTickets().size());
+    }
+
+    private Event createEvent(final int totalSpots) {
+        final var aPartner = Partner.newPartner("Disney", "92.759.544/0001-50", "disney@gmail.com");
+        return eventRepository.create(
+                Event.newEvent("Disney on Ice", "2021-01-01", totalSpots, aPartner));
+    }
+
+    private Customer createCustomer(final int anIndex) {
+        return customerRepository.create(Customer.newCustomer(
+                "John Doe", cpf(anIndex), "john.doe%d@gmail.com".formatted(anIndex)));
+    }
+
+    private static String cpf(final int anIndex) {
+        final var digits = "100000%03d".formatted(anIndex);
+        final var first = checkDigit(digits);
+        final var second = checkDigit(digits + first);
+        return "%s.%s.%s-%d%d".formatted(digits.substring(0, 3), digits.substring(3, 6), digits.substring(6), first, second);
+    }
+
+    private static int checkDigit(final String digits) {
+        var sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            sum += (digits.charAt(i) - '0') * (digits.length() + 1 - i);
+        }
+        final var digit = 11 - sum % 11;
+        return digit >= 10 ? 0 : digit;
+    }
+}
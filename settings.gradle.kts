@@ -2,3 +2,4 @@ rootProject.name = "mba-hexagonal-arch"
 include("domain")
 include("application")
 include("infrastructure")
+include("benchmarks")